@@ -0,0 +1,196 @@
+package com.example.hrapp.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.h2.jdbcx.JdbcDataSource;
+import org.mybatis.spring.SqlSessionTemplate;
+
+import com.example.hrapp.mapper.EmployeeMapper;
+import com.example.hrapp.model.Employee;
+
+/**
+ * ベンチマーク用のH2インメモリDB。
+ *
+ * <p>
+ * テスト用スキーマ（schema.sql）に指定件数の従業員データを生成し、 アプリケーションと同じMapper XMLでSqlSessionFactoryを構築します。
+ */
+public final class BenchmarkDatabase {
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    private static final String[] FIRST_NAMES = { "John", "Jane", "Mike", "Emily", "David", "Sarah", "Taro",
+            "Hanako", "Kenji", "Yuki" };
+
+    private static final String[] LAST_NAMES = { "Doe", "Smith", "Johnson", "Brown", "Wilson", "Suzuki",
+            "Tanaka", "Sato", "Takahashi", "Ito" };
+
+    private static final String[] JOB_IDS = { "IT_PROG", "SA_REP", "HR_REP", "FI_ACCOUNT", "ST_CLERK" };
+
+    private final DataSource dataSource;
+
+    private final SqlSessionFactory sqlSessionFactory;
+
+    private BenchmarkDatabase(DataSource dataSource, SqlSessionFactory sqlSessionFactory) {
+        this.dataSource = dataSource;
+        this.sqlSessionFactory = sqlSessionFactory;
+    }
+
+    /**
+     * 指定件数の従業員データを持つDBを新規作成します。
+     *
+     * @param rows
+     *            生成する従業員件数
+     * @return ベンチマーク用DB
+     */
+    public static BenchmarkDatabase create(int rows) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:bench" + SEQUENCE.incrementAndGet() + ";DB_CLOSE_DELAY=-1");
+        try {
+            runScript(dataSource, "schema.sql");
+            insertEmployees(dataSource, rows);
+        } catch (SQLException e) {
+            throw new IllegalStateException("ベンチマーク用DBの初期化に失敗しました", e);
+        }
+        return new BenchmarkDatabase(dataSource, buildSqlSessionFactory(dataSource));
+    }
+
+    /**
+     * 指定件数の従業員データをメモリ上に生成します（DBに登録する内容と同じ）。
+     *
+     * @param rows
+     *            生成する従業員件数
+     * @return 従業員リスト（ID順）
+     */
+    public static List<Employee> generateEmployees(int rows) {
+        Random random = new Random(rows);
+        List<Employee> employees = new ArrayList<>(rows);
+        for (int id = 1; id <= rows; id++) {
+            employees.add(generateEmployee(random, id));
+        }
+        return employees;
+    }
+
+    /**
+     * @return データソース
+     */
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    /**
+     * @return MyBatisのSqlSessionFactory
+     */
+    public SqlSessionFactory getSqlSessionFactory() {
+        return sqlSessionFactory;
+    }
+
+    /**
+     * スレッドセーフなMapper（呼び出しごとにSqlSessionを開閉）を返します。
+     *
+     * @return 従業員Mapper
+     */
+    public EmployeeMapper mapper() {
+        return new SqlSessionTemplate(sqlSessionFactory).getMapper(EmployeeMapper.class);
+    }
+
+    /**
+     * ベンチマーク専用のMapper XMLを追加で読み込みます。
+     *
+     * @param resource
+     *            クラスパス上のMapper XML
+     */
+    public void addMapperXml(String resource) {
+        parseMapperXml(sqlSessionFactory.getConfiguration(), resource);
+    }
+
+    private static SqlSessionFactory buildSqlSessionFactory(DataSource dataSource) {
+        Configuration configuration = new Configuration(
+                new Environment("benchmark", new JdbcTransactionFactory(), dataSource));
+        configuration.getTypeAliasRegistry().registerAliases("com.example.hrapp.model");
+        parseMapperXml(configuration, "mybatis/EmployeeMapper.xml");
+        return new SqlSessionFactoryBuilder().build(configuration);
+    }
+
+    private static void parseMapperXml(Configuration configuration, String resource) {
+        try (InputStream in = Resources.getResourceAsStream(resource)) {
+            new XMLMapperBuilder(in, configuration, resource, configuration.getSqlFragments()).parse();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void runScript(DataSource dataSource, String resource) throws SQLException {
+        String script;
+        try (InputStream in = Resources.getResourceAsStream(resource)) {
+            script = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            for (String sql : script.split(";")) {
+                if (!sql.isBlank()) {
+                    statement.execute(sql);
+                }
+            }
+        }
+    }
+
+    private static void insertEmployees(DataSource dataSource, int rows) throws SQLException {
+        String sql = "INSERT INTO employees (employee_id, first_name, last_name, email, phone_number, job_id,"
+                + " salary, department_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement ps = connection.prepareStatement(sql)) {
+            // 数百万件でもメモリに載せないよう、generateEmployees と同じ乱数列で1件ずつ生成する
+            Random random = new Random(rows);
+            for (int id = 1; id <= rows; id++) {
+                Employee employee = generateEmployee(random, id);
+                ps.setInt(1, employee.getEmployeeId());
+                ps.setString(2, employee.getFirstName());
+                ps.setString(3, employee.getLastName());
+                ps.setString(4, employee.getEmail());
+                ps.setString(5, employee.getPhoneNumber());
+                ps.setString(6, employee.getJobId());
+                ps.setBigDecimal(7, employee.getSalary());
+                ps.setInt(8, employee.getDepartmentId());
+                ps.addBatch();
+                if (id % 1000 == 0) {
+                    ps.executeBatch();
+                }
+            }
+            ps.executeBatch();
+        }
+    }
+
+    private static Employee generateEmployee(Random random, int id) {
+        Employee employee = new Employee();
+        employee.setEmployeeId(id);
+        employee.setFirstName(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)]);
+        employee.setLastName(LAST_NAMES[random.nextInt(LAST_NAMES.length)] + (id % 97));
+        employee.setEmail("user" + id + "@example.com");
+        employee.setPhoneNumber(String.format("555-%03d-%04d", id % 1000, id % 10000));
+        employee.setJobId(JOB_IDS[random.nextInt(JOB_IDS.length)]);
+        employee.setSalary(BigDecimal.valueOf(3_000_000 + random.nextInt(7_000_000), 2));
+        employee.setDepartmentId(10 * (1 + random.nextInt(12)));
+        return employee;
+    }
+}
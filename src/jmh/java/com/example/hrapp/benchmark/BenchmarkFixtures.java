@@ -0,0 +1,75 @@
+package com.example.hrapp.benchmark;
+
+import org.springframework.transaction.support.TransactionOperations;
+
+import com.example.hrapp.config.HrProperties;
+import com.example.hrapp.controller.EmployeeController;
+import com.example.hrapp.mapper.EmployeeMapper;
+import com.example.hrapp.service.EmployeeCache;
+import com.example.hrapp.service.EmployeeNameIndex;
+import com.example.hrapp.service.EmployeeRangeReader;
+import com.example.hrapp.service.EmployeeService;
+import com.example.hrapp.service.EmployeeSnapshot;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Springコンテキストを起動せずに、アプリケーションと同じ構成のService・Controllerを組み立てます。
+ */
+public final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * 既定設定（キャッシュ・名前索引あり）のServiceを生成します。
+     *
+     * @param mapper
+     *            従業員Mapper
+     * @return 従業員Service
+     */
+    public static EmployeeService service(EmployeeMapper mapper) {
+        HrProperties properties = new HrProperties();
+        EmployeeNameIndex nameIndex = new EmployeeNameIndex(mapper, properties);
+        nameIndex.rebuild();
+        return new EmployeeService(mapper, new EmployeeCache(mapper, properties, new SimpleMeterRegistry()),
+                nameIndex, snapshot(mapper, properties), new EmployeeRangeReader(mapper, properties, null),
+                properties, TransactionOperations.withoutTransaction());
+    }
+
+    /**
+     * 読み取りレプリカモード（スナップショット構築済み）のServiceを生成します。
+     *
+     * @param mapper
+     *            従業員Mapper
+     * @return 従業員Service
+     */
+    public static EmployeeService snapshotService(EmployeeMapper mapper) {
+        HrProperties properties = new HrProperties();
+        properties.getSnapshot().setEnabled(true);
+        properties.getSearch().setIndexEnabled(false);
+        EmployeeSnapshot snapshot = snapshot(mapper, properties);
+        snapshot.rebuild();
+        return new EmployeeService(mapper, new EmployeeCache(mapper, properties, new SimpleMeterRegistry()),
+                new EmployeeNameIndex(mapper, properties), snapshot,
+                new EmployeeRangeReader(mapper, properties, null), properties,
+                TransactionOperations.withoutTransaction());
+    }
+
+    private static EmployeeSnapshot snapshot(EmployeeMapper mapper, HrProperties properties) {
+        return new EmployeeSnapshot(mapper, TransactionOperations.withoutTransaction(), properties,
+                new SimpleMeterRegistry());
+    }
+
+    /**
+     * 既定設定のServiceを利用するControllerを生成します。
+     *
+     * @param mapper
+     *            従業員Mapper
+     * @return 従業員Controller
+     */
+    public static EmployeeController controller(EmployeeMapper mapper) {
+        return new EmployeeController(service(mapper), new ObjectMapper());
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.hrapp.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.hrapp.model.Employee;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+/**
+ * レスポンスのgzip圧縮にかかるCPU時間と削減できるバイト数を、件数・圧縮レベル別に比較します。
+ *
+ * <p>
+ * Tomcatの圧縮と同じく、Jacksonの出力をそのままgzipストリームへ書き出す時間を計測します（{@code level=0} は圧縮なし）。
+ * Tomcatの圧縮レベルは {@link Deflater#DEFAULT_COMPRESSION}（6相当）です。 サイズはセットアップ時に {@code [compression]}
+ * として標準出力に表示します。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CompressionBenchmark {
+
+    /** 1件（GET /employees/{id}）・検索結果・ページ・全件相当 */
+    @Param({ "1", "10", "100", "1000", "100000" })
+    private int rows;
+
+    @Param({ "0", "1", "6" })
+    private int level;
+
+    @Param({ "json", "cbor" })
+    private String format;
+
+    private ObjectMapper objectMapper;
+
+    private List<Employee> employees;
+
+    private ByteArrayOutputStream buffer;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = "cbor".equals(format) ? new ObjectMapper(new CBORFactory()) : new ObjectMapper();
+        employees = BenchmarkDatabase.generateEmployees(rows);
+        int raw = objectMapper.writeValueAsBytes(employees).length;
+        buffer = new ByteArrayOutputStream(raw + 1024);
+        int compressed = encode().size();
+        System.out.printf("[compression] rows=%d format=%s level=%d bytes=%d -> %d (saved %.1f%%, %d bytes)%n", rows,
+                format, level, raw, compressed, 100.0 * (raw - compressed) / raw, raw - compressed);
+    }
+
+    @Benchmark
+    public ByteArrayOutputStream encode() throws IOException {
+        buffer.reset();
+        if (level == 0) {
+            objectMapper.writeValue(buffer, employees);
+            return buffer;
+        }
+        try (OutputStream out = new LevelGzipOutputStream(buffer, level)) {
+            objectMapper.writeValue(out, employees);
+        }
+        return buffer;
+    }
+
+    /** 圧縮レベルを指定できるgzipストリーム */
+    private static final class LevelGzipOutputStream extends GZIPOutputStream {
+        LevelGzipOutputStream(OutputStream out, int level) throws IOException {
+            super(out);
+            def.setLevel(level);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.hrapp.benchmark;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+/**
+ * EmployeeControllerのエンドポイントをMockMvc経由で呼び出し、 リクエスト処理～DB検索～JSON出力までの性能を計測します。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmployeeControllerBenchmark {
+
+    @Param({ "1000", "10000" })
+    private int rows;
+
+    private MockMvc mockMvc;
+
+    @Setup
+    public void setUp() {
+        BenchmarkDatabase database = BenchmarkDatabase.create(rows);
+        mockMvc = MockMvcBuilders.standaloneSetup(BenchmarkFixtures.controller(database.mapper())).build();
+    }
+
+    @Benchmark
+    public String getAll() throws Exception {
+        return mockMvc.perform(get("/employees")).andReturn().getResponse().getContentAsString();
+    }
+
+    @Benchmark
+    public String getById() throws Exception {
+        return mockMvc.perform(get("/employees/{id}", rows / 2)).andReturn().getResponse().getContentAsString();
+    }
+
+    @Benchmark
+    public String getByName() throws Exception {
+        return mockMvc.perform(get("/employees/search").param("name", "Tanaka1"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.hrapp.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.hrapp.model.Employee;
+import com.example.hrapp.model.EmployeeJsonSerializer;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * {@code List<Employee>} のJacksonシリアライズ性能を件数別に計測します。
+ *
+ * <p>
+ * {@code serializer=bean} はJackson標準のBeanシリアライザー、{@code direct} はアプリケーションと同じ
+ * {@link EmployeeJsonSerializer} です。 1件あたりの割り当て量は {@code gc.alloc.rate.norm} を件数で割って求めます
+ * （{@code writeToBuffer} は出力先を再利用するため、結果のbyte配列の分を含みません）。 rows/sec は件数を1回あたりの時間で割った値です。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmployeeJsonBenchmark {
+
+    @Param({ "10", "1000", "100000" })
+    private int rows;
+
+    @Param({ "bean", "direct" })
+    private String serializer;
+
+    private ObjectMapper objectMapper;
+
+    private List<Employee> employees;
+
+    private ByteArrayOutputStream buffer;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = new ObjectMapper();
+        if ("direct".equals(serializer)) {
+            objectMapper.registerModule(EmployeeJsonSerializer.module());
+        }
+        employees = BenchmarkDatabase.generateEmployees(rows);
+        buffer = new ByteArrayOutputStream(objectMapper.writeValueAsBytes(employees).length);
+    }
+
+    @Benchmark
+    public byte[] serializeList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(employees);
+    }
+
+    @Benchmark
+    public ByteArrayOutputStream writeToBuffer() throws IOException {
+        buffer.reset();
+        objectMapper.writeValue(buffer, employees);
+        return buffer;
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.hrapp.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.ibatis.session.SqlSession;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.hrapp.mapper.EmployeeMapper;
+import com.example.hrapp.model.Employee;
+
+/**
+ * 大量行のマッピングにおける、コンストラクタでの1件ごとのINFOログ出力の有無による 処理時間・割り当て量（{@code -prof gc}）の差を計測します。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class EmployeeLoggingBenchmark {
+
+    @Param({ "10000", "100000" })
+    private int rows;
+
+    private BenchmarkDatabase database;
+
+    @Setup
+    public void setUp() {
+        database = BenchmarkDatabase.create(rows);
+        database.addMapperXml("mybatis/benchmark/LegacyEmployeeMapper.xml");
+    }
+
+    /** 現行：エンティティ生成時にログを出力しない */
+    @Benchmark
+    public List<Employee> mapWithoutEntityLogging() {
+        try (SqlSession session = database.getSqlSessionFactory().openSession()) {
+            return session.getMapper(EmployeeMapper.class).findAll();
+        }
+    }
+
+    /** 旧来：エンティティ生成ごとにtoString()とINFOログ出力を行う */
+    @Benchmark
+    public List<LegacyLoggingEmployee> mapWithPerInstanceLogging() {
+        try (SqlSession session = database.getSqlSessionFactory().openSession()) {
+            return session.getMapper(LegacyEmployeeMapper.class).findAll();
+        }
+    }
+}
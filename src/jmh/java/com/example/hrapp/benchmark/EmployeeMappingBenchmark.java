@@ -0,0 +1,57 @@
+package com.example.hrapp.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.ibatis.session.SqlSession;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.hrapp.mapper.EmployeeMapper;
+import com.example.hrapp.model.Employee;
+
+/**
+ * H2上の生成データに対するMyBatisのSQL実行・結果マッピング性能を計測します。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmployeeMappingBenchmark {
+
+    @Param({ "1000", "100000" })
+    private int rows;
+
+    private BenchmarkDatabase database;
+
+    @Setup
+    public void setUp() {
+        database = BenchmarkDatabase.create(rows);
+    }
+
+    @Benchmark
+    public List<Employee> findAll() {
+        try (SqlSession session = database.getSqlSessionFactory().openSession()) {
+            return session.getMapper(EmployeeMapper.class).findAll();
+        }
+    }
+
+    @Benchmark
+    public Employee findById() {
+        try (SqlSession session = database.getSqlSessionFactory().openSession()) {
+            return session.getMapper(EmployeeMapper.class).findById(rows / 2);
+        }
+    }
+
+    @Benchmark
+    public List<Employee> selectByName() {
+        try (SqlSession session = database.getSqlSessionFactory().openSession()) {
+            return session.getMapper(EmployeeMapper.class).selectByName("Tanaka1");
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.hrapp.benchmark;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.ibatis.session.SqlSession;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import com.example.hrapp.config.TimedJackson2HttpMessageConverter;
+import com.example.hrapp.mapper.EmployeeMapper;
+import com.example.hrapp.model.Employee;
+import com.example.hrapp.mybatis.StatementMetricsInterceptor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 処理時間計測（{@code hr.metrics.enabled}）の有無による、Mapper実行とJSON書き出しの性能差を計測します。
+ *
+ * <p>
+ * {@code instrumented=true} では {@link StatementMetricsInterceptor}・{@link TimedJackson2HttpMessageConverter}
+ * を本番と同じくパーセンタイル付きで登録します。 1件取得（findById）が計測の相対的な負荷が最も大きいケースです。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class InstrumentationOverheadBenchmark {
+
+    @Param({ "false", "true" })
+    private boolean instrumented;
+
+    private BenchmarkDatabase database;
+
+    private MappingJackson2HttpMessageConverter converter;
+
+    private List<Employee> employees;
+
+    @Setup
+    public void setUp() {
+        database = BenchmarkDatabase.create(1000);
+        employees = BenchmarkDatabase.generateEmployees(1000);
+        if (instrumented) {
+            SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+            database.getSqlSessionFactory().getConfiguration()
+                    .addInterceptor(new StatementMetricsInterceptor(meterRegistry, Duration.ofSeconds(1)));
+            converter = new TimedJackson2HttpMessageConverter(new ObjectMapper(), meterRegistry);
+        } else {
+            converter = new MappingJackson2HttpMessageConverter(new ObjectMapper());
+        }
+    }
+
+    @Benchmark
+    public Employee findById() {
+        try (SqlSession session = database.getSqlSessionFactory().openSession()) {
+            return session.getMapper(EmployeeMapper.class).findById(500);
+        }
+    }
+
+    @Benchmark
+    public List<Employee> findAll() {
+        try (SqlSession session = database.getSqlSessionFactory().openSession()) {
+            return session.getMapper(EmployeeMapper.class).findAll();
+        }
+    }
+
+    @Benchmark
+    public MockHttpOutputMessage writeJson() throws IOException {
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+        converter.write(employees, MediaType.APPLICATION_JSON, message);
+        return message;
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.hrapp.benchmark;
+
+import java.util.List;
+
+/**
+ * 比較用：{@link LegacyLoggingEmployee} へマッピングする全件取得Mapper。
+ */
+public interface LegacyEmployeeMapper {
+    List<LegacyLoggingEmployee> findAll();
+}
@@ -0,0 +1,17 @@
+package com.example.hrapp.benchmark;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.example.hrapp.model.Employee;
+
+/**
+ * 比較用：コンストラクタで1件ごとにINFOログを出力していた旧来のEmployee。
+ */
+public class LegacyLoggingEmployee extends Employee {
+    private static final Logger log = LoggerFactory.getLogger(Employee.class);
+
+    public LegacyLoggingEmployee() {
+        log.info("Employeeインスタンス生成: {}", this);
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.hrapp.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.SqlSession;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.example.hrapp.config.HrProperties;
+import com.example.hrapp.mapper.EmployeeMapper;
+import com.example.hrapp.model.Employee;
+import com.example.hrapp.service.EmployeeRangeReader;
+
+/**
+ * 全件読み込み（エクスポート）の所要時間を、従業員IDの範囲ごとの並列読み込みの同時実行数別に計測します。
+ *
+ * <p>
+ * {@code parallel} は {@link EmployeeRangeReader}（{@code range-size=50000}）、{@code serialCursor} は従来の
+ * 1回のSQL（{@code findAllCursor}）です（{@code parallelism} によらず同じ処理）。 rows/sec は件数を1回あたりの時間で割った値です。
+ * H2は同じJVM内で動くため、CPUコア数で頭打ちになります。 OracleではDBとの往復・DB側の読み込みが並列化される分、より大きく変わります。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(jvmArgsAppend = "-Xmx4g")
+public class ParallelReadBenchmark {
+
+    @Param({ "1000000", "2000000" })
+    private int rows;
+
+    @Param({ "1", "2", "4", "8" })
+    private int parallelism;
+
+    private BenchmarkDatabase database;
+
+    private EmployeeRangeReader reader;
+
+    @Setup
+    public void setUp() {
+        database = BenchmarkDatabase.create(rows);
+        HrProperties properties = new HrProperties();
+        properties.getParallelRead().setEnabled(true);
+        properties.getParallelRead().setParallelism(parallelism);
+        reader = new EmployeeRangeReader(database.mapper(), properties, database.getDataSource());
+    }
+
+    @TearDown
+    public void tearDown() {
+        reader.shutdown();
+    }
+
+    @Benchmark
+    public long parallel(Blackhole blackhole) {
+        return reader.read(blackhole::consume);
+    }
+
+    @Benchmark
+    public long serialCursor(Blackhole blackhole) throws IOException {
+        long count = 0;
+        try (SqlSession session = database.getSqlSessionFactory().openSession();
+                Cursor<Employee> cursor = session.getMapper(EmployeeMapper.class).findAllCursor()) {
+            for (Employee employee : cursor) {
+                blackhole.consume(employee);
+                count++;
+            }
+        }
+        return count;
+    }
+}
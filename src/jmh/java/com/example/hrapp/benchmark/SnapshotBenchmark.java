@@ -0,0 +1,104 @@
+package com.example.hrapp.benchmark;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.hrapp.model.Employee;
+import com.example.hrapp.service.EmployeeColumns;
+import com.example.hrapp.service.EmployeeService;
+
+/**
+ * 読み取りレプリカモード（{@code hr.snapshot.enabled=true}）と既定構成（キャッシュ・名前索引・DB）の
+ * 全件取得・ID検索・名前検索のスループットを比較します。
+ *
+ * <p>
+ * 1件あたりのメモリ使用量（{@code List<Employee>} と {@link EmployeeColumns} のGC後のヒープ増加量・概算値）は
+ * セットアップ時に {@code [snapshot]} として標準出力に表示します。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SnapshotBenchmark {
+
+    @Param({ "1000", "100000" })
+    private int rows;
+
+    private EmployeeService snapshotService;
+
+    private EmployeeService defaultService;
+
+    @Setup
+    public void setUp() {
+        printMemoryPerRow();
+        BenchmarkDatabase database = BenchmarkDatabase.create(rows);
+        snapshotService = BenchmarkFixtures.snapshotService(database.mapper());
+        defaultService = BenchmarkFixtures.service(database.mapper());
+    }
+
+    @Benchmark
+    public Employee getByIdSnapshot() {
+        return snapshotService.getById(randomId());
+    }
+
+    /** 全IDがキャッシュに載った後はキャッシュから返す */
+    @Benchmark
+    public Employee getByIdCache() {
+        return defaultService.getById(randomId());
+    }
+
+    @Benchmark
+    public List<Employee> getAllSnapshot() {
+        return snapshotService.getAll();
+    }
+
+    @Benchmark
+    public List<Employee> getAllDb() {
+        return defaultService.getAll();
+    }
+
+    @Benchmark
+    public List<Employee> getByNameSnapshot() {
+        return snapshotService.getByName("Tanaka1");
+    }
+
+    @Benchmark
+    public List<Employee> getByNameIndex() {
+        return defaultService.getByName("Tanaka1");
+    }
+
+    private int randomId() {
+        return 1 + ThreadLocalRandom.current().nextInt(rows);
+    }
+
+    private void printMemoryPerRow() {
+        long base = usedHeap();
+        List<Employee> employees = BenchmarkDatabase.generateEmployees(rows);
+        long listBytes = usedHeap() - base;
+        EmployeeColumns columns = EmployeeColumns.of(employees);
+        long columnsBytes = usedHeap() - base - listBytes;
+        System.out.printf("[snapshot] rows=%d list=%d bytes/row columns=%d bytes/row (estimated %d bytes/row)%n", rows,
+                listBytes / rows, columnsBytes / rows, columns.estimatedBytes() / rows);
+        // GC後の計測まで到達可能にしておく
+        if (employees.size() != columns.size()) {
+            throw new IllegalStateException("row count mismatch");
+        }
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
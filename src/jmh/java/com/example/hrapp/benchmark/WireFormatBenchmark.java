@@ -0,0 +1,65 @@
+package com.example.hrapp.benchmark;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.hrapp.model.Employee;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+/**
+ * {@code List<Employee>} のJSONとCBORのエンコード・デコード性能とサイズを比較します。
+ *
+ * <p>
+ * サイズはセットアップ時に {@code [wire-format]} として標準出力に表示します。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class WireFormatBenchmark {
+
+    private static final TypeReference<List<Employee>> EMPLOYEE_LIST = new TypeReference<>() {
+    };
+
+    @Param({ "1000", "100000" })
+    private int rows;
+
+    @Param({ "json", "cbor" })
+    private String format;
+
+    private ObjectMapper objectMapper;
+
+    private List<Employee> employees;
+
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = "cbor".equals(format) ? new ObjectMapper(new CBORFactory()) : new ObjectMapper();
+        employees = BenchmarkDatabase.generateEmployees(rows);
+        encoded = objectMapper.writeValueAsBytes(employees);
+        System.out.printf("[wire-format] rows=%d format=%s bytes=%d (%.1f bytes/row)%n", rows, format,
+                encoded.length, (double) encoded.length / rows);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return objectMapper.writeValueAsBytes(employees);
+    }
+
+    @Benchmark
+    public List<Employee> decode() throws IOException {
+        return objectMapper.readValue(encoded, EMPLOYEE_LIST);
+    }
+}
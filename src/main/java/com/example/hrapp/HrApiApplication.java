@@ -2,10 +2,20 @@ package com.example.hrapp;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
+@EnableScheduling
 public class HrApiApplication {
+    /** 起動処理の記録件数（/actuator/startup で参照） */
+    private static final int STARTUP_STEPS = 4096;
+
     public static void main(String[] args) {
-        SpringApplication.run(HrApiApplication.class, args);
+        SpringApplication application = new SpringApplication(HrApiApplication.class);
+        application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEPS));
+        application.run(args);
     }
 }
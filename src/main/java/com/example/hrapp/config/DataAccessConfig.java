@@ -0,0 +1,172 @@
+package com.example.hrapp.config;
+
+import java.util.Properties;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.mapping.DatabaseIdProvider;
+import org.apache.ibatis.mapping.VendorDatabaseIdProvider;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+import com.example.hrapp.jdbc.ConnectionLimitDataSource;
+import com.example.hrapp.mybatis.StatementMetricsInterceptor;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * DBアクセス（MyBatis）まわりの追加設定。
+ *
+ * <p>
+ * ここで定義した {@link org.apache.ibatis.plugin.Interceptor} はMyBatisの自動設定により登録されます。
+ */
+@Configuration(proxyBeanMethods = false)
+public class DataAccessConfig {
+    /** プールサイズを取得できない場合の同時に取得できる接続数の上限 */
+    public static final int DEFAULT_LIMIT = 10;
+
+    /** OracleのJDBC URLの接頭辞 */
+    private static final String ORACLE_URL_PREFIX = "jdbc:oracle:";
+
+    /**
+     * 接続先DBの製品名からMyBatisの {@code databaseId}（{@code oracle}・{@code h2}）を決定します。
+     *
+     * <p>
+     * DBごとに構文が異なるSQL（MERGE等）は、Mapper XMLで {@code databaseId} 付きの文を定義します。
+     *
+     * @return databaseIdの決定方法
+     */
+    @Bean
+    public DatabaseIdProvider databaseIdProvider() {
+        Properties vendors = new Properties();
+        vendors.setProperty("Oracle", "oracle");
+        vendors.setProperty("H2", "h2");
+        VendorDatabaseIdProvider provider = new VendorDatabaseIdProvider();
+        provider.setProperties(vendors);
+        return provider;
+    }
+
+    /**
+     * 接続先がOracleの場合のみ、{@code hr.datasource.oracle-properties} をJDBC接続プロパティに追加します。
+     *
+     * <p>
+     * {@code spring.datasource.hikari.data-source-properties} に書くとH2等では未知の設定としてエラーになるため、
+     * 同じプロファイル（{@code perf}）をOracleとH2の両方で使えるようにURLで判定します。 接続はプールの初回使用時に作られるため、
+     * データソースの初期化後に追加しても全接続に反映されます。
+     *
+     * @param properties
+     *            アプリケーション設定
+     * @return データソースの後処理
+     */
+    @Bean
+    public static BeanPostProcessor oracleDataSourcePropertiesPostProcessor(ObjectProvider<HrProperties> properties) {
+        return new OracleDataSourcePropertiesPostProcessor(properties);
+    }
+
+    /**
+     * 同時に取得できる接続数をコネクションプールのサイズ以下に制限します（{@code hr.db-limiter.enabled=true} の場合）。
+     *
+     * <p>
+     * 許可は接続の取得から返却まで保持するため、トランザクション・Cursorで接続を使っている間も上限に含まれます。
+     *
+     * @param properties
+     *            アプリケーション設定
+     * @param meterRegistry
+     *            メトリクス登録先
+     * @return データソースの後処理
+     */
+    @Bean
+    @ConditionalOnProperty(name = "hr.db-limiter.enabled", havingValue = "true")
+    public static BeanPostProcessor connectionLimitPostProcessor(ObjectProvider<HrProperties> properties,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        return new ConnectionLimitPostProcessor(properties, meterRegistry);
+    }
+
+    /**
+     * Mapperの文ごとの実行時間・件数を計測し、遅い文をログ出力します（{@code hr.metrics.enabled=true} の場合）。
+     *
+     * <p>
+     * 先に登録したプラグインほど内側で実行されるため、最優先で登録して他のプラグインの処理時間を計測に含めません。
+     *
+     * @param properties
+     *            アプリケーション設定
+     * @param meterRegistry
+     *            メトリクス登録先
+     * @return 実行時間計測プラグイン
+     */
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @ConditionalOnProperty(name = "hr.metrics.enabled", havingValue = "true", matchIfMissing = true)
+    public StatementMetricsInterceptor statementMetricsInterceptor(HrProperties properties,
+            MeterRegistry meterRegistry) {
+        return new StatementMetricsInterceptor(meterRegistry, properties.getMetrics().getSlowQueryThreshold());
+    }
+
+    /**
+     * OracleのHikariデータソースにJDBC接続プロパティを追加する後処理。
+     *
+     * <p>
+     * 接続数制限（{@link ConnectionLimitPostProcessor}）で包む前のデータソースに適用するため、先に実行します。
+     */
+    static final class OracleDataSourcePropertiesPostProcessor implements BeanPostProcessor, Ordered {
+        private final ObjectProvider<HrProperties> properties;
+
+        OracleDataSourcePropertiesPostProcessor(ObjectProvider<HrProperties> properties) {
+            this.properties = properties;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof HikariDataSource hikari && hikari.getJdbcUrl() != null
+                    && hikari.getJdbcUrl().startsWith(ORACLE_URL_PREFIX)) {
+                properties.getObject().getDatasource().getOracleProperties().forEach(hikari::addDataSourceProperty);
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+
+    /**
+     * データソースを {@link ConnectionLimitDataSource} で包む後処理。
+     */
+    static final class ConnectionLimitPostProcessor implements BeanPostProcessor, Ordered {
+        private final ObjectProvider<HrProperties> properties;
+
+        private final ObjectProvider<MeterRegistry> meterRegistry;
+
+        ConnectionLimitPostProcessor(ObjectProvider<HrProperties> properties,
+                ObjectProvider<MeterRegistry> meterRegistry) {
+            this.properties = properties;
+            this.meterRegistry = meterRegistry;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource dataSource) || bean instanceof ConnectionLimitDataSource) {
+                return bean;
+            }
+            HrProperties.DbLimiter config = properties.getObject().getDbLimiter();
+            int limit = config.getMaxConcurrency();
+            if (limit <= 0) {
+                limit = dataSource instanceof HikariDataSource hikari ? hikari.getMaximumPoolSize() : DEFAULT_LIMIT;
+            }
+            return new ConnectionLimitDataSource(dataSource, limit, config.getAcquireTimeout(),
+                    meterRegistry.getObject());
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+    }
+}
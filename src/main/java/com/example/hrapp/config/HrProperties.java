@@ -0,0 +1,247 @@
+package com.example.hrapp.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * HR-APIアプリケーション独自の設定値（{@code hr.*}）。
+ *
+ * <p>
+ * application.yml の {@code hr} 配下をバインドします。
+ */
+@Data
+@ConfigurationProperties(prefix = "hr")
+public class HrProperties {
+    /** 従業員IDキャッシュの設定 */
+    private final Cache cache = new Cache();
+
+    /** 名前検索の設定 */
+    private final Search search = new Search();
+
+    /** ID一括取得の設定 */
+    private final Batch batch = new Batch();
+
+    /** 接続数制限の設定 */
+    private final DbLimiter dbLimiter = new DbLimiter();
+
+    /** 一括登録・更新の設定 */
+    private final Bulk bulk = new Bulk();
+
+    /** 変更フィードの設定 */
+    private final Changes changes = new Changes();
+
+    /** 変更通知（SSE）の設定 */
+    private final Stream stream = new Stream();
+
+    /** 処理時間計測の設定 */
+    private final Metrics metrics = new Metrics();
+
+    /** 起動時ウォームアップの設定 */
+    private final Warmup warmup = new Warmup();
+
+    /** データソースの追加設定 */
+    private final Datasource datasource = new Datasource();
+
+    /** 読み取りレプリカモード（メモリ内スナップショット）の設定 */
+    private final Snapshot snapshot = new Snapshot();
+
+    /** 全件読み込みの並列化の設定 */
+    private final ParallelRead parallelRead = new ParallelRead();
+
+    /** 従業員一覧画面のサーバー側描画・静的ファイルのキャッシュの設定 */
+    private final Page page = new Page();
+
+    /**
+     * 従業員IDキャッシュ（{@code hr.cache.*}）の設定。
+     */
+    @Data
+    public static class Cache {
+        /** キャッシュを有効にするか */
+        private boolean enabled = true;
+
+        /** 最大保持件数（超過時は利用頻度の低いものから削除） */
+        private long maximumSize = 10_000;
+
+        /** 存在する従業員の保持期間 */
+        private Duration expireAfterWrite = Duration.ofMinutes(5);
+
+        /** 存在しないIDの保持期間（ネガティブキャッシュ） */
+        private Duration negativeExpireAfterWrite = Duration.ofSeconds(30);
+    }
+
+    /**
+     * 名前検索（{@code hr.search.*}）の設定。
+     */
+    @Data
+    public static class Search {
+        /** メモリ内の名前索引で検索するか（falseの場合は常にSQLで検索） */
+        private boolean indexEnabled = true;
+
+        /** 名前索引の再構築間隔 */
+        private Duration refreshInterval = Duration.ofMinutes(5);
+    }
+
+    /**
+     * ID一括取得（{@code hr.batch.*}）の設定。
+     */
+    @Data
+    public static class Batch {
+        /** 1回のSQLのINリストに含めるID数（Oracleの上限の1000を超える場合は1000、0以下の場合は1） */
+        private int chunkSize = 500;
+    }
+
+    /**
+     * 接続数制限（{@code hr.db-limiter.*}）の設定。
+     */
+    @Data
+    public static class DbLimiter {
+        /** 同時に取得できる接続数を制限するか（仮想スレッド利用時に有効化） */
+        private boolean enabled = false;
+
+        /** 同時に取得できる接続数の上限（0以下の場合はコネクションプールの最大サイズ） */
+        private int maxConcurrency = 0;
+
+        /** 取得許可の最大待ち時間 */
+        private Duration acquireTimeout = Duration.ofSeconds(30);
+    }
+
+    /**
+     * 一括登録・更新（{@code hr.bulk.*}）の設定。
+     */
+    @Data
+    public static class Bulk {
+        /** 1トランザクション（1回のJDBCバッチ）で登録・更新する行数 */
+        private int chunkSize = 1000;
+
+        /** レスポンスに含めるエラー行の最大件数（超過分は件数のみ集計） */
+        private int maxReportedErrors = 1000;
+    }
+
+    /**
+     * 変更フィード（{@code hr.changes.*}）の設定。
+     */
+    @Data
+    public static class Changes {
+        /** 変更フィードを定期的に読み、メモリ内のキャッシュ・索引・集計に反映するか */
+        private boolean pollEnabled = true;
+
+        /** 変更フィードの読み込み間隔 */
+        private Duration pollInterval = Duration.ofSeconds(10);
+
+        /** 1回のSQLで読み込む変更件数 */
+        private int pollBatchSize = 1000;
+
+        /**
+         * 読み込み済みの最新バージョンから巻き戻して読み直す変更バージョンの数（採番順と異なる順にコミットされた変更を取りこぼさないため。
+         * 読み直した変更のうち通知済みのものは変更バージョンで除く）
+         */
+        private int lagWindow = 1000;
+    }
+
+    /**
+     * 変更通知（{@code hr.stream.*}、{@code GET /employees/stream}）の設定。
+     */
+    @Data
+    public static class Stream {
+        /** 同時接続数の上限（超過時は503） */
+        private int maxSubscribers = 1000;
+
+        /** 1接続あたりの未送信の変更の上限（従業員ID単位。超過時は未送信分を破棄し、全件再取得を通知） */
+        private int maxPending = 1000;
+
+        /** 接続の最大維持時間（経過後はブラウザが自動で再接続） */
+        private Duration timeout = Duration.ofMinutes(30);
+
+        /** 切断検知のための空イベントの送信間隔 */
+        private Duration heartbeatInterval = Duration.ofSeconds(15);
+    }
+
+    /**
+     * 処理時間計測（{@code hr.metrics.*}）の設定。
+     */
+    @Data
+    public static class Metrics {
+        /** Mapperの文ごとの実行時間・件数とJSON書き出し時間を計測するか */
+        private boolean enabled = true;
+
+        /** この時間以上かかったMapperの文をWARNで出力する */
+        private Duration slowQueryThreshold = Duration.ofMillis(500);
+    }
+
+    /**
+     * 起動時ウォームアップ（{@code hr.warmup.*}）の設定。
+     */
+    @Data
+    public static class Warmup {
+        /** 起動完了（readiness）の前にウォームアップを行うか */
+        private boolean enabled = true;
+
+        /** 事前に確立するDB接続数（0以下の場合はコネクションプールの最小アイドル数） */
+        private int connections = 0;
+
+        /** 各Mapper文・シリアライズを実行する回数 */
+        private int iterations = 10;
+
+        /** 従業員IDキャッシュに事前読み込みする件数（0の場合は読み込まない） */
+        private int cachePrefillSize = 0;
+    }
+
+    /**
+     * データソース（{@code hr.datasource.*}）の追加設定。
+     */
+    @Data
+    public static class Datasource {
+        /** 接続先がOracleの場合のみ追加するJDBC接続プロパティ（{@code oracle.jdbc.implicitStatementCacheSize} 等） */
+        private Map<String, String> oracleProperties = new LinkedHashMap<>();
+    }
+
+    /**
+     * 読み取りレプリカモード（{@code hr.snapshot.*}）の設定。
+     */
+    @Data
+    public static class Snapshot {
+        /** 全件取得・ID検索・名前検索を全従業員データのメモリ内スナップショットから返すか */
+        private boolean enabled = false;
+
+        /** スナップショットを再構築する間隔（変更フィードが有効な場合は変更があったときのみ） */
+        private Duration refreshInterval = Duration.ofSeconds(10);
+    }
+
+    /**
+     * 全件読み込みの並列化（{@code hr.parallel-read.*}）の設定。
+     */
+    @Data
+    public static class ParallelRead {
+        /** 全件取得・エクスポートで従業員IDの範囲ごとのSQLを並列に実行するか */
+        private boolean enabled = false;
+
+        /** 同時に実行する範囲の数（コネクションプールの最大サイズ-1以下に制限） */
+        private int parallelism = 4;
+
+        /** 1回のSQLで読む従業員IDの幅（エクスポート中にメモリに保持する行数は最大で parallelism × range-size） */
+        private int rangeSize = 50_000;
+    }
+
+    /**
+     * 従業員一覧画面（{@code hr.page.*}）の設定。
+     */
+    @Data
+    public static class Page {
+        /** 従業員テーブルをサーバー側でHTMLに描画して画面に埋め込むか（falseの場合は画面表示後にAPIから取得して描画） */
+        private boolean enabled = false;
+
+        /** サーバー側で描画する最大行数（1～1000、超える場合は残りを画面表示後にAPIから取得） */
+        private int maxRows = 1000;
+
+        /** 画面・テーブルHTMLをブラウザが再検証せずに使う期間（ETagによる再検証は常に可能） */
+        private Duration maxAge = Duration.ZERO;
+
+        /** ファイル名に内容のハッシュを含むURLで参照するCSS・JavaScriptのキャッシュ期間 */
+        private Duration assetMaxAge = Duration.ofDays(365);
+    }
+}
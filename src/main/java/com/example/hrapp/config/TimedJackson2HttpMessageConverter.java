@@ -0,0 +1,72 @@
+package com.example.hrapp.config;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * JSONレスポンスの書き出し時間を計測するJacksonコンバーター。
+ *
+ * <p>
+ * エンドポイント（{@code http.server.requests} と同じ {@code uri} タグ）ごとに {@code hr.http.serialization} として公開します。
+ * Jacksonはレスポンスへ直接書き出すため、計測値には送信バッファへの書き込み時間も含みます。
+ */
+public class TimedJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
+    /** エンドポイントを特定できない場合のuriタグ */
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+
+    /** uri → タイマー（呼び出しごとのメトリクス検索を避ける） */
+    private final ConcurrentMap<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public TimedJackson2HttpMessageConverter(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        super(objectMapper);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+        long start = System.nanoTime();
+        try {
+            super.writeInternal(object, type, outputMessage);
+        } finally {
+            timers.computeIfAbsent(currentUri(), this::timer).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer timer(String uri) {
+        return Timer.builder("hr.http.serialization")
+                .description("JSONレスポンスの書き出し時間")
+                .tags("uri", uri, "format", "json")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * 処理中のリクエストに一致したURIパターン（例: {@code /employees/{id}}）を返します。
+     */
+    private static String currentUri() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return UNKNOWN_URI;
+        }
+        Object pattern = attributes.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE,
+                RequestAttributes.SCOPE_REQUEST);
+        return pattern != null ? pattern.toString() : UNKNOWN_URI;
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.hrapp.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+import com.example.hrapp.model.EmployeeJsonSerializer;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Web（HTTPメッセージ変換・静的ファイル配信）まわりの追加設定。
+ */
+@Configuration(proxyBeanMethods = false)
+public class WebConfig {
+    /** 画面のCSS・JavaScriptを置くディレクトリ（{@code static/} 配下） */
+    private static final String[] ASSET_DIRECTORIES = { "css", "js" };
+
+    /**
+     * {@link com.example.hrapp.model.Employee} をリフレクションを使わずに書き出すシリアライザーを登録します。
+     *
+     * <p>
+     * Spring BootがObjectMapper（JSON・CBORコンバーター、エクスポートを含む）に登録します。 出力は標準のシリアライザーと同じです。
+     *
+     * @return Jacksonモジュール
+     */
+    @Bean
+    public Module employeeJsonModule() {
+        return EmployeeJsonSerializer.module();
+    }
+
+    /**
+     * {@code Accept: application/cbor} 向けのCBOR（RFC 8949）コンバーターを登録します。
+     *
+     * <p>
+     * JSONと同じJackson設定（Spring Bootのカスタマイズを含む）でエンコードするため、項目構成はJSONと同一です。
+     * JSONコンバーターより後ろに並ぶため、Acceptの指定がないブラウザ等には引き続きJSONを返します。
+     *
+     * @param builder
+     *            Spring Bootが構成したObjectMapperビルダー
+     * @return CBORコンバーター
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    /**
+     * JSONの書き出し時間を計測するコンバーターを登録します（{@code hr.metrics.enabled=true} の場合）。
+     *
+     * <p>
+     * Spring Boot標準のJacksonコンバーターと置き換わり、同じObjectMapperを使用します。
+     *
+     * @param objectMapper
+     *            Spring Bootが構成したObjectMapper
+     * @param meterRegistry
+     *            メトリクス登録先
+     * @return 計測付きJSONコンバーター
+     */
+    @Bean
+    @ConditionalOnProperty(name = "hr.metrics.enabled", havingValue = "true", matchIfMissing = true)
+    public TimedJackson2HttpMessageConverter timedJackson2HttpMessageConverter(ObjectMapper objectMapper,
+            MeterRegistry meterRegistry) {
+        return new TimedJackson2HttpMessageConverter(objectMapper, meterRegistry);
+    }
+
+    /**
+     * 画面のCSS・JavaScriptを、ファイル名に内容のハッシュを含むURL（{@code /css/employees-<MD5>.css}）でも配信します。
+     *
+     * <p>
+     * ハッシュを含むURLは内容が変わるとURL自体が変わるため、{@code hr.page.asset-max-age} の間は再検証なしでキャッシュさせます（immutable）。
+     * ハッシュを含まないURL（静的な画面やモジュールのimportからの参照）は、毎回Last-Modifiedで再検証させます（変更がなければ304）。
+     * ハッシュを含むURLは {@link org.springframework.web.servlet.resource.ResourceUrlProvider} で求めます。
+     *
+     * @param properties
+     *            アプリケーション設定
+     * @return 静的ファイルの配信設定
+     */
+    @Bean
+    public WebMvcConfigurer versionedAssetConfigurer(HrProperties properties) {
+        CacheControl immutable = CacheControl.maxAge(properties.getPage().getAssetMaxAge()).cachePublic().immutable();
+        return new WebMvcConfigurer() {
+            @Override
+            public void addResourceHandlers(ResourceHandlerRegistry registry) {
+                for (String directory : ASSET_DIRECTORIES) {
+                    String location = "classpath:/static/" + directory + "/";
+                    // 「名前-16進数.拡張子」のみ（より限定的なパターンのため、下のハッシュなしの設定より優先される）
+                    registry.addResourceHandler("/" + directory + "/{file:.+-[0-9a-f]+\\..+}")
+                            .addResourceLocations(location)
+                            .setCacheControl(immutable)
+                            .resourceChain(true)
+                            .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+                    registry.addResourceHandler("/" + directory + "/**")
+                            .addResourceLocations(location)
+                            .setCacheControl(CacheControl.noCache())
+                            .resourceChain(true)
+                            .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.hrapp.controller;
+
+import java.io.InputStream;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.hrapp.model.EmployeeBulkResult;
+import com.example.hrapp.service.EmployeeBulkReader;
+import com.example.hrapp.service.EmployeeBulkService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 従業員データの一括登録・更新APIコントローラー。
+ *
+ * <p>
+ * リクエストボディ（NDJSONまたはCSV）は全体をメモリに読み込まず、1行ずつ変換しながらチャンク単位で登録・更新します。
+ * エラー行があっても処理は中断せず、結果にエラー行の一覧を含めて返します。
+ */
+@RestController
+@RequestMapping("/employees/bulk")
+@RequiredArgsConstructor
+@CrossOrigin
+public class EmployeeBulkController {
+
+    /** CSVのメディアタイプ */
+    static final String TEXT_CSV_VALUE = "text/csv";
+
+    private final EmployeeBulkService bulkService;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * NDJSON（1行1従業員のJSON）の従業員データを一括登録・更新します。
+     *
+     * @param body
+     *            リクエストボディ
+     * @return 実行結果
+     */
+    @PostMapping(consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<EmployeeBulkResult> upsertNdjson(InputStream body) {
+        return ResponseEntity.ok(bulkService.upsert(EmployeeBulkReader.ndjson(body, objectMapper)));
+    }
+
+    /**
+     * ヘッダー行付きCSVの従業員データを一括登録・更新します。
+     *
+     * @param body
+     *            リクエストボディ
+     * @return 実行結果（ヘッダー行がない、または不明な列名を含む場合は400）
+     */
+    @PostMapping(consumes = TEXT_CSV_VALUE)
+    public ResponseEntity<EmployeeBulkResult> upsertCsv(InputStream body) {
+        EmployeeBulkReader reader;
+        try {
+            reader = EmployeeBulkReader.csv(body);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(bulkService.upsert(reader));
+    }
+}
@@ -1,18 +1,44 @@
 package com.example.hrapp.controller;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.example.hrapp.model.Employee;
+import com.example.hrapp.model.EmployeeBatchRequest;
+import com.example.hrapp.model.EmployeeBatchResult;
+import com.example.hrapp.model.EmployeeChangeSet;
+import com.example.hrapp.model.EmployeeField;
+import com.example.hrapp.model.EmployeePage;
+import com.example.hrapp.model.EmployeeQuery;
+import com.example.hrapp.model.EmployeeSort;
+import com.example.hrapp.model.ProjectedEmployee;
 import com.example.hrapp.service.EmployeeService;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
 import lombok.RequiredArgsConstructor;
 
 @RestController
@@ -23,20 +49,152 @@ import lombok.RequiredArgsConstructor;
  * 従業員情報の取得・検索APIコントローラー。
  *
  * <p>
- * 全件取得、ID検索、名前検索のエンドポイントを提供します。
+ * 全件取得、キーセットページング取得、NDJSONエクスポート、ID検索（単件・一括）、条件検索、名前検索、変更フィードのエンドポイントを提供します。
+ *
+ * <p>
+ * GETの取得系レスポンスには内容から計算した強いETagを付与し、 If-None-Match が一致する場合はシリアライズせずに304を返します。
+ * 全件取得のETagは表の件数と変更バージョンの集計から求め、一致する場合は行を読み込みません。
+ * 取得系レスポンスは既定でJSON、{@code Accept: application/cbor} の場合はCBOR（サービス間連携向けのバイナリ形式）で返します。
+ *
+ * <p>
+ * 取得系のエンドポイントは {@code ?fields=email,phoneNumber} で出力する項目を絞れます（従業員IDは常に出力）。
+ * 全件取得・ページング取得・エクスポート・条件検索はSELECTする列自体を絞り、ID検索・名前検索はキャッシュ・索引の結果を出力時に絞ります。
  */
 public class EmployeeController {
 
+    /** エクスポート時にレスポンスをフラッシュする行数間隔 */
+    private static final int EXPORT_FLUSH_ROWS = 500;
+
     private final EmployeeService service;
 
+    private final ObjectMapper objectMapper;
+
     /**
      * 全従業員データを取得します。
      *
-     * @return 従業員リスト
+     * @param fields
+     *            出力する項目（カンマ区切り、省略時は全項目）
+     * @param headers
+     *            リクエストヘッダー（If-None-Match・Accept）
+     * @return 従業員リスト（不明な項目を指定した場合は400、ETagが一致する場合は304）
      */
     @GetMapping
-    public List<Employee> getAll() {
-        return service.getAll();
+    public ResponseEntity<List<Employee>> getAll(
+            @RequestParam(name = "fields", required = false) String fields,
+            @RequestHeader HttpHeaders headers) {
+        Set<EmployeeField> fieldSet;
+        try {
+            fieldSet = EmployeeField.parse(fields);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        // ETagは表の件数・変更バージョンの集計から求め、一致する場合は全件を読み込まない
+        String contentETag = EmployeeETag.of(service.getTableState(), fieldSet);
+        ResponseEntity<List<Employee>> notModified = notModified(headers, contentETag);
+        if (notModified != null) {
+            return notModified;
+        }
+        List<Employee> employees = fieldSet == null ? service.getAll() : service.getAll(fieldSet);
+        return conditional(headers, contentETag, employees);
+    }
+
+    /**
+     * 従業員データをID順に1ページ分取得します（{@code ?after=<employeeId>&limit=N}）。
+     *
+     * <p>
+     * レスポンスの {@code nextCursor} を次回の {@code after} に指定すると次ページを取得できます。
+     *
+     * @param after
+     *            直前ページの最終従業員ID（先頭ページの場合は省略）
+     * @param limit
+     *            取得件数（1～{@value EmployeeService#MAX_PAGE_SIZE}）
+     * @param fields
+     *            出力する項目（カンマ区切り、省略時は全項目）
+     * @param headers
+     *            リクエストヘッダー（If-None-Match・Accept）
+     * @return ページ取得結果（件数が範囲外・不明な項目を指定した場合は400、ETagが一致する場合は304）
+     */
+    @GetMapping(params = "limit")
+    public ResponseEntity<EmployeePage> getPage(
+            @RequestParam(name = "after", required = false) Integer after,
+            @RequestParam("limit") int limit,
+            @RequestParam(name = "fields", required = false) String fields,
+            @RequestHeader HttpHeaders headers) {
+        Set<EmployeeField> fieldSet;
+        try {
+            fieldSet = EmployeeField.parse(fields);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (limit < 1 || limit > EmployeeService.MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        EmployeePage page = fieldSet == null ? service.getPage(after, limit) : service.getPage(after, limit, fieldSet);
+        Object discriminator = fieldSet == null ? page.getNextCursor() : page.getNextCursor() + ";" + fieldSet;
+        return conditional(headers, EmployeeETag.of(page.getItems(), discriminator), page);
+    }
+
+    /**
+     * {@code limit} を指定せずに {@code after} だけを指定した要求を拒否します。
+     *
+     * <p>
+     * 全件取得に該当して表全体を返さないよう、ページング取得には件数の指定を必須とします。
+     *
+     * @return 常に400
+     */
+    @GetMapping(params = { "after", "!limit" })
+    public ResponseEntity<EmployeePage> getPageWithoutLimit() {
+        return ResponseEntity.badRequest().build();
+    }
+
+    /**
+     * 全従業員データをNDJSON（1行1従業員のJSON）形式でエクスポートします。
+     *
+     * <p>
+     * DBから読み出した行を順次レスポンスへ書き出すため、件数に関係なくヒープ使用量は一定で、 クライアントは先頭行から即座に受信できます。
+     *
+     * @param fields
+     *            出力する項目（カンマ区切り、省略時は全項目）
+     * @return NDJSONのストリーミングレスポンス（不明な項目を指定した場合は400）
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(name = "fields", required = false) String fields) {
+        Set<EmployeeField> fieldSet;
+        try {
+            fieldSet = EmployeeField.parse(fields);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        // writerForの型で直列化方法が固定されるため、項目指定時は絞り込み用の型を指定する
+        ObjectWriter writer = objectMapper.writerFor(fieldSet == null ? Employee.class : ProjectedEmployee.class)
+                .withRootValueSeparator("\n")
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator gen = writer.createGenerator(out)) {
+                long[] rows = { 0 };
+                Consumer<Employee> action = employee -> {
+                    try {
+                        writer.writeValue(gen, employee);
+                        if (++rows[0] % EXPORT_FLUSH_ROWS == 0) {
+                            gen.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                };
+                if (fieldSet == null) {
+                    service.exportAll(action);
+                } else {
+                    service.exportAll(fieldSet, action);
+                }
+                if (rows[0] > 0) {
+                    gen.writeRaw('\n');
+                }
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
     }
 
     /**
@@ -44,15 +202,143 @@ public class EmployeeController {
      *
      * @param id
      *            従業員ID
-     * @return 従業員データ（存在しない場合は404）
+     * @param fields
+     *            出力する項目（カンマ区切り、省略時は全項目）
+     * @param headers
+     *            リクエストヘッダー（If-None-Match・Accept）
+     * @return 従業員データ（存在しない場合は404、不明な項目を指定した場合は400、ETagが一致する場合は304）
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Employee> getById(@PathVariable("id") int id) {
+    public ResponseEntity<Employee> getById(@PathVariable("id") int id,
+            @RequestParam(name = "fields", required = false) String fields,
+            @RequestHeader HttpHeaders headers) {
+        Set<EmployeeField> fieldSet;
+        try {
+            fieldSet = EmployeeField.parse(fields);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
         Employee emp = service.getById(id);
         if (emp == null) {
             return ResponseEntity.notFound().build();
         }
-        return ResponseEntity.ok(emp);
+        if (fieldSet == null) {
+            return conditional(headers, EmployeeETag.of(emp), emp);
+        }
+        Employee projected = ProjectedEmployee.of(emp, fieldSet);
+        return conditional(headers, EmployeeETag.of(projected, fieldSet), projected);
+    }
+
+    /**
+     * 指定した複数IDの従業員データを1回のリクエストで取得します。
+     *
+     * <p>
+     * 結果はリクエストのID順で返し、存在しなかったIDは {@code missingIds} に含めます。
+     *
+     * @param request
+     *            従業員IDリスト（{@code {"ids": [100, 101]}}）
+     * @return 一括取得結果（IDが未指定・null含み・{@value EmployeeService#MAX_BATCH_SIZE}件超過の場合は400）
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<EmployeeBatchResult> getByIds(@RequestBody EmployeeBatchRequest request) {
+        List<Integer> ids = request.getIds();
+        if (ids == null || ids.size() > EmployeeService.MAX_BATCH_SIZE || ids.stream().anyMatch(Objects::isNull)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(service.getByIds(ids));
+    }
+
+    /**
+     * 部署・職種・給与範囲・メールアドレス前方一致の条件で従業員データを検索します。
+     *
+     * <p>
+     * 例: {@code /employees/query?departmentId=10&departmentId=20&salaryMin=40000&sort=salary&order=desc&limit=50}
+     *
+     * @param departmentIds
+     *            部署ID（複数指定可、いずれかに一致）
+     * @param jobIds
+     *            職種ID（複数指定可、いずれかに一致）
+     * @param salaryMin
+     *            給与の下限（この値を含む）
+     * @param salaryMax
+     *            給与の上限（この値を含む）
+     * @param emailPrefix
+     *            メールアドレスの前方一致
+     * @param sort
+     *            並び順の項目（{@code id}・{@code lastName}・{@code firstName}・{@code email}・{@code salary}・
+     *            {@code departmentId}・{@code jobId}）
+     * @param order
+     *            {@code asc} または {@code desc}（{@code desc} は {@code asc} の逆順で、値がnullの行が先頭、同じ値は従業員IDの降順）
+     * @param limit
+     *            最大件数（1～{@value EmployeeService#MAX_PAGE_SIZE}）
+     * @param fields
+     *            出力する項目（カンマ区切り、省略時は全項目）
+     * @param headers
+     *            リクエストヘッダー（If-None-Match・Accept）
+     * @return 該当する従業員リスト（条件が不正な場合は400、ETagが一致する場合は304）
+     */
+    @GetMapping("/query")
+    public ResponseEntity<List<Employee>> query(
+            @RequestParam(name = "departmentId", required = false) List<Integer> departmentIds,
+            @RequestParam(name = "jobId", required = false) List<String> jobIds,
+            @RequestParam(name = "salaryMin", required = false) BigDecimal salaryMin,
+            @RequestParam(name = "salaryMax", required = false) BigDecimal salaryMax,
+            @RequestParam(name = "emailPrefix", required = false) String emailPrefix,
+            @RequestParam(name = "sort", defaultValue = "id") String sort,
+            @RequestParam(name = "order", defaultValue = "asc") String order,
+            @RequestParam(name = "limit", defaultValue = "100") int limit,
+            @RequestParam(name = "fields", required = false) String fields,
+            @RequestHeader HttpHeaders headers) {
+        Set<EmployeeField> fieldSet;
+        try {
+            fieldSet = EmployeeField.parse(fields);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        EmployeeSort sortKey = EmployeeSort.from(sort);
+        boolean descending = "desc".equalsIgnoreCase(order);
+        if (sortKey == null || (!descending && !"asc".equalsIgnoreCase(order))
+                || limit < 1 || limit > EmployeeService.MAX_PAGE_SIZE
+                || invalidInList(departmentIds) || invalidInList(jobIds)
+                || (salaryMin != null && salaryMax != null && salaryMin.compareTo(salaryMax) > 0)) {
+            return ResponseEntity.badRequest().build();
+        }
+        EmployeeQuery query = new EmployeeQuery();
+        query.setDepartmentIds(departmentIds);
+        query.setJobIds(jobIds);
+        query.setSalaryMin(salaryMin);
+        query.setSalaryMax(salaryMax);
+        query.setEmailPrefix(emailPrefix);
+        query.setSort(sortKey);
+        query.setDescending(descending);
+        query.setLimit(limit);
+        query.setFields(fieldSet);
+        List<Employee> employees = service.query(query);
+        return conditional(headers, EmployeeETag.of(employees, fieldSet), employees);
+    }
+
+    /**
+     * 指定バージョンより後の登録・更新・削除を変更順に取得します（差分同期用の変更フィード）。
+     *
+     * <p>
+     * 初回は {@code since=0} から全件を取得し、以降はレスポンスの {@code nextSince} を次回の {@code since} に指定します。
+     * {@code hasMore} がtrueの間は続けて取得してください。 取得しきった後の定期的な取得は {@code rereadSince} を指定し、
+     * 取得済みの変更は {@code changeVersion} で除いてください（採番順と異なる順にコミットされた変更を取りこぼさないため）。
+     *
+     * @param since
+     *            前回取得した最新の変更バージョン
+     * @param limit
+     *            最大件数（1～{@value EmployeeService#MAX_PAGE_SIZE}）
+     * @return 変更リストと次回の取得開始位置（パラメータが範囲外の場合は400）
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<EmployeeChangeSet> getChanges(
+            @RequestParam(name = "since", defaultValue = "0") long since,
+            @RequestParam(name = "limit", defaultValue = "1000") int limit) {
+        if (since < 0 || limit < 1 || limit > EmployeeService.MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(service.getChanges(since, limit));
     }
 
     /**
@@ -60,10 +346,67 @@ public class EmployeeController {
      *
      * @param name
      *            検索する名前
-     * @return 該当する従業員リスト
+     * @param ranked
+     *            一致度順（完全一致→前方一致→部分一致）に並べるか
+     * @param limit
+     *            最大件数（省略時は無制限）
+     * @param fields
+     *            出力する項目（カンマ区切り、省略時は全項目）
+     * @param headers
+     *            リクエストヘッダー（If-None-Match・Accept）
+     * @return 該当する従業員リスト（不明な項目を指定した場合は400、ETagが一致する場合は304）
      */
     @GetMapping("/search")
-    public List<Employee> getByName(@RequestParam String name) {
-        return service.getByName(name);
+    public ResponseEntity<List<Employee>> getByName(@RequestParam String name,
+            @RequestParam(name = "ranked", defaultValue = "false") boolean ranked,
+            @RequestParam(name = "limit", defaultValue = "0") int limit,
+            @RequestParam(name = "fields", required = false) String fields,
+            @RequestHeader HttpHeaders headers) {
+        Set<EmployeeField> fieldSet;
+        try {
+            fieldSet = EmployeeField.parse(fields);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        List<Employee> employees = service.getByName(name, ranked, limit);
+        if (fieldSet != null) {
+            employees = ProjectedEmployee.of(employees, fieldSet);
+        }
+        return conditional(headers, EmployeeETag.of(employees, fieldSet), employees);
+    }
+
+    /**
+     * INリストの指定件数がOracleの上限を超える（またはnullを含む）かを返します。
+     */
+    private static boolean invalidInList(List<?> values) {
+        return values != null
+                && (values.size() > EmployeeService.MAX_BATCH_SIZE || values.stream().anyMatch(Objects::isNull));
+    }
+
+    /**
+     * ETag付きの200、またはIf-None-Matchが一致する場合はボディなしの304を返します。
+     *
+     * <p>
+     * JSONとCBORで表現が異なるため、ETagはAcceptに応じて区別し、{@code Vary: Accept} を付与します。
+     */
+    private static <T> ResponseEntity<T> conditional(HttpHeaders headers, String contentETag, T body) {
+        ResponseEntity<T> notModified = notModified(headers, contentETag);
+        if (notModified != null) {
+            return notModified;
+        }
+        String etag = EmployeeETag.forRepresentation(contentETag, headers.getAccept());
+        return ResponseEntity.ok().eTag(etag).varyBy(HttpHeaders.ACCEPT).body(body);
+    }
+
+    /**
+     * If-None-Matchが一致する場合はボディなしの304を、一致しない場合はnullを返します。
+     */
+    private static <T> ResponseEntity<T> notModified(HttpHeaders headers, String contentETag) {
+        String etag = EmployeeETag.forRepresentation(contentETag, headers.getAccept());
+        String ifNoneMatch = String.join(",", headers.getOrEmpty(HttpHeaders.IF_NONE_MATCH));
+        if (EmployeeETag.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).varyBy(HttpHeaders.ACCEPT).build();
+        }
+        return null;
     }
 }
@@ -0,0 +1,192 @@
+package com.example.hrapp.controller;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.http.MediaType;
+
+import com.example.hrapp.model.Employee;
+import com.example.hrapp.model.EmployeeTableState;
+
+/**
+ * 従業員データの強いETag（内容ハッシュ）の生成と If-None-Match の照合。
+ *
+ * <p>
+ * 各項目の値から64bitのFNV-1aハッシュを計算するため、JSONへのシリアライズを行わずにETagを求められます。 同じ内容でもJSONとCBORでは
+ * 表現が異なるため、{@link #forRepresentation(String, List)} で表現ごとに異なる値にします。
+ */
+final class EmployeeETag {
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    /** null値の区切り（通常の文字としては現れない値） */
+    private static final char NULL_MARK = '\uFFFF';
+
+    /** 項目の区切り */
+    private static final char SEPARATOR = '\u001F';
+
+    /** レスポンスの表現（同じ品質値で両方に適合する場合は先頭を選ぶ） */
+    private static final List<MediaType> REPRESENTATIONS = List.of(MediaType.APPLICATION_JSON,
+            MediaType.APPLICATION_CBOR);
+
+    private EmployeeETag() {
+    }
+
+    /**
+     * 従業員1件のETagを返します。
+     *
+     * @param employee
+     *            従業員データ
+     * @return 強いETag（ダブルクォート付き）
+     */
+    static String of(Employee employee) {
+        return format(hash(FNV_OFFSET_BASIS, employee));
+    }
+
+    /**
+     * 従業員1件のETagを返します。
+     *
+     * @param employee
+     *            従業員データ
+     * @param discriminator
+     *            同じ内容でもレスポンス形式が異なる場合に区別する値（出力項目等、不要ならnull）
+     * @return 強いETag（ダブルクォート付き、discriminatorがnullの場合は {@link #of(Employee)} と同じ値）
+     */
+    static String of(Employee employee, Object discriminator) {
+        if (discriminator == null) {
+            return of(employee);
+        }
+        return format(hash(hash(FNV_OFFSET_BASIS, employee), discriminator.toString()));
+    }
+
+    /**
+     * 従業員リストのETagを返します（順序も含めて一致する場合のみ同じ値）。
+     *
+     * @param employees
+     *            従業員リスト
+     * @param discriminator
+     *            同じ内容でもレスポンス形式が異なる場合に区別する値（ページングのカーソル等、不要ならnull）
+     * @return 強いETag（ダブルクォート付き）
+     */
+    static String of(List<Employee> employees, Object discriminator) {
+        long h = FNV_OFFSET_BASIS;
+        h = hash(h, String.valueOf(employees.size()));
+        for (Employee employee : employees) {
+            h = hash(h, employee);
+        }
+        h = hash(h, discriminator == null ? null : discriminator.toString());
+        return format(h);
+    }
+
+    /**
+     * 従業員表全体の変更状態からETagを返します（全件取得用）。
+     *
+     * <p>
+     * 件数・変更バージョンの合計・最大値のいずれかが変われば値が変わるため、行を読み込まずに If-None-Match を照合できます。
+     *
+     * @param state
+     *            件数と変更バージョンの集計
+     * @param discriminator
+     *            同じ内容でもレスポンス形式が異なる場合に区別する値（出力項目等、不要ならnull）
+     * @return 強いETag（ダブルクォート付き）
+     */
+    static String of(EmployeeTableState state, Object discriminator) {
+        long h = FNV_OFFSET_BASIS;
+        h = hash(h, "table");
+        h = hash(h, String.valueOf(state.getRowCount()));
+        h = hash(h, Objects.toString(state.getVersionSum(), null));
+        h = hash(h, Objects.toString(state.getMaxChangeVersion(), null));
+        h = hash(h, discriminator == null ? null : discriminator.toString());
+        return format(h);
+    }
+
+    /**
+     * Acceptヘッダーから選ばれる表現（JSONまたはCBOR）に応じたETagを返します。
+     *
+     * <p>
+     * Spring MVCのコンテンツネゴシエーションと同じく、品質値（{@code q}）が最も高いメディアタイプに適合する表現を選びます。
+     * 品質値が同じ場合は先に指定したもの、1つのメディアタイプに両方が適合する場合（{@code *}/{@code *} 等）はJSONを選びます。
+     *
+     * @param etag
+     *            内容から計算したETag
+     * @param accept
+     *            Acceptヘッダーのメディアタイプ（指定順）
+     * @return 表現ごとのETag（JSONの場合は元の値）
+     */
+    static String forRepresentation(String etag, List<MediaType> accept) {
+        MediaType selected = null;
+        double selectedQuality = 0;
+        for (MediaType mediaType : accept) {
+            double quality = mediaType.getQualityValue();
+            if (quality <= selectedQuality) {
+                continue;
+            }
+            for (MediaType representation : REPRESENTATIONS) {
+                if (mediaType.isCompatibleWith(representation)) {
+                    selected = representation;
+                    selectedQuality = quality;
+                    break;
+                }
+            }
+        }
+        if (MediaType.APPLICATION_CBOR.equals(selected)) {
+            return etag.substring(0, etag.length() - 1) + "-cbor\"";
+        }
+        return etag;
+    }
+
+    /**
+     * If-None-Match ヘッダーがETagに一致するかを返します（弱い比較）。
+     *
+     * @param ifNoneMatch
+     *            If-None-Match ヘッダー値（未指定の場合はnull）
+     * @param etag
+     *            現在のETag
+     * @return 一致する場合（304を返すべき場合）はtrue
+     */
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long hash(long h, Employee employee) {
+        h = hash(h, Objects.toString(employee.getEmployeeId(), null));
+        h = hash(h, employee.getFirstName());
+        h = hash(h, employee.getLastName());
+        h = hash(h, employee.getEmail());
+        h = hash(h, employee.getPhoneNumber());
+        h = hash(h, employee.getJobId());
+        h = hash(h, Objects.toString(employee.getSalary(), null));
+        h = hash(h, Objects.toString(employee.getDepartmentId(), null));
+        return hash(h, Objects.toString(employee.getChangeVersion(), null));
+    }
+
+    private static long hash(long h, String value) {
+        if (value == null) {
+            h = (h ^ NULL_MARK) * FNV_PRIME;
+        } else {
+            for (int i = 0; i < value.length(); i++) {
+                h = (h ^ value.charAt(i)) * FNV_PRIME;
+            }
+        }
+        return (h ^ SEPARATOR) * FNV_PRIME;
+    }
+
+    private static String format(long h) {
+        return "\"" + String.format("%016x", h) + "\"";
+    }
+}
@@ -0,0 +1,194 @@
+package com.example.hrapp.controller;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.resource.ResourceUrlProvider;
+
+import com.example.hrapp.config.HrProperties;
+import com.example.hrapp.service.EmployeeTableFragment;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * サーバー側で描画した従業員一覧画面・テーブルHTMLのコントローラー（{@code hr.page.enabled=true} の場合）。
+ *
+ * <p>
+ * {@code GET /employees.html} は静的ファイルの代わりに、テーブルの行を埋め込んだ画面を返します。 ブラウザはjQueryの読み込みやAPIの呼び出しを待たずに、
+ * 1回の応答とCSSで一覧を表示できます。 画面から参照するCSS・JavaScriptは、ファイル名に内容のハッシュを含むURL（長期間キャッシュ）に置き換えます。
+ *
+ * <p>
+ * テーブル本体は {@link EmployeeTableFragment} のキャッシュから返し、画面も同じテーブル本体に対しては組み立て済みのものを返します。
+ * どちらも内容のハッシュによる強いETagを付与し、If-None-Match が一致する場合は304を返します（{@code hr.page.max-age} の間は再検証なし）。
+ * 従業員データを含むため、共有キャッシュ（プロキシ・CDN）には保存させません。
+ */
+@RestController
+@ConditionalOnProperty(name = "hr.page.enabled", havingValue = "true")
+public class EmployeePageController {
+    /** 画面の元になる静的ファイル */
+    static final String TEMPLATE = "static/employees.html";
+
+    /** テンプレート内の空のテーブル本体（描画したテーブル本体に置き換える） */
+    private static final String TABLE_BODY = "<tbody id=\"tableBody\"></tbody>";
+
+    /** テンプレート内の非表示のテーブル */
+    private static final String HIDDEN_TABLE = "<table id=\"employeeTable\" style=\"display: none\">";
+
+    /** テンプレート内の読み込み中の表示 */
+    private static final String LOADING_STATUS = "<div id=\"status\" class=\"loading\">Loading data...</div>";
+
+    /** テンプレート内のCSS・JavaScriptへの相対参照 */
+    private static final Pattern ASSET_REFERENCE = Pattern.compile("(href|src)=\"((?:css|js)/[^\"]+)\"");
+
+    private static final MediaType TEXT_HTML_UTF8 = new MediaType(MediaType.TEXT_HTML, StandardCharsets.UTF_8);
+
+    private final EmployeeTableFragment tableFragment;
+
+    private final ResourceUrlProvider resourceUrlProvider;
+
+    private final CacheControl cacheControl;
+
+    /** 静的ファイルの内容 */
+    private final String template;
+
+    /** CSS・JavaScriptの参照をハッシュを含むURLに置き換えたテンプレート（初回の要求時に作成） */
+    private volatile String shell;
+
+    /** 組み立て済みの画面（未作成の場合はnull） */
+    private volatile Page page;
+
+    public EmployeePageController(EmployeeTableFragment tableFragment, ResourceUrlProvider resourceUrlProvider,
+            HrProperties properties) {
+        this.tableFragment = tableFragment;
+        this.resourceUrlProvider = resourceUrlProvider;
+        this.cacheControl = CacheControl.maxAge(properties.getPage().getMaxAge()).cachePrivate().mustRevalidate();
+        this.template = readTemplate();
+    }
+
+    /**
+     * 従業員一覧画面を、テーブルの行を埋め込んで返します。
+     *
+     * @param ifNoneMatch
+     *            If-None-Match ヘッダー
+     * @param request
+     *            HTTPリクエスト（CSS・JavaScriptのURLの組み立てに使用）
+     * @return 画面のHTML（ETagが一致する場合は304）
+     */
+    @GetMapping(value = "/employees.html", produces = MediaType.TEXT_HTML_VALUE)
+    public ResponseEntity<byte[]> getPage(
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            HttpServletRequest request) {
+        EmployeeTableFragment.Fragment fragment = tableFragment.current();
+        Page current = page;
+        if (current == null || current.fragment() != fragment) {
+            current = assemble(shell(request.getContextPath()), fragment);
+            page = current;
+        }
+        return conditional(ifNoneMatch, current.etag(), current.body());
+    }
+
+    /**
+     * 従業員テーブルの本体（{@code <tbody>} 要素）のHTMLを返します。
+     *
+     * <p>
+     * 行数が {@code hr.page.max-rows} を超える場合は先頭から最大行数分のみを返し、{@code data-truncated="true"} を付与します。
+     *
+     * @param ifNoneMatch
+     *            If-None-Match ヘッダー
+     * @return テーブル本体のHTML（ETagが一致する場合は304）
+     */
+    @GetMapping(value = "/employees/table", produces = MediaType.TEXT_HTML_VALUE)
+    public ResponseEntity<byte[]> getTable(
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        EmployeeTableFragment.Fragment fragment = tableFragment.current();
+        return conditional(ifNoneMatch, fragment.getEtag(), fragment.getBody());
+    }
+
+    private ResponseEntity<byte[]> conditional(String ifNoneMatch, String etag, byte[] body) {
+        if (EmployeeETag.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(cacheControl).eTag(etag).build();
+        }
+        return ResponseEntity.ok().cacheControl(cacheControl).eTag(etag).contentType(TEXT_HTML_UTF8).body(body);
+    }
+
+    /**
+     * テンプレートのCSS・JavaScriptの参照を、コンテキストパスからのハッシュを含むURLに置き換えたものを返します。
+     */
+    private String shell(String contextPath) {
+        String current = shell;
+        if (current == null) {
+            Matcher matcher = ASSET_REFERENCE.matcher(template);
+            StringBuilder html = new StringBuilder(template.length() + 256);
+            while (matcher.find()) {
+                String versioned = resourceUrlProvider.getForLookupPath("/" + matcher.group(2));
+                String url = versioned != null ? contextPath + versioned : matcher.group(2);
+                matcher.appendReplacement(html, Matcher.quoteReplacement(matcher.group(1) + "=\"" + url + "\""));
+            }
+            matcher.appendTail(html);
+            current = html.toString();
+            shell = current;
+        }
+        return current;
+    }
+
+    /**
+     * テンプレートにテーブル本体を埋め込み、行の有無に応じてテーブル・読み込み中の表示を切り替えます。
+     */
+    private static Page assemble(String shell, EmployeeTableFragment.Fragment fragment) {
+        boolean empty = fragment.getRows() == 0;
+        String html = shell
+                .replace(LOADING_STATUS, empty
+                        ? "<div id=\"status\" class=\"loading\">No data found.</div>"
+                        : "<div id=\"status\" class=\"loading\" style=\"display: none\"></div>")
+                .replace(HIDDEN_TABLE, empty ? HIDDEN_TABLE : "<table id=\"employeeTable\">")
+                .replace(TABLE_BODY, fragment.getHtml());
+        byte[] body = html.getBytes(StandardCharsets.UTF_8);
+        return new Page(fragment, body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+    }
+
+    /**
+     * 静的ファイルを読み込み、置き換える箇所がすべて含まれていることを確認します。
+     */
+    private static String readTemplate() {
+        String html;
+        try (InputStream in = new ClassPathResource(TEMPLATE).getInputStream()) {
+            html = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("cannot read " + TEMPLATE, e);
+        }
+        for (String marker : new String[] { TABLE_BODY, HIDDEN_TABLE, LOADING_STATUS }) {
+            if (!html.contains(marker)) {
+                throw new IllegalStateException(TEMPLATE + " does not contain " + marker);
+            }
+        }
+        return html;
+    }
+
+    /**
+     * 組み立て済みの画面。
+     *
+     * @param fragment
+     *            埋め込んだテーブル本体
+     * @param body
+     *            画面のHTML（UTF-8）
+     * @param etag
+     *            内容のハッシュによる強いETag
+     */
+    private record Page(EmployeeTableFragment.Fragment fragment, byte[] body, String etag) {
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.hrapp.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.hrapp.model.EmployeeGroupStats;
+import com.example.hrapp.service.EmployeeStatistics;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 従業員の集計APIコントローラー。
+ *
+ * <p>
+ * 部署別・職種別の人数と給与集計を、メモリ内の集計（{@link EmployeeStatistics}）から返します。
+ * レスポンスの大きさと処理量はグループ数に比例し、従業員数には依存しません。
+ */
+@RestController
+@RequestMapping("/employees/stats")
+@RequiredArgsConstructor
+@CrossOrigin
+public class EmployeeStatsController {
+
+    private final EmployeeStatistics statistics;
+
+    /**
+     * 部署別の人数・給与集計を取得します。
+     *
+     * @return 部署別集計（部署ID順、未設定は末尾）
+     */
+    @GetMapping("/by-department")
+    public ResponseEntity<List<EmployeeGroupStats<Integer>>> byDepartment() {
+        return ResponseEntity.ok(statistics.byDepartment());
+    }
+
+    /**
+     * 職種別の人数・給与集計を取得します。
+     *
+     * @return 職種別集計（職種ID順、未設定は末尾）
+     */
+    @GetMapping("/by-job")
+    public ResponseEntity<List<EmployeeGroupStats<String>>> byJob() {
+        return ResponseEntity.ok(statistics.byJob());
+    }
+}
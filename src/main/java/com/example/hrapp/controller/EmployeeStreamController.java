@@ -0,0 +1,46 @@
+package com.example.hrapp.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.hrapp.service.EmployeeChangeBroadcaster;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 従業員データの変更通知APIコントローラー。
+ *
+ * <p>
+ * 登録・更新・削除を {@code text/event-stream}（Server-Sent Events）で配信します。 イベントの形式は
+ * {@link EmployeeChangeBroadcaster} を参照してください。
+ */
+@RestController
+@RequestMapping("/employees/stream")
+@RequiredArgsConstructor
+@CrossOrigin
+public class EmployeeStreamController {
+
+    private final EmployeeChangeBroadcaster broadcaster;
+
+    /**
+     * 変更通知の購読を開始します。
+     *
+     * @return イベントストリーム（接続数が上限に達している場合は503）
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> stream() {
+        SseEmitter emitter = broadcaster.subscribe();
+        if (emitter == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        return ResponseEntity.ok()
+                .header("X-Accel-Buffering", "no") // ← リバースプロキシでのバッファリングを無効化
+                .body(emitter);
+    }
+}
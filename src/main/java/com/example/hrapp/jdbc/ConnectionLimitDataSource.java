@@ -0,0 +1,197 @@
+package com.example.hrapp.jdbc;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 同時に取得できる接続数をコネクションプールのサイズ以下に制限するデータソース。
+ *
+ * <p>
+ * 仮想スレッドでリクエストを処理すると数千のスレッドが同時にDBアクセスし得るため、 プールの手前で公平なセマフォにより待たせます。
+ * 許可は接続の取得時に取得し、接続を閉じる（プールに返す）まで保持します。 トランザクション・Cursorの読み出し中も接続と同じ期間だけ保持するため、
+ * 許可を持つスレッドは必ず接続を取得でき、許可と接続を互いに待ち合うことはありません。
+ * 待ち時間・実行中件数・待機件数・タイムアウト件数は {@code hr.db.limiter.*} メトリクスとして公開します。
+ * 閉じると包んでいるデータソース（コネクションプール）も閉じます。
+ */
+@Slf4j
+public class ConnectionLimitDataSource extends DelegatingDataSource implements AutoCloseable {
+    private final int limit;
+
+    private final long acquireTimeoutNanos;
+
+    private final Semaphore permits;
+
+    private final Timer waitTimer;
+
+    private final Counter rejected;
+
+    public ConnectionLimitDataSource(DataSource targetDataSource, int limit, Duration acquireTimeout,
+            MeterRegistry meterRegistry) {
+        super(targetDataSource);
+        this.limit = limit;
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+        this.permits = new Semaphore(limit, true);
+        this.waitTimer = Timer.builder("hr.db.limiter.wait")
+                .description("接続の取得許可の待ち時間")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.rejected = Counter.builder("hr.db.limiter.rejected")
+                .description("取得許可の待ちがタイムアウトした件数")
+                .register(meterRegistry);
+        Gauge.builder("hr.db.limiter.in.flight", this, ConnectionLimitDataSource::inFlight)
+                .description("取得中（未返却）の接続数")
+                .register(meterRegistry);
+        Gauge.builder("hr.db.limiter.queued", permits, Semaphore::getQueueLength)
+                .description("取得許可を待っている件数")
+                .register(meterRegistry);
+        Gauge.builder("hr.db.limiter.limit", () -> limit)
+                .description("同時に取得できる接続数の上限")
+                .register(meterRegistry);
+        log.info("ConnectionLimitDataSource enabled: limit={}, acquireTimeout={}", limit, acquireTimeout);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        return limited(super::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        return limited(() -> super.getConnection(username, password));
+    }
+
+    /**
+     * @return 同時に取得できる接続数の上限
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * @return 取得中（未返却）の接続数
+     */
+    public int inFlight() {
+        return limit - permits.availablePermits();
+    }
+
+    /**
+     * 包んでいるデータソースが閉じられる場合（コネクションプール等）は閉じます。
+     *
+     * <p>
+     * Beanとしてはこのデータソースが公開されるため、アプリケーションの終了時にプールを閉じるにはここで委譲する必要があります。
+     */
+    @Override
+    public void close() throws Exception {
+        if (getTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private void acquire() throws SQLException {
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("接続の取得許可の待機中に割り込まれました", e);
+        } finally {
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        if (!acquired) {
+            rejected.increment();
+            throw new SQLTransientConnectionException("接続の取得許可の待ちがタイムアウトしました（上限 " + limit + " 件）");
+        }
+    }
+
+    /**
+     * 接続を取得し、閉じたときに許可を返すプロキシで包みます。 取得に失敗した場合はその場で許可を返します。
+     */
+    private Connection limited(ConnectionSupplier supplier) throws SQLException {
+        Connection target;
+        try {
+            target = supplier.get();
+        } catch (SQLException | RuntimeException | Error e) {
+            permits.release();
+            throw e;
+        }
+        return (Connection) Proxy.newProxyInstance(ConnectionProxy.class.getClassLoader(),
+                new Class<?>[] { ConnectionProxy.class }, new PermitReleasingHandler(target));
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSupplier {
+        Connection get() throws SQLException;
+    }
+
+    /**
+     * 接続を閉じたときに1回だけ許可を返すプロキシの処理。
+     */
+    private final class PermitReleasingHandler implements InvocationHandler {
+        private final Connection target;
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        PermitReleasingHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "getTargetConnection":
+                    return target;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Limited connection [" + target + "]";
+                case "isClosed":
+                    if (released.get()) {
+                        return true;
+                    }
+                    break;
+                case "close":
+                    if (!released.compareAndSet(false, true)) {
+                        return null;
+                    }
+                    try {
+                        target.close();
+                    } finally {
+                        permits.release();
+                    }
+                    return null;
+                default:
+                    break;
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+}
@@ -1,16 +1,26 @@
 package com.example.hrapp.mapper;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
 import com.example.hrapp.model.Employee;
+import com.example.hrapp.model.EmployeeChange;
+import com.example.hrapp.model.EmployeeField;
+import com.example.hrapp.model.EmployeeQuery;
+import com.example.hrapp.model.EmployeeTableState;
+import com.example.hrapp.model.ProjectedEmployee;
 
 /**
  * 従業員情報のDBアクセス用Mapperインターフェース。
  *
  * <p>
- * 全件取得、ID検索、名前検索のSQLを提供します。
+ * 全件取得（一括・ストリーミング）、キーセットページング取得、ID検索（単件・一括）、条件検索、名前検索、変更フィードと、登録・更新（MERGE）のSQLを提供します。
+ * 全件取得・ページング取得・条件検索は、SELECTする列を指定項目だけに絞る版（{@code *Projected}）もあります。
  */
 @Mapper
 public interface EmployeeMapper {
@@ -21,6 +31,87 @@ public interface EmployeeMapper {
      */
     List<Employee> findAll();
 
+    /**
+     * 全従業員データの指定項目のみを取得します。
+     *
+     * @param fields
+     *            取得する項目（1件以上）
+     * @return 従業員リスト（ID順、指定外の項目はnull）
+     */
+    List<ProjectedEmployee> findAllProjected(@Param("fields") Set<EmployeeField> fields);
+
+    /**
+     * 全従業員データをID順に1行ずつ読み出すカーソルを取得します。
+     *
+     * <p>
+     * 結果をリストに溜めないため、件数に関係なくメモリ使用量は一定です。 カーソルはトランザクション内で使用し、使用後は必ずクローズしてください。
+     *
+     * @return 従業員カーソル
+     */
+    Cursor<Employee> findAllCursor();
+
+    /**
+     * 全従業員データの指定項目のみをID順に1行ずつ読み出すカーソルを取得します。
+     *
+     * @param fields
+     *            取得する項目（1件以上）
+     * @return 従業員カーソル（指定外の項目はnull）
+     */
+    Cursor<ProjectedEmployee> findAllCursorProjected(@Param("fields") Set<EmployeeField> fields);
+
+    /**
+     * 指定したIDより後ろの従業員データをID順に最大件数まで取得します（キーセットページング）。
+     *
+     * <p>
+     * OFFSETを使わず主キー索引で開始位置を特定するため、何ページ目でも取得コストは一定です。
+     *
+     * @param after
+     *            直前ページの最終従業員ID（先頭ページの場合はnull）
+     * @param limit
+     *            取得件数
+     * @return 従業員リスト（EMPLOYEE_ID昇順）
+     */
+    List<Employee> findPage(@Param("after") Integer after, @Param("limit") int limit);
+
+    /**
+     * 指定したIDより後ろの従業員データの指定項目のみをID順に最大件数まで取得します（キーセットページング）。
+     *
+     * @param after
+     *            直前ページの最終従業員ID（先頭ページの場合はnull）
+     * @param limit
+     *            取得件数
+     * @param fields
+     *            取得する項目（従業員IDを含むこと）
+     * @return 従業員リスト（EMPLOYEE_ID昇順、指定外の項目はnull）
+     */
+    List<ProjectedEmployee> findPageProjected(@Param("after") Integer after, @Param("limit") int limit,
+            @Param("fields") Set<EmployeeField> fields);
+
+    /**
+     * 従業員IDが指定範囲（両端を含む）の従業員データをID順に取得します（並列読み込みの1範囲分）。
+     *
+     * @param from
+     *            範囲の先頭の従業員ID
+     * @param to
+     *            範囲の末尾の従業員ID
+     * @return 従業員リスト（EMPLOYEE_ID昇順）
+     */
+    List<Employee> findRange(@Param("from") int from, @Param("to") int to);
+
+    /**
+     * 最小の従業員IDを取得します。
+     *
+     * @return 最小の従業員ID（従業員が存在しない場合はnull）
+     */
+    Integer findMinEmployeeId();
+
+    /**
+     * 最大の従業員IDを取得します。
+     *
+     * @return 最大の従業員ID（従業員が存在しない場合はnull）
+     */
+    Integer findMaxEmployeeId();
+
     /**
      * 指定したIDの従業員データを取得します。
      *
@@ -30,6 +121,39 @@ public interface EmployeeMapper {
      */
     Employee findById(int id);
 
+    /**
+     * 指定した複数IDの従業員データを1回のSQLで取得します。
+     *
+     * <p>
+     * OracleのINリスト上限（1000件）を超えないよう、呼び出し側でチャンクに分割してください。
+     *
+     * @param ids
+     *            従業員IDリスト（1件以上）
+     * @return 存在する従業員リスト（ID順）
+     */
+    List<Employee> findByIds(@Param("ids") Collection<Integer> ids);
+
+    /**
+     * 部署・職種・給与範囲・メールアドレス前方一致の条件で従業員データを検索します。
+     *
+     * <p>
+     * INリストはOracleの上限（1000件）以内で指定してください。
+     *
+     * @param query
+     *            検索条件（並び順・最大件数を含む）
+     * @return 該当する従業員リスト
+     */
+    List<Employee> query(EmployeeQuery query);
+
+    /**
+     * 条件検索の結果の指定項目（{@link EmployeeQuery#getFields()}）のみを取得します。
+     *
+     * @param query
+     *            検索条件（並び順・最大件数・取得する項目を含む）
+     * @return 該当する従業員リスト（指定外の項目はnull）
+     */
+    List<ProjectedEmployee> queryProjected(EmployeeQuery query);
+
     /**
      * 名前（部分一致）で従業員データを検索します。
      *
@@ -38,4 +162,59 @@ public interface EmployeeMapper {
      * @return 該当する従業員リスト
      */
     List<Employee> selectByName(String name);
+
+    /**
+     * 従業員データを登録します（同じIDが存在する場合は更新）。
+     *
+     * <p>
+     * DBごとのMERGE文を使用します（Oracleは {@code databaseId="oracle"}、それ以外はH2の構文）。
+     *
+     * @param employee
+     *            従業員データ
+     * @return 登録・更新件数
+     */
+    int upsert(Employee employee);
+
+    /**
+     * 指定バージョンより後に登録・更新された従業員データを変更順に取得します。
+     *
+     * @param since
+     *            前回取得した最新の変更バージョン
+     * @param limit
+     *            取得件数
+     * @return 従業員リスト（CHANGE_VERSION昇順）
+     */
+    List<Employee> findChangedSince(@Param("since") long since, @Param("limit") int limit);
+
+    /**
+     * 指定バージョンより後に削除された従業員を削除順に取得します。
+     *
+     * @param since
+     *            前回取得した最新の変更バージョン
+     * @param limit
+     *            取得件数
+     * @return 削除の変更リスト（CHANGE_VERSION昇順）
+     */
+    List<EmployeeChange> findDeletedSince(@Param("since") long since, @Param("limit") int limit);
+
+    /**
+     * 登録・更新の最新の変更バージョンを取得します。
+     *
+     * @return 最新の変更バージョン（従業員が存在しない場合はnull）
+     */
+    Long findMaxChangeVersion();
+
+    /**
+     * 従業員表全体の件数と変更バージョンの集計を取得します。
+     *
+     * @return 件数・変更バージョンの合計・最大値
+     */
+    EmployeeTableState findTableState();
+
+    /**
+     * 削除の最新の変更バージョンを取得します。
+     *
+     * @return 最新の変更バージョン（削除がない場合はnull）
+     */
+    Long findMaxDeletedVersion();
 }
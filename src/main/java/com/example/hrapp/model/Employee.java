@@ -2,9 +2,6 @@ package com.example.hrapp.model;
 
 import java.math.BigDecimal;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
 import lombok.Data;
 
 /**
@@ -39,10 +36,6 @@ public class Employee {
     /** 部門ID */
     private Integer departmentId;
 
-    private static final Logger log = LoggerFactory.getLogger(Employee.class);
-
-    /** Employeeインスタンス生成時のログ出力 */
-    public Employee() {
-        log.info("Employeeインスタンス生成: {}", this);
-    }
+    /** 変更バージョン（登録・更新のたびにシーケンスから採番される単調増加の値） */
+    private Long changeVersion;
 }
@@ -0,0 +1,14 @@
+package com.example.hrapp.model;
+
+import java.util.List;
+
+import lombok.Data;
+
+/**
+ * ID一括取得のリクエスト。
+ */
+@Data
+public class EmployeeBatchRequest {
+    /** 取得する従業員IDリスト */
+    private List<Integer> ids;
+}
@@ -0,0 +1,19 @@
+package com.example.hrapp.model;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * ID一括取得の結果。
+ */
+@Data
+@AllArgsConstructor
+public class EmployeeBatchResult {
+    /** 存在した従業員リスト（リクエストのID順） */
+    private List<Employee> employees;
+
+    /** 存在しなかった従業員IDリスト（リクエストのID順） */
+    private List<Integer> missingIds;
+}
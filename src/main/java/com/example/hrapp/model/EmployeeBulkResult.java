@@ -0,0 +1,81 @@
+package com.example.hrapp.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * 一括登録・更新（{@code POST /employees/bulk}）の実行結果。
+ *
+ * <p>
+ * エラー行があっても処理は中断せず、行番号とエラー内容を {@code errors} に記録します。
+ */
+@Data
+public class EmployeeBulkResult {
+    /** 読み込んだ行数（空行を除く） */
+    private long totalRows;
+
+    /** 登録・更新した行数 */
+    private long upserted;
+
+    /** エラーになった行数 */
+    private long failed;
+
+    /** 全体の処理時間（ミリ秒） */
+    private long elapsedMillis;
+
+    /** 全体の処理性能（行/秒） */
+    private double rowsPerSecond;
+
+    /** チャンク（1トランザクション）ごとの結果 */
+    private List<Chunk> chunks = new ArrayList<>();
+
+    /** エラー行（最大件数を超えた分は含まない） */
+    private List<RowError> errors = new ArrayList<>();
+
+    /** エラー行が最大件数を超えて省略されたか */
+    private boolean errorsTruncated;
+
+    /**
+     * チャンク（1トランザクション）ごとの結果。
+     */
+    @Data
+    @AllArgsConstructor
+    public static class Chunk {
+        /** チャンク番号（1始まり） */
+        private int index;
+
+        /** チャンク内の行数 */
+        private int rows;
+
+        /** 登録・更新した行数 */
+        private int upserted;
+
+        /** 処理時間（ミリ秒） */
+        private long elapsedMillis;
+
+        /** 処理性能（行/秒） */
+        private double rowsPerSecond;
+
+        /** JDBCバッチが失敗し、1行ずつ再実行したか */
+        private boolean retriedRowByRow;
+    }
+
+    /**
+     * エラー行の内容。
+     */
+    @Data
+    @AllArgsConstructor
+    public static class RowError {
+        /** 入力の行番号（1始まり、CSVはヘッダー行を含む） */
+        private long line;
+
+        /** 従業員ID（読み取れなかった場合はnull） */
+        private Integer employeeId;
+
+        /** エラー内容 */
+        private String message;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.hrapp.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 変更フィードの1件（従業員1人の登録・更新または削除）。
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeChange {
+    /** 従業員ID */
+    private Integer employeeId;
+
+    /** 変更バージョン */
+    private Long changeVersion;
+
+    /** 削除されたか */
+    private boolean deleted;
+
+    /** 変更後の従業員データ（削除の場合はnull） */
+    private Employee employee;
+}
@@ -0,0 +1,36 @@
+package com.example.hrapp.model;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * 変更フィード（{@code GET /employees/changes}）の取得結果。
+ *
+ * <p>
+ * {@code hasMore} がtrueの間は {@code nextSince} を {@code since} に指定して続きを取得します。 取得しきった後に定期的に取得する場合は
+ * {@code rereadSince} から取得し、取得済みの変更は {@code changeVersion} で除きます（同じ変更の再適用としても扱えます）。
+ */
+@Data
+@AllArgsConstructor
+public class EmployeeChangeSet {
+    /** 変更リスト（変更バージョン昇順） */
+    private List<EmployeeChange> changes;
+
+    /** 次回の取得開始位置（変更がない場合は指定した {@code since} と同じ値） */
+    private long nextSince;
+
+    /** 件数上限により、まだ取得していない変更が残っているか */
+    private boolean hasMore;
+
+    /**
+     * 定期的に取得する場合の次回の取得開始位置（{@code nextSince} から {@code hr.changes.lag-window} 分巻き戻した値）。
+     * 採番順と異なる順に後からコミットされた、{@code nextSince} より前の変更も取得できます。
+     */
+    private long rereadSince;
+
+    public EmployeeChangeSet(List<EmployeeChange> changes, long nextSince, boolean hasMore) {
+        this(changes, nextSince, hasMore, nextSince);
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.hrapp.model;
+
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 項目の絞り込み（{@code ?fields=}）に指定できる従業員データの項目。
+ *
+ * <p>
+ * SQLのSELECT句には列名を直接埋め込むため、指定できる項目はこの列挙で許可したものに限定します。 SELECT句・JSONの項目順は常にこの列挙の順です。
+ */
+public enum EmployeeField {
+    /** 従業員ID（常に出力） */
+    EMPLOYEE_ID("EMPLOYEE_ID", "employeeId", Employee::getEmployeeId),
+
+    /** 名 */
+    FIRST_NAME("FIRST_NAME", "firstName", Employee::getFirstName),
+
+    /** 姓 */
+    LAST_NAME("LAST_NAME", "lastName", Employee::getLastName),
+
+    /** メールアドレス */
+    EMAIL("EMAIL", "email", Employee::getEmail),
+
+    /** 電話番号 */
+    PHONE_NUMBER("PHONE_NUMBER", "phoneNumber", Employee::getPhoneNumber),
+
+    /** 職種ID */
+    JOB_ID("JOB_ID", "jobId", Employee::getJobId),
+
+    /** 給与 */
+    SALARY("SALARY", "salary", Employee::getSalary),
+
+    /** 部署ID */
+    DEPARTMENT_ID("DEPARTMENT_ID", "departmentId", Employee::getDepartmentId),
+
+    /** 変更バージョン */
+    CHANGE_VERSION("CHANGE_VERSION", "changeVersion", Employee::getChangeVersion);
+
+    private final String column;
+
+    private final String property;
+
+    private final Function<Employee, Object> getter;
+
+    EmployeeField(String column, String property, Function<Employee, Object> getter) {
+        this.column = column;
+        this.property = property;
+        this.getter = getter;
+    }
+
+    /**
+     * SELECT句に使用する列名を返します。
+     *
+     * @return 列名
+     */
+    public String getColumn() {
+        return column;
+    }
+
+    /**
+     * JSONの項目名（Employeeのプロパティ名）を返します。
+     *
+     * @return 項目名
+     */
+    public String getProperty() {
+        return property;
+    }
+
+    /**
+     * 従業員データからこの項目の値を返します。
+     *
+     * @param employee
+     *            従業員データ
+     * @return 項目の値
+     */
+    public Object get(Employee employee) {
+        return getter.apply(employee);
+    }
+
+    /**
+     * {@code fields} パラメータ（カンマ区切り、{@code email}・{@code phone_number}・{@code JOB_ID} 等）を項目の集合にします。
+     *
+     * <p>
+     * 従業員IDは指定の有無にかかわらず含めます。
+     *
+     * @param fields
+     *            パラメータ値
+     * @return 項目の集合（未指定の場合は全項目を表すnull）
+     * @throws IllegalArgumentException
+     *             存在しない項目を指定した場合
+     */
+    public static Set<EmployeeField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        Set<EmployeeField> result = EnumSet.of(EMPLOYEE_ID);
+        for (String value : fields.split(",")) {
+            String name = value.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            result.add(from(name));
+        }
+        return result;
+    }
+
+    private static EmployeeField from(String value) {
+        String normalized = value.replaceAll("([a-z])([A-Z])", "$1_$2").toUpperCase(Locale.ROOT);
+        for (EmployeeField field : values()) {
+            if (field.name().equals(normalized)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("unknown field: " + value);
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.hrapp.model;
+
+import java.math.BigDecimal;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * 部署・職種などのグループ単位の人数・給与集計。
+ *
+ * @param <K>
+ *            グループのキー（部署IDまたは職種ID）
+ */
+@Data
+@AllArgsConstructor
+public class EmployeeGroupStats<K> {
+    /** グループのキー（未設定の従業員のグループはnull） */
+    private K key;
+
+    /** 人数 */
+    private long headcount;
+
+    /** 給与が設定されている人数（平均の分母） */
+    private long salaryCount;
+
+    /** 給与合計 */
+    private BigDecimal salarySum;
+
+    /** 給与平均（小数2桁、給与が設定されている従業員がいない場合はnull） */
+    private BigDecimal salaryAvg;
+
+    /** 給与最小値（給与が設定されている従業員がいない場合はnull） */
+    private BigDecimal salaryMin;
+
+    /** 給与最大値（給与が設定されている従業員がいない場合はnull） */
+    private BigDecimal salaryMax;
+}
@@ -0,0 +1,143 @@
+package com.example.hrapp.model;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.Serializers;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * {@link Employee} 専用のJacksonシリアライザー。
+ *
+ * <p>
+ * Jackson標準のBeanシリアライザー（項目ごとのリフレクションによるgetter呼び出しと値の型ごとのシリアライザー検索）を使わず、
+ * 固定の項目順で値を直接書き出します。 出力は標準のBeanシリアライザー（null値も出力・項目名の変換なし）とバイト単位で同じです。
+ * JSONの給与はスケール0で18桁以下の場合にlongとして書き出し、{@link BigDecimal#toString()} の文字列生成を省きます。
+ *
+ * <p>
+ * {@link #module()} は {@link Employee} そのものにのみ適用し、{@link ProjectedEmployee} 等のサブクラスは従来どおり出力します。
+ */
+public final class EmployeeJsonSerializer extends StdSerializer<Employee> {
+    /** 共有インスタンス（状態を持たない） */
+    public static final EmployeeJsonSerializer INSTANCE = new EmployeeJsonSerializer();
+
+    /** longで表せることが確実な給与の桁数 */
+    private static final int MAX_LONG_PRECISION = 18;
+
+    private static final SerializedString EMPLOYEE_ID = new SerializedString("employeeId");
+
+    private static final SerializedString FIRST_NAME = new SerializedString("firstName");
+
+    private static final SerializedString LAST_NAME = new SerializedString("lastName");
+
+    private static final SerializedString EMAIL = new SerializedString("email");
+
+    private static final SerializedString PHONE_NUMBER = new SerializedString("phoneNumber");
+
+    private static final SerializedString JOB_ID = new SerializedString("jobId");
+
+    private static final SerializedString SALARY = new SerializedString("salary");
+
+    private static final SerializedString DEPARTMENT_ID = new SerializedString("departmentId");
+
+    private static final SerializedString CHANGE_VERSION = new SerializedString("changeVersion");
+
+    private EmployeeJsonSerializer() {
+        super(Employee.class);
+    }
+
+    /**
+     * {@link Employee} にこのシリアライザーを適用するJacksonモジュールを返します。
+     *
+     * @return Jacksonモジュール
+     */
+    public static Module module() {
+        return new SimpleModule(EmployeeJsonSerializer.class.getSimpleName()) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public void setupModule(SetupContext context) {
+                super.setupModule(context);
+                context.addSerializers(new Serializers.Base() {
+                    @Override
+                    public JsonSerializer<?> findSerializer(SerializationConfig config, JavaType type,
+                            BeanDescription beanDesc) {
+                        return type.hasRawClass(Employee.class) ? INSTANCE : null;
+                    }
+                });
+            }
+        };
+    }
+
+    @Override
+    public void serialize(Employee value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+        writeFields(value, gen);
+        gen.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(Employee value, JsonGenerator gen, SerializerProvider provider,
+            TypeSerializer typeSer) throws IOException {
+        WritableTypeId typeId = typeSer.writeTypePrefix(gen, typeSer.typeId(value, JsonToken.START_OBJECT));
+        writeFields(value, gen);
+        typeSer.writeTypeSuffix(gen, typeId);
+    }
+
+    private static void writeFields(Employee value, JsonGenerator gen) throws IOException {
+        gen.writeFieldName(EMPLOYEE_ID);
+        writeInteger(gen, value.getEmployeeId());
+        gen.writeFieldName(FIRST_NAME);
+        gen.writeString(value.getFirstName());
+        gen.writeFieldName(LAST_NAME);
+        gen.writeString(value.getLastName());
+        gen.writeFieldName(EMAIL);
+        gen.writeString(value.getEmail());
+        gen.writeFieldName(PHONE_NUMBER);
+        gen.writeString(value.getPhoneNumber());
+        gen.writeFieldName(JOB_ID);
+        gen.writeString(value.getJobId());
+        gen.writeFieldName(SALARY);
+        writeDecimal(gen, value.getSalary());
+        gen.writeFieldName(DEPARTMENT_ID);
+        writeInteger(gen, value.getDepartmentId());
+        gen.writeFieldName(CHANGE_VERSION);
+        Long changeVersion = value.getChangeVersion();
+        if (changeVersion == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(changeVersion.longValue());
+        }
+    }
+
+    private static void writeInteger(JsonGenerator gen, Integer value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value.intValue());
+        }
+    }
+
+    private static void writeDecimal(JsonGenerator gen, BigDecimal value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else if (value.scale() == 0 && value.precision() <= MAX_LONG_PRECISION && gen.canWriteFormattedNumbers()) {
+            // JSONではスケール0の toString() は整数と同じ表記になる（CBORは型が変わるため対象外）
+            gen.writeNumber(value.longValue());
+        } else {
+            gen.writeNumber(value);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.hrapp.model;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * キーセットページングの取得結果。
+ *
+ * <p>
+ * 次ページは {@code nextCursor} を {@code after} に指定して取得します。
+ */
+@Data
+@AllArgsConstructor
+public class EmployeePage {
+    /** ページ内の従業員リスト（EMPLOYEE_ID昇順） */
+    private List<Employee> items;
+
+    /** 次ページ取得用カーソル（最終ページの場合はnull） */
+    private Integer nextCursor;
+}
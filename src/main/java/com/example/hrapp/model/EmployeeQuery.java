@@ -0,0 +1,55 @@
+package com.example.hrapp.model;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+
+import lombok.Data;
+
+/**
+ * 従業員の条件検索（{@code GET /employees/query}）の検索条件。
+ *
+ * <p>
+ * 未指定（nullまたは空）の条件は絞り込みに使用しません。 条件はすべてバインド変数としてSQLに渡します。
+ */
+@Data
+public class EmployeeQuery {
+    /** 部署IDのいずれかに一致 */
+    private List<Integer> departmentIds;
+
+    /** 職種IDのいずれかに一致 */
+    private List<String> jobIds;
+
+    /** 給与の下限（この値を含む） */
+    private BigDecimal salaryMin;
+
+    /** 給与の上限（この値を含む） */
+    private BigDecimal salaryMax;
+
+    /** メールアドレスの前方一致 */
+    private String emailPrefix;
+
+    /** 並び順（同順位は従業員ID昇順） */
+    private EmployeeSort sort = EmployeeSort.ID;
+
+    /** 降順で並べるか */
+    private boolean descending;
+
+    /** 最大取得件数 */
+    private int limit;
+
+    /** 取得する項目（nullの場合は全項目） */
+    private Set<EmployeeField> fields;
+
+    /**
+     * メールアドレス前方一致のLIKEパターンを返します（{@code \}・{@code %}・{@code _} はエスケープ済み）。
+     *
+     * @return LIKEパターン（前方一致を指定しない場合はnull）
+     */
+    public String getEmailPattern() {
+        if (emailPrefix == null || emailPrefix.isEmpty()) {
+            return null;
+        }
+        return emailPrefix.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+    }
+}
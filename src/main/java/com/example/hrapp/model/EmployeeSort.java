@@ -0,0 +1,67 @@
+package com.example.hrapp.model;
+
+import java.util.Locale;
+
+/**
+ * 条件検索の並び順に指定できる項目。
+ *
+ * <p>
+ * SQLのORDER BYには列名を直接埋め込むため、並び順はこの列挙で許可した列に限定します。
+ */
+public enum EmployeeSort {
+    /** 従業員ID */
+    ID("EMPLOYEE_ID"),
+
+    /** 姓 */
+    LAST_NAME("LAST_NAME"),
+
+    /** 名 */
+    FIRST_NAME("FIRST_NAME"),
+
+    /** メールアドレス */
+    EMAIL("EMAIL"),
+
+    /** 給与 */
+    SALARY("SALARY"),
+
+    /** 部署ID */
+    DEPARTMENT_ID("DEPARTMENT_ID"),
+
+    /** 職種ID */
+    JOB_ID("JOB_ID");
+
+    private final String column;
+
+    EmployeeSort(String column) {
+        this.column = column;
+    }
+
+    /**
+     * ORDER BYに使用する列名を返します。
+     *
+     * @return 列名
+     */
+    public String getColumn() {
+        return column;
+    }
+
+    /**
+     * リクエストパラメータの値（{@code lastName}・{@code last_name}・{@code LAST_NAME} 等）から並び順を返します。
+     *
+     * @param value
+     *            パラメータ値
+     * @return 並び順（該当する項目がない場合はnull）
+     */
+    public static EmployeeSort from(String value) {
+        if (value == null) {
+            return null;
+        }
+        String normalized = value.replaceAll("([a-z])([A-Z])", "$1_$2").toUpperCase(Locale.ROOT);
+        for (EmployeeSort sort : values()) {
+            if (sort.name().equals(normalized)) {
+                return sort;
+            }
+        }
+        return null;
+    }
+}
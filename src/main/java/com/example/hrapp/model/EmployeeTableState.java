@@ -0,0 +1,26 @@
+package com.example.hrapp.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 従業員表全体の変更状態（件数と変更バージョンの集計）。
+ *
+ * <p>
+ * 登録・更新では最大の変更バージョンが、削除では件数が変わります。 採番順と異なる順にコミットされた更新は最大値を変えないため、
+ * 変更バージョンの合計も含めて比較します。 全件取得のETagを、行を読み込まずに求めるために使います。
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeTableState {
+    /** 件数 */
+    private long rowCount;
+
+    /** 変更バージョンの合計（従業員が存在しない場合はnull） */
+    private Long versionSum;
+
+    /** 最大の変更バージョン（従業員が存在しない場合はnull） */
+    private Long maxChangeVersion;
+}
@@ -0,0 +1,115 @@
+package com.example.hrapp.model;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 指定した項目（{@code ?fields=}）のみを持つ従業員データ。
+ *
+ * <p>
+ * 項目を絞ったSQLの結果をMyBatisが直接このクラスにマッピングし、JSON・CBORには指定項目だけを
+ * {@link EmployeeField} の順に出力します（値の書式は {@link Employee} と同じ）。
+ */
+@Getter
+@Setter
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+public class ProjectedEmployee extends Employee implements JsonSerializable {
+    /** 出力する項目（nullの場合は全項目） */
+    private Set<EmployeeField> fields;
+
+    /**
+     * 従業員データから指定項目の値だけを写した従業員データを返します。
+     *
+     * @param employee
+     *            従業員データ
+     * @param fields
+     *            出力する項目
+     * @return 項目を絞った従業員データ
+     */
+    public static ProjectedEmployee of(Employee employee, Set<EmployeeField> fields) {
+        ProjectedEmployee projected = new ProjectedEmployee();
+        projected.setFields(fields);
+        projected.setEmployeeId(employee.getEmployeeId());
+        if (fields.contains(EmployeeField.FIRST_NAME)) {
+            projected.setFirstName(employee.getFirstName());
+        }
+        if (fields.contains(EmployeeField.LAST_NAME)) {
+            projected.setLastName(employee.getLastName());
+        }
+        if (fields.contains(EmployeeField.EMAIL)) {
+            projected.setEmail(employee.getEmail());
+        }
+        if (fields.contains(EmployeeField.PHONE_NUMBER)) {
+            projected.setPhoneNumber(employee.getPhoneNumber());
+        }
+        if (fields.contains(EmployeeField.JOB_ID)) {
+            projected.setJobId(employee.getJobId());
+        }
+        if (fields.contains(EmployeeField.SALARY)) {
+            projected.setSalary(employee.getSalary());
+        }
+        if (fields.contains(EmployeeField.DEPARTMENT_ID)) {
+            projected.setDepartmentId(employee.getDepartmentId());
+        }
+        if (fields.contains(EmployeeField.CHANGE_VERSION)) {
+            projected.setChangeVersion(employee.getChangeVersion());
+        }
+        return projected;
+    }
+
+    /**
+     * 従業員リストの各要素を指定項目だけに絞ります。
+     *
+     * @param employees
+     *            従業員リスト
+     * @param fields
+     *            出力する項目
+     * @return 項目を絞った従業員リスト
+     */
+    public static List<Employee> of(List<Employee> employees, Set<EmployeeField> fields) {
+        List<Employee> projected = new ArrayList<>(employees.size());
+        for (Employee employee : employees) {
+            projected.add(of(employee, fields));
+        }
+        return projected;
+    }
+
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        gen.writeStartObject(this);
+        writeFields(gen, serializers);
+        gen.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer)
+            throws IOException {
+        WritableTypeId typeId = typeSer.writeTypePrefix(gen,
+                typeSer.typeId(this, JsonToken.START_OBJECT));
+        writeFields(gen, serializers);
+        typeSer.writeTypeSuffix(gen, typeId);
+    }
+
+    private void writeFields(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        for (EmployeeField field : fields != null ? fields : EnumSet.allOf(EmployeeField.class)) {
+            gen.writeFieldName(field.getProperty());
+            serializers.defaultSerializeValue(field.get(this), gen);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.hrapp.mybatis;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Mapper XMLの {@code <foreach>} で組み立てるINリストの要素数を、決まった段階の数にそろえます。
+ *
+ * <p>
+ * INリストは要素数ごとに別のSQL文になるため、そのままでは1～1000件の最大1000種類の文が作られ、
+ * Oracleの共有プール（カーソル共有）・JDBCドライバの文キャッシュが要素数の種類だけ消費されます。
+ * 要素数を {@link #BUCKETS} の次の段階まで最後の値の繰り返しで埋めることで、1つのINリストあたりの文の種類を6つ以下にします。
+ * INリストの値の重複は結果に影響しません。
+ *
+ * <p>
+ * Mapper XMLからは {@code <bind name="paddedIds" value="@com.example.hrapp.mybatis.InListPadding@pad(ids)" />}
+ * のように呼び出します。
+ */
+public final class InListPadding {
+    /** 要素数の段階（最大はOracleのINリストの上限） */
+    static final int[] BUCKETS = { 1, 4, 16, 64, 256, 1000 };
+
+    private InListPadding() {
+    }
+
+    /**
+     * 要素数が次の段階になるよう、最後の値を繰り返して埋めたリストを返します。
+     *
+     * @param values
+     *            INリストの値（nullまたは空の場合・最大の段階を超える場合はそのまま返す）
+     * @return 要素数をそろえたリスト
+     */
+    public static <T> Collection<T> pad(Collection<T> values) {
+        if (values == null || values.isEmpty()) {
+            return values;
+        }
+        int size = bucket(values.size());
+        if (size == values.size()) {
+            return values;
+        }
+        List<T> padded = new ArrayList<>(size);
+        padded.addAll(values);
+        T last = padded.get(padded.size() - 1);
+        while (padded.size() < size) {
+            padded.add(last);
+        }
+        return padded;
+    }
+
+    /**
+     * 指定した要素数以上の最小の段階を返します。
+     *
+     * @param size
+     *            要素数
+     * @return 段階の要素数（最大の段階を超える場合は指定した要素数）
+     */
+    static int bucket(int size) {
+        for (int bucket : BUCKETS) {
+            if (size <= bucket) {
+                return bucket;
+            }
+        }
+        return size;
+    }
+}
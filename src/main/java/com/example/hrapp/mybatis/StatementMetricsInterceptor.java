@@ -0,0 +1,150 @@
+package com.example.hrapp.mybatis;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Mapperの文ごとの実行時間と取得件数を計測するMyBatisプラグイン。
+ *
+ * <p>
+ * 計測範囲はSQL実行と結果マッピング（エンティティ生成）までです。 文ID（例: {@code EmployeeMapper.findById}）ごとに
+ * {@code hr.mybatis.statement}（実行時間、複数インスタンスで集計できるヒストグラムも含む）・{@code hr.mybatis.statement.rows}（1回あたりの件数）をp50/p95/p99/最大値付きで公開し、
+ * {@code hr.metrics.slow-query-threshold} 以上かかった文はSQLとともにWARNで出力します（バインド値は出力しません）。
+ * Cursor取得（queryCursor）は読み出し開始までを計測し、件数は記録しません。 JDBCバッチの更新文は送信を含みません（送信は
+ * {@code flushStatements} 時）。
+ */
+@Slf4j
+@Intercepts({
+        @Signature(type = Executor.class, method = "query",
+                args = { MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class }),
+        @Signature(type = Executor.class, method = "query",
+                args = { MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class,
+                        BoundSql.class }),
+        @Signature(type = Executor.class, method = "queryCursor",
+                args = { MappedStatement.class, Object.class, RowBounds.class }),
+        @Signature(type = Executor.class, method = "update", args = { MappedStatement.class, Object.class }) })
+public class StatementMetricsInterceptor implements Interceptor {
+    private final MeterRegistry meterRegistry;
+
+    private final long slowThresholdNanos;
+
+    /** 文ID → メトリクス（呼び出しごとのメトリクス検索を避ける） */
+    private final ConcurrentMap<String, StatementMeters> meters = new ConcurrentHashMap<>();
+
+    public StatementMetricsInterceptor(MeterRegistry meterRegistry, Duration slowThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        log.info("StatementMetricsInterceptor enabled: slowQueryThreshold={}", slowThreshold);
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MappedStatement statement = (MappedStatement) invocation.getArgs()[0];
+        long start = System.nanoTime();
+        Object result = null;
+        try {
+            result = invocation.proceed();
+            return result;
+        } finally {
+            long elapsedNanos = System.nanoTime() - start;
+            StatementMeters statementMeters = meters.computeIfAbsent(statement.getId(),
+                    id -> new StatementMeters(statement));
+            statementMeters.timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+            long rows = rows(result);
+            if (rows >= 0) {
+                statementMeters.rows.record(rows);
+            }
+            if (elapsedNanos >= slowThresholdNanos) {
+                statementMeters.slow.increment();
+                log.warn("slow statement: {} ({} ms, {} rows) sql: {}", statementMeters.name,
+                        elapsedNanos / 1_000_000, rows >= 0 ? rows : "-", sql(statement, invocation.getArgs()));
+            }
+        }
+    }
+
+    /**
+     * 文の結果から件数を求めます。
+     *
+     * @return 件数（不明な場合・JDBCバッチの場合は-1）
+     */
+    private static long rows(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Integer count && count >= 0) {
+            return count;
+        }
+        return -1;
+    }
+
+    /**
+     * 実行したSQLを1行にして返します（バインド変数は ? のまま）。
+     */
+    private static String sql(MappedStatement statement, Object[] args) {
+        BoundSql boundSql = args.length > 5 && args[5] instanceof BoundSql bound ? bound
+                : statement.getBoundSql(args[1]);
+        return boundSql.getSql().replaceAll("\\s+", " ").trim();
+    }
+
+    /**
+     * 文IDの末尾2要素（Mapper名.メソッド名）を返します。
+     */
+    static String shortName(String statementId) {
+        int method = statementId.lastIndexOf('.');
+        int mapper = method > 0 ? statementId.lastIndexOf('.', method - 1) : -1;
+        return statementId.substring(mapper + 1);
+    }
+
+    /**
+     * 1文分のメトリクス。
+     */
+    private final class StatementMeters {
+        final String name;
+        final Timer timer;
+        final DistributionSummary rows;
+        final Counter slow;
+
+        StatementMeters(MappedStatement statement) {
+            this.name = shortName(statement.getId());
+            Tags tags = Tags.of("statement", name, "command",
+                    statement.getSqlCommandType().name().toLowerCase(Locale.ROOT));
+            this.timer = Timer.builder("hr.mybatis.statement")
+                    .description("Mapperの文の実行時間（SQL実行・結果マッピング）")
+                    .tags(tags)
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+            this.rows = DistributionSummary.builder("hr.mybatis.statement.rows")
+                    .description("Mapperの文1回あたりの取得・更新件数")
+                    .tags(tags)
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry);
+            this.slow = Counter.builder("hr.mybatis.statement.slow")
+                    .description("しきい値以上の時間がかかった文の件数")
+                    .tags(tags)
+                    .register(meterRegistry);
+        }
+    }
+}
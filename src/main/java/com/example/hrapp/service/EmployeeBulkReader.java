@@ -0,0 +1,171 @@
+package com.example.hrapp.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import com.example.hrapp.model.Employee;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+
+import lombok.Value;
+
+/**
+ * 一括登録・更新の入力（NDJSONまたはCSV）を1行ずつ読み込み、従業員データに変換します。
+ *
+ * <p>
+ * 入力全体をメモリに読み込まず、行ごとに変換します。 変換できない行は処理を中断せず、エラー内容を持つ {@link Row} として返します。
+ * CSVは1行目をヘッダー（{@code employeeId} または {@code EMPLOYEE_ID} 形式の列名）とし、値の中の改行には対応しません。
+ */
+public final class EmployeeBulkReader implements Iterator<EmployeeBulkReader.Row> {
+
+    /** CSVの列名（大文字小文字・アンダースコアを除いた形） → Employeeのプロパティ名 */
+    private static final Map<String, String> CSV_COLUMNS = new HashMap<>();
+
+    static {
+        for (String property : List.of("employeeId", "firstName", "lastName", "email", "phoneNumber", "jobId",
+                "salary", "departmentId")) {
+            CSV_COLUMNS.put(normalize(property), property);
+        }
+    }
+
+    private static final CsvMapper CSV_MAPPER = CsvMapper.builder()
+            .enable(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+            .build();
+
+    private final BufferedReader reader;
+
+    private final ObjectReader rowReader;
+
+    /** 最後に読み込んだ行番号 */
+    private long lineNumber;
+
+    /** 次に返す行（未読込の場合はnull） */
+    private Row next;
+
+    private EmployeeBulkReader(BufferedReader reader, ObjectReader rowReader, long lineNumber) {
+        this.reader = reader;
+        this.rowReader = rowReader;
+        this.lineNumber = lineNumber;
+    }
+
+    /**
+     * NDJSON（1行1従業員のJSON）の入力を読み込みます。
+     *
+     * @param in
+     *            入力（UTF-8）
+     * @param objectMapper
+     *            JSONの変換に使用するObjectMapper
+     * @return 行ごとの読み込み結果
+     */
+    public static EmployeeBulkReader ndjson(InputStream in, ObjectMapper objectMapper) {
+        return new EmployeeBulkReader(open(in), objectMapper.readerFor(Employee.class), 0);
+    }
+
+    /**
+     * ヘッダー行付きのCSVの入力を読み込みます。
+     *
+     * @param in
+     *            入力（UTF-8）
+     * @return 行ごとの読み込み結果
+     * @throws IllegalArgumentException
+     *             ヘッダー行がない、または従業員データにない列名を含む場合
+     */
+    public static EmployeeBulkReader csv(InputStream in) {
+        BufferedReader reader = open(in);
+        String header = readLine(reader);
+        if (header == null || header.isBlank()) {
+            throw new IllegalArgumentException("CSV header is required");
+        }
+        CsvSchema.Builder schema = CsvSchema.builder();
+        for (String column : header.split(",", -1)) {
+            String property = CSV_COLUMNS.get(normalize(column));
+            if (property == null) {
+                throw new IllegalArgumentException("Unknown CSV column: " + column.trim());
+            }
+            schema.addColumn(property);
+        }
+        return new EmployeeBulkReader(reader, CSV_MAPPER.readerFor(Employee.class).with(schema.build()), 1);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next != null) {
+            return true;
+        }
+        String line;
+        do {
+            line = readLine(reader);
+            if (line == null) {
+                return false;
+            }
+            lineNumber++;
+        } while (line.isBlank());
+        next = parse(line);
+        return true;
+    }
+
+    @Override
+    public Row next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Row row = next;
+        next = null;
+        return row;
+    }
+
+    private Row parse(String line) {
+        try {
+            return new Row(lineNumber, rowReader.readValue(line), null);
+        } catch (JsonProcessingException e) {
+            return new Row(lineNumber, null, e.getOriginalMessage());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static BufferedReader open(InputStream in) {
+        return new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+    }
+
+    private static String readLine(BufferedReader reader) {
+        try {
+            return reader.readLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String normalize(String column) {
+        return column.trim().replace("_", "").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 1行分の読み込み結果。
+     */
+    @Value
+    public static class Row {
+        /** 入力の行番号（1始まり） */
+        long line;
+
+        /** 従業員データ（変換できなかった場合はnull） */
+        Employee employee;
+
+        /** 変換エラーの内容（変換できた場合はnull） */
+        String error;
+    }
+}
@@ -0,0 +1,206 @@
+package com.example.hrapp.service;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.hrapp.config.HrProperties;
+import com.example.hrapp.mapper.EmployeeMapper;
+import com.example.hrapp.model.Employee;
+import com.example.hrapp.model.EmployeeBulkResult;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 従業員データの一括登録・更新サービス。
+ *
+ * <p>
+ * 入力を {@code hr.bulk.chunk-size} 行ずつのチャンクに分け、チャンクごとに1トランザクション・1回のJDBCバッチ（MyBatisの
+ * {@link ExecutorType#BATCH}）でMERGEを実行します。 バッチが失敗したチャンクはロールバックして1行ずつ再実行し、失敗した行だけをエラーとして記録します。
+ * 変更フィード（{@code hr.changes.poll-enabled}）が有効な場合、コミットした行は変更フィードが変更バージョン付きで1回だけ通知するため、ここでは通知しません。
+ * 無効な場合はコミットした行をDBから読み直し、変更バージョン付きの {@link EmployeeChangedEvent} として通知します。
+ */
+@Slf4j
+@Service
+public class EmployeeBulkService {
+
+    /** 通常（1文ずつ実行）のMapper。バッチ失敗時の1行ずつの再実行に使用 */
+    private final EmployeeMapper mapper;
+
+    /** JDBCバッチで実行するMapper */
+    private final EmployeeMapper batchMapper;
+
+    private final SqlSessionTemplate batchSession;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    /** コミットした行を自ら通知するか（変更フィードが無効な場合） */
+    private final boolean publishChanges;
+
+    private final int chunkSize;
+
+    private final int maxReportedErrors;
+
+    public EmployeeBulkService(EmployeeMapper mapper, SqlSessionFactory sqlSessionFactory,
+            PlatformTransactionManager transactionManager, ApplicationEventPublisher eventPublisher,
+            HrProperties properties) {
+        this.mapper = mapper;
+        this.batchSession = new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
+        this.batchMapper = batchSession.getMapper(EmployeeMapper.class);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.publishChanges = !properties.getChanges().isPollEnabled();
+        this.chunkSize = Math.max(properties.getBulk().getChunkSize(), 1);
+        this.maxReportedErrors = properties.getBulk().getMaxReportedErrors();
+    }
+
+    /**
+     * 入力の全行を登録・更新します（同じIDが存在する場合は更新）。
+     *
+     * @param rows
+     *            行ごとの読み込み結果
+     * @return 実行結果（チャンクごとの処理時間・性能とエラー行）
+     */
+    public EmployeeBulkResult upsert(Iterator<EmployeeBulkReader.Row> rows) {
+        long start = System.nanoTime();
+        EmployeeBulkResult result = new EmployeeBulkResult();
+        List<EmployeeBulkReader.Row> chunk = new ArrayList<>(chunkSize);
+        while (rows.hasNext()) {
+            EmployeeBulkReader.Row row = rows.next();
+            result.setTotalRows(result.getTotalRows() + 1);
+            String error = row.getError() != null ? row.getError() : validate(row.getEmployee());
+            if (error != null) {
+                addError(result, row, error);
+                continue;
+            }
+            chunk.add(row);
+            if (chunk.size() == chunkSize) {
+                applyChunk(chunk, result);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            applyChunk(chunk, result);
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        result.setElapsedMillis(elapsedNanos / 1_000_000);
+        result.setRowsPerSecond(rowsPerSecond(result.getTotalRows(), elapsedNanos));
+        log.info("upsert() result: {}行, upserted={}, failed={}, {} chunks ({} ms, {} rows/s)", result.getTotalRows(),
+                result.getUpserted(), result.getFailed(), result.getChunks().size(), result.getElapsedMillis(),
+                Math.round(result.getRowsPerSecond()));
+        return result;
+    }
+
+    private void applyChunk(List<EmployeeBulkReader.Row> chunk, EmployeeBulkResult result) {
+        long start = System.nanoTime();
+        int index = result.getChunks().size() + 1;
+        List<EmployeeBulkReader.Row> applied;
+        boolean retried = false;
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (EmployeeBulkReader.Row row : chunk) {
+                    batchMapper.upsert(row.getEmployee());
+                }
+                // コミット前に送信し、失敗した場合はこのチャンクをロールバックする
+                batchSession.flushStatements();
+            });
+            applied = chunk;
+        } catch (RuntimeException e) {
+            log.warn("upsert() chunk #{} failed, retrying row by row: {}", index,
+                    NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+            retried = true;
+            applied = new ArrayList<>(chunk.size());
+            for (EmployeeBulkReader.Row row : chunk) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> mapper.upsert(row.getEmployee()));
+                    applied.add(row);
+                } catch (RuntimeException rowError) {
+                    addError(result, row, NestedExceptionUtils.getMostSpecificCause(rowError).getMessage());
+                }
+            }
+        }
+        if (publishChanges) {
+            publishCommitted(applied);
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        result.setUpserted(result.getUpserted() + applied.size());
+        result.getChunks().add(new EmployeeBulkResult.Chunk(index, chunk.size(), applied.size(),
+                elapsedNanos / 1_000_000, rowsPerSecond(chunk.size(), elapsedNanos), retried));
+        log.info("upsert() chunk #{}: {}行, upserted={}{} ({} ms, {} rows/s)", index, chunk.size(), applied.size(),
+                retried ? " (row by row)" : "", elapsedNanos / 1_000_000,
+                Math.round(rowsPerSecond(chunk.size(), elapsedNanos)));
+    }
+
+    /**
+     * コミットした行をDBから読み直し、変更バージョン付きで通知します。
+     */
+    private void publishCommitted(List<EmployeeBulkReader.Row> applied) {
+        List<Integer> ids = new ArrayList<>(applied.size());
+        for (EmployeeBulkReader.Row row : applied) {
+            ids.add(row.getEmployee().getEmployeeId());
+        }
+        for (int from = 0; from < ids.size(); from += EmployeeService.MAX_BATCH_SIZE) {
+            List<Integer> chunk = ids.subList(from, Math.min(from + EmployeeService.MAX_BATCH_SIZE, ids.size()));
+            for (Employee employee : mapper.findByIds(chunk)) {
+                eventPublisher.publishEvent(new EmployeeChangedEvent(employee.getEmployeeId(), employee));
+            }
+        }
+    }
+
+    /**
+     * DBのNOT NULL制約に違反する行を、DBへ送る前にエラーにします。
+     *
+     * @return エラー内容（問題ない場合はnull）
+     */
+    private static String validate(Employee employee) {
+        if (employee == null) {
+            return "empty row";
+        }
+        List<String> missing = new ArrayList<>();
+        if (employee.getEmployeeId() == null) {
+            missing.add("employeeId");
+        }
+        if (isBlank(employee.getFirstName())) {
+            missing.add("firstName");
+        }
+        if (isBlank(employee.getLastName())) {
+            missing.add("lastName");
+        }
+        if (isBlank(employee.getEmail())) {
+            missing.add("email");
+        }
+        if (isBlank(employee.getJobId())) {
+            missing.add("jobId");
+        }
+        return missing.isEmpty() ? null : "required: " + String.join(", ", missing);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private void addError(EmployeeBulkResult result, EmployeeBulkReader.Row row, String message) {
+        result.setFailed(result.getFailed() + 1);
+        if (result.getErrors().size() >= maxReportedErrors) {
+            result.setErrorsTruncated(true);
+            return;
+        }
+        Integer employeeId = row.getEmployee() != null ? row.getEmployee().getEmployeeId() : null;
+        result.getErrors().add(new EmployeeBulkResult.RowError(row.getLine(), employeeId, message));
+    }
+
+    private static double rowsPerSecond(long rows, long elapsedNanos) {
+        return elapsedNanos > 0 ? rows * 1_000_000_000d / elapsedNanos : 0;
+    }
+}
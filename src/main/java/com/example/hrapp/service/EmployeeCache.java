@@ -0,0 +1,201 @@
+package com.example.hrapp.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.example.hrapp.config.HrProperties;
+import com.example.hrapp.mapper.EmployeeMapper;
+import com.example.hrapp.model.Employee;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 従業員IDをキーとしたリードスルーキャッシュ。
+ *
+ * <p>
+ * 件数上限と保持期間で削除され、存在しないIDも短期間キャッシュします（ネガティブキャッシュ）。 同一IDへの同時ミスは1回のDB検索にまとめられます。
+ * 複数ID指定時は、ミスしたIDだけを {@code hr.batch.chunk-size} 件ずつのINリストで一括検索します。
+ * ヒット・ミス・ロード時間・削除件数は {@code cache.*}（{@code cache=employeeById}）メトリクスとして公開します。
+ */
+@Slf4j
+@Component
+public class EmployeeCache {
+    /** メトリクスに付与するキャッシュ名 */
+    static final String CACHE_NAME = "employeeById";
+
+    private final EmployeeMapper mapper;
+
+    /** 一括検索1回あたりのID数（1～{@value EmployeeService#MAX_BATCH_SIZE}） */
+    private final int chunkSize;
+
+    /** キャッシュ本体（無効化されている場合はnull） */
+    private final LoadingCache<Integer, Optional<Employee>> cache;
+
+    public EmployeeCache(EmployeeMapper mapper, HrProperties properties, MeterRegistry meterRegistry) {
+        this.mapper = mapper;
+        // OracleのINリストの上限（1000件）を超えないよう制限する
+        this.chunkSize = Math.clamp(properties.getBatch().getChunkSize(), 1, EmployeeService.MAX_BATCH_SIZE);
+        HrProperties.Cache config = properties.getCache();
+        if (!config.isEnabled()) {
+            log.info("EmployeeCache disabled");
+            this.cache = null;
+            return;
+        }
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(config.getMaximumSize())
+                .expireAfter(new PresenceExpiry(config.getExpireAfterWrite().toNanos(),
+                        config.getNegativeExpireAfterWrite().toNanos()))
+                .recordStats()
+                .build(new CacheLoader<Integer, Optional<Employee>>() {
+                    @Override
+                    public Optional<Employee> load(Integer id) {
+                        return Optional.ofNullable(mapper.findById(id));
+                    }
+
+                    @Override
+                    public Map<Integer, Optional<Employee>> loadAll(Set<? extends Integer> ids) {
+                        Map<Integer, Employee> found = loadByIds(ids);
+                        Map<Integer, Optional<Employee>> loaded = new HashMap<>();
+                        for (Integer id : ids) {
+                            loaded.put(id, Optional.ofNullable(found.get(id)));
+                        }
+                        return loaded;
+                    }
+                });
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 指定したIDの従業員データを取得します（キャッシュミス時はDBから読み込み）。
+     *
+     * @param id
+     *            従業員ID
+     * @return 従業員データ（存在しない場合はnull）
+     */
+    public Employee get(int id) {
+        if (cache == null) {
+            return mapper.findById(id);
+        }
+        return cache.get(id).orElse(null);
+    }
+
+    /**
+     * 指定した複数IDの従業員データを取得します（ミスしたIDのみチャンク単位でDBから一括読み込み）。
+     *
+     * @param ids
+     *            従業員IDリスト
+     * @return 従業員ID → 従業員データ（存在しないIDは含まない）
+     */
+    public Map<Integer, Employee> getAll(Collection<Integer> ids) {
+        if (cache == null) {
+            return loadByIds(ids);
+        }
+        Map<Integer, Employee> result = new HashMap<>();
+        cache.getAll(ids).forEach((id, employee) -> employee.ifPresent(e -> result.put(id, e)));
+        return result;
+    }
+
+    /**
+     * 指定したIDのキャッシュを破棄します。
+     *
+     * @param id
+     *            従業員ID
+     */
+    public void invalidate(int id) {
+        if (cache != null) {
+            cache.invalidate(id);
+        }
+    }
+
+    /**
+     * 従業員データの変更時に、該当IDのキャッシュを破棄します。
+     *
+     * @param event
+     *            従業員変更イベント
+     */
+    @EventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        invalidate(event.getEmployeeId());
+    }
+
+    /**
+     * 読み込み済みの従業員データをキャッシュに登録します（起動時の事前読み込み用）。
+     *
+     * @param employees
+     *            従業員データ
+     */
+    public void putAll(Collection<Employee> employees) {
+        if (cache == null) {
+            return;
+        }
+        for (Employee employee : employees) {
+            cache.put(employee.getEmployeeId(), Optional.of(employee));
+        }
+    }
+
+    /**
+     * すべてのキャッシュを破棄します。
+     */
+    public void invalidateAll() {
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
+    private Map<Integer, Employee> loadByIds(Collection<? extends Integer> ids) {
+        List<Integer> distinct = new ArrayList<>(new LinkedHashSet<>(ids));
+        Map<Integer, Employee> found = new HashMap<>();
+        for (int from = 0; from < distinct.size(); from += chunkSize) {
+            List<Integer> chunk = distinct.subList(from, Math.min(from + chunkSize, distinct.size()));
+            for (Employee employee : mapper.findByIds(chunk)) {
+                found.put(employee.getEmployeeId(), employee);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * 存在する従業員と存在しないIDとで保持期間を切り替える有効期限ポリシー。
+     */
+    private static final class PresenceExpiry implements Expiry<Integer, Optional<Employee>> {
+        private final long presentNanos;
+        private final long absentNanos;
+
+        PresenceExpiry(long presentNanos, long absentNanos) {
+            this.presentNanos = presentNanos;
+            this.absentNanos = absentNanos;
+        }
+
+        @Override
+        public long expireAfterCreate(Integer key, Optional<Employee> value, long currentTime) {
+            return value.isPresent() ? presentNanos : absentNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(Integer key, Optional<Employee> value, long currentTime,
+                long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Integer key, Optional<Employee> value, long currentTime,
+                long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package com.example.hrapp.service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.hrapp.config.HrProperties;
+import com.example.hrapp.model.Employee;
+import com.example.hrapp.model.EmployeeChange;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 従業員データの変更を、接続中のブラウザへServer-Sent Eventsで配信します（{@code GET /employees/stream}）。
+ *
+ * <p>
+ * 接続はServletの非同期処理で保持し、接続ごとのスレッドは持ちません。 {@link EmployeeChangedEvent} は接続ごとの未送信バッファに積み、
+ * 送信中でなければ仮想スレッドで送信します。 送信が追いつかない接続では同じ従業員IDの変更を最新の1件にまとめ、
+ * {@code hr.stream.max-pending} 件を超えた場合は未送信分を破棄して {@code reset}（全件再取得の依頼）を送ります。
+ *
+ * <p>
+ * 送信するイベント：
+ * <ul>
+ * <li>{@code changes} … 変更リスト（{@link EmployeeChange} の配列、変更順）</li>
+ * <li>{@code reset} … 未送信分を破棄したため、画面を全件取得からやり直す</li>
+ * </ul>
+ * 接続数・破棄件数は {@code hr.stream.*} メトリクスとして公開します。
+ */
+@Slf4j
+@Component
+public class EmployeeChangeBroadcaster {
+    /** {@code changes} イベント名 */
+    public static final String EVENT_CHANGES = "changes";
+
+    /** {@code reset} イベント名 */
+    public static final String EVENT_RESET = "reset";
+
+    private final HrProperties.Stream config;
+
+    /** 接続中の購読者 */
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    /** 確保済みの接続枠の数（登録中・接続中の購読者数） */
+    private final AtomicInteger slots = new AtomicInteger();
+
+    /** 送信処理用（送信中の接続ごとに1つの仮想スレッド。送信待ちの間もプラットフォームスレッドを占有しない） */
+    private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Counter coalesced;
+
+    private final Counter resets;
+
+    public EmployeeChangeBroadcaster(HrProperties properties, MeterRegistry meterRegistry) {
+        this.config = properties.getStream();
+        Gauge.builder("hr.stream.subscribers", subscribers, Set::size)
+                .description("変更通知（SSE）の接続数")
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("hr.stream.coalesced")
+                .description("同じ従業員IDの未送信の変更にまとめた件数")
+                .register(meterRegistry);
+        this.resets = Counter.builder("hr.stream.resets")
+                .description("未送信分が上限を超え、全件再取得を通知した回数")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 新しい接続を登録します。
+     *
+     * @return 接続（接続数が上限に達している場合はnull）
+     */
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(config.getTimeout().toMillis());
+        return register(emitter) != null ? emitter : null;
+    }
+
+    /**
+     * 接続を購読者として登録し、切断・タイムアウト時に登録解除します。
+     *
+     * @return 購読者（接続数が上限に達している場合はnull）
+     */
+    Subscriber register(SseEmitter emitter) {
+        // 上限の確認と枠の確保を1回の操作で行い、同時に接続されても上限を超えないようにする
+        int reserved = slots.incrementAndGet();
+        if (reserved > config.getMaxSubscribers()) {
+            slots.decrementAndGet();
+            log.warn("subscribe() rejected: {} subscribers", reserved - 1);
+            return null;
+        }
+        Subscriber subscriber = new Subscriber(emitter);
+        subscribers.add(subscriber);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+        log.info("subscribe() result: {} subscribers", subscribers.size());
+        return subscriber;
+    }
+
+    /**
+     * 従業員データの変更を全接続の未送信バッファに追加します。
+     *
+     * @param event
+     *            従業員変更イベント
+     */
+    @EventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        Employee current = event.getCurrent();
+        EmployeeChange change = new EmployeeChange(event.getEmployeeId(),
+                current != null ? current.getChangeVersion() : null, event.isDeleted(), current);
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(change);
+        }
+    }
+
+    /**
+     * 一定間隔で空イベント（コメント）を送り、切断された接続を検知します。
+     */
+    @Scheduled(initialDelayString = "${hr.stream.heartbeat-interval:PT15S}",
+            fixedDelayString = "${hr.stream.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.heartbeat();
+        }
+    }
+
+    /**
+     * 接続中の購読者数を返します。
+     *
+     * @return 購読者数
+     */
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * アプリケーション終了時に全接続を閉じます。
+     */
+    @PreDestroy
+    public void shutdown() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.close();
+            subscriber.emitter.complete();
+        }
+        sender.shutdownNow();
+    }
+
+    /**
+     * 1接続分の未送信バッファと送信状態。
+     *
+     * <p>
+     * 未送信の変更は従業員ID単位で最新の1件だけを保持し、送信処理は同時に1つだけ動かします。
+     */
+    final class Subscriber {
+        private final SseEmitter emitter;
+
+        /** 従業員ID → 未送信の最新の変更（最後に変更された順） */
+        private final LinkedHashMap<Integer, EmployeeChange> pending = new LinkedHashMap<>();
+
+        /** 未送信分を破棄し、reset の送信が必要か */
+        private boolean resetPending;
+
+        /** 空イベントの送信が必要か */
+        private boolean heartbeatPending;
+
+        /** 送信処理が動いているか */
+        private boolean sending;
+
+        private boolean closed;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void offer(EmployeeChange change) {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                if (!resetPending) {
+                    if (pending.remove(change.getEmployeeId()) != null) {
+                        coalesced.increment();
+                    }
+                    pending.put(change.getEmployeeId(), change);
+                    if (pending.size() > config.getMaxPending()) {
+                        // 送信が追いつかない接続：個別の変更は諦め、全件再取得を依頼する
+                        pending.clear();
+                        resetPending = true;
+                        resets.increment();
+                    }
+                }
+                if (!startSending()) {
+                    return;
+                }
+            }
+            sender.execute(this::drain);
+        }
+
+        void heartbeat() {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                heartbeatPending = true;
+                if (!startSending()) {
+                    return;
+                }
+            }
+            sender.execute(this::drain);
+        }
+
+        /**
+         * 送信処理が動いていなければ開始状態にします。
+         *
+         * @return 送信処理を開始する必要がある場合はtrue
+         */
+        private boolean startSending() {
+            if (sending) {
+                return false;
+            }
+            sending = true;
+            return true;
+        }
+
+        /**
+         * 未送信分がなくなるまで送信します（送信中に追加された変更は次の1回にまとめて送る）。
+         */
+        private void drain() {
+            while (true) {
+                List<EmployeeChange> changes;
+                boolean reset;
+                synchronized (this) {
+                    if (closed || (pending.isEmpty() && !resetPending && !heartbeatPending)) {
+                        sending = false;
+                        return;
+                    }
+                    changes = new ArrayList<>(pending.values());
+                    pending.clear();
+                    reset = resetPending;
+                    resetPending = false;
+                    heartbeatPending = false;
+                }
+                try {
+                    if (reset) {
+                        emitter.send(SseEmitter.event().name(EVENT_RESET).data(""));
+                    } else if (!changes.isEmpty()) {
+                        emitter.send(SseEmitter.event().name(EVENT_CHANGES).data(changes, MediaType.APPLICATION_JSON));
+                    } else {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    }
+                } catch (IOException | IllegalStateException e) {
+                    // 切断済み（送信エラーはコンテナが onError で通知するため、登録解除のみ行う）
+                    log.debug("send failed, unsubscribing: {}", e.getMessage());
+                    close();
+                    return;
+                }
+            }
+        }
+
+        void close() {
+            synchronized (this) {
+                closed = true;
+                sending = false;
+                pending.clear();
+            }
+            if (subscribers.remove(this)) {
+                slots.decrementAndGet();
+                log.info("unsubscribe() result: {} subscribers", subscribers.size());
+            }
+        }
+    }
+}
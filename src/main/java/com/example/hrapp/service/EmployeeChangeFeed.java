@@ -0,0 +1,132 @@
+package com.example.hrapp.service;
+
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.hrapp.config.HrProperties;
+import com.example.hrapp.model.EmployeeChange;
+import com.example.hrapp.model.EmployeeChangeSet;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 変更フィードを定期的に読み、変更を {@link EmployeeChangedEvent} として通知します。
+ *
+ * <p>
+ * 他のアプリケーションインスタンスや夜間の取り込みツールなど、このインスタンス以外からの更新も
+ * ID検索キャッシュ・名前索引・集計に反映するために使用します。 起動時点の最新バージョンから読み始めます（起動時点の状態は各コンポーネントが構築時に読み込み済み）。
+ *
+ * <p>
+ * シーケンスの採番順とコミット順は一致しないため、毎回、通知済みの最新バージョンから {@code hr.changes.lag-window} 分巻き戻して読み直し、
+ * 後からコミットされた小さいバージョンの変更も通知します。 巻き戻した範囲の通知済みの変更バージョンを保持し、同じ変更は1回だけ通知します。
+ */
+@Slf4j
+@Component
+public class EmployeeChangeFeed {
+
+    private final EmployeeService service;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final HrProperties properties;
+
+    /** 通知済みの最新の変更バージョン（読み込み開始前は-1） */
+    private volatile long lastVersion = -1;
+
+    /** 巻き戻して読み直す範囲のうち、通知済み（起動時点で読み込み済みを含む）の変更バージョン */
+    private final NavigableSet<Long> notified = new TreeSet<>();
+
+    public EmployeeChangeFeed(EmployeeService service, ApplicationEventPublisher eventPublisher,
+            HrProperties properties) {
+        this.service = service;
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+    }
+
+    /**
+     * アプリケーション起動完了時に、その時点の最新バージョンを読み込み開始位置にします。
+     *
+     * <p>
+     * 以降の変更を取りこぼさないよう、データを読み込む他の起動時処理（名前索引・ウォームアップ等）より先に実行します。
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public synchronized void onApplicationReady() {
+        if (properties.getChanges().isPollEnabled()) {
+            long current = service.getCurrentChangeVersion();
+            // 起動時点までにコミット済みの変更は読み込み済みのため、巻き戻して読み直す範囲の重複として除く
+            read(rereadSince(current), change -> {
+                if (change.getChangeVersion() <= current) {
+                    notified.add(change.getChangeVersion());
+                }
+            });
+            lastVersion = current;
+            log.info("EmployeeChangeFeed started at version {}", lastVersion);
+        }
+    }
+
+    /**
+     * 前回以降の変更（巻き戻した範囲で未通知のものを含む）を読み込み、1件ずつ通知します。
+     */
+    @Scheduled(initialDelayString = "${hr.changes.poll-interval:PT10S}",
+            fixedDelayString = "${hr.changes.poll-interval:PT10S}")
+    public synchronized void poll() {
+        if (!properties.getChanges().isPollEnabled() || lastVersion < 0) {
+            return;
+        }
+        long start = System.nanoTime();
+        long[] count = { 0 };
+        read(rereadSince(lastVersion), change -> {
+            if (notified.add(change.getChangeVersion())) {
+                eventPublisher.publishEvent(new EmployeeChangedEvent(change.getEmployeeId(), change.getEmployee()));
+                count[0]++;
+            }
+        });
+        if (!notified.isEmpty()) {
+            lastVersion = Math.max(lastVersion, notified.last());
+        }
+        // 次回の読み直しの範囲より前の変更バージョンは再び読み込まないため破棄する
+        notified.headSet(rereadSince(lastVersion), true).clear();
+        if (count[0] > 0) {
+            log.info("EmployeeChangeFeed applied {} changes up to version {} ({} ms)", count[0], lastVersion,
+                    (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    /**
+     * 通知済みの最新の変更バージョンを返します。
+     *
+     * @return 変更バージョン（読み込み開始前は-1）
+     */
+    public long getLastVersion() {
+        return lastVersion;
+    }
+
+    /**
+     * 指定バージョンより後の変更を、続きがなくなるまで変更バージョン順に読み込みます。
+     */
+    private void read(long since, Consumer<EmployeeChange> action) {
+        EmployeeChangeSet changes;
+        do {
+            changes = service.readChanges(since, properties.getChanges().getPollBatchSize());
+            changes.getChanges().forEach(action);
+            since = changes.getNextSince();
+        } while (changes.isHasMore());
+    }
+
+    /**
+     * 巻き戻して読み直す開始位置を返します。
+     */
+    private long rereadSince(long version) {
+        return Math.max(version - Math.max(properties.getChanges().getLagWindow(), 0), 0);
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.hrapp.service;
+
+import com.example.hrapp.model.Employee;
+
+import lombok.Value;
+
+/**
+ * 従業員データが追加・更新・削除されたことを通知するアプリケーションイベント。
+ *
+ * <p>
+ * {@link EmployeeStatistics} などのメモリ内の集計・キャッシュは、このイベントを受けて該当従業員分だけを反映します。
+ */
+@Value
+public class EmployeeChangedEvent {
+    /** 従業員ID */
+    int employeeId;
+
+    /** 変更後の従業員データ（削除された場合はnull） */
+    Employee current;
+
+    /**
+     * 削除イベントかを返します。
+     *
+     * @return 削除された場合はtrue
+     */
+    public boolean isDeleted() {
+        return current == null;
+    }
+}
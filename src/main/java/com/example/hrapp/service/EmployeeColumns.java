@@ -0,0 +1,498 @@
+package com.example.hrapp.service;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.example.hrapp.model.Employee;
+import com.example.hrapp.model.EmployeeTableState;
+
+/**
+ * 全従業員データの列指向・不変のスナップショット。
+ *
+ * <p>
+ * 行ごとの {@link Employee}（Integer・BigDecimal・String）の代わりに、列ごとのプリミティブ配列に格納します。
+ * <ul>
+ * <li>従業員ID・部署ID: int配列
+ * <li>給与: スケールを除いた値（long）とスケール（byte）。DBから読み込んだ値を表記（{@code 50000} と {@code 50000.00}）まで同じに復元します
+ * <li>変更バージョン: long配列
+ * <li>職種ID: 辞書（出現した値の一覧）の番号（short）
+ * <li>名・姓・メールアドレス・電話番号: 列ごとに1つのUTF-8バイト配列と各行の開始位置
+ * <li>従業員ID → 行番号: オープンアドレス法のintハッシュ表
+ * </ul>
+ * 構築後は変更しないため、読み取りは同期なしで並行に行えます。 {@link Employee} は取得のたびに生成します。
+ */
+public final class EmployeeColumns {
+    /** 部署IDのnull（実データには現れない値） */
+    private static final int NULL_INT = Integer.MIN_VALUE;
+
+    /** 変更バージョンのnull（実データには現れない値） */
+    private static final long NULL_LONG = Long.MIN_VALUE;
+
+    /** 給与のnull（スケールとしては使わない値） */
+    private static final byte NULL_SCALE = Byte.MIN_VALUE;
+
+    /** 職種IDのnull */
+    private static final short NULL_CODE = -1;
+
+    /** 配列1つあたりのオブジェクトヘッダーの概算バイト数 */
+    private static final int ARRAY_HEADER = 16;
+
+    /** 文字列1つあたりのオブジェクトヘッダー（String・byte[]）の概算バイト数 */
+    private static final int STRING_HEADER = 40;
+
+    private final int size;
+
+    private final int[] ids;
+
+    private final StringColumn firstNames;
+
+    private final StringColumn lastNames;
+
+    private final StringColumn emails;
+
+    private final StringColumn phoneNumbers;
+
+    private final short[] jobCodes;
+
+    private final String[] jobDictionary;
+
+    private final long[] salaryUnscaled;
+
+    private final byte[] salaryScales;
+
+    private final int[] departmentIds;
+
+    private final long[] changeVersions;
+
+    private final IntIntMap rowById;
+
+    private EmployeeColumns(Builder builder) {
+        this.size = builder.size;
+        this.ids = Arrays.copyOf(builder.ids, size);
+        this.firstNames = builder.firstNames.build();
+        this.lastNames = builder.lastNames.build();
+        this.emails = builder.emails.build();
+        this.phoneNumbers = builder.phoneNumbers.build();
+        this.jobCodes = Arrays.copyOf(builder.jobCodes, size);
+        this.jobDictionary = builder.jobDictionary.toArray(new String[0]);
+        this.salaryUnscaled = Arrays.copyOf(builder.salaryUnscaled, size);
+        this.salaryScales = Arrays.copyOf(builder.salaryScales, size);
+        this.departmentIds = Arrays.copyOf(builder.departmentIds, size);
+        this.changeVersions = Arrays.copyOf(builder.changeVersions, size);
+        this.rowById = new IntIntMap(ids);
+    }
+
+    /**
+     * 従業員ID順の従業員データからスナップショットを構築します。
+     *
+     * @param employees
+     *            従業員データ（従業員ID昇順）
+     * @return スナップショット
+     * @throws IllegalArgumentException
+     *             従業員IDがnull・昇順でない場合
+     * @throws IllegalStateException
+     *             列の形式で表せない値（桁数の大きすぎる給与等）を含む場合
+     */
+    public static EmployeeColumns of(Iterable<? extends Employee> employees) {
+        Builder builder = builder();
+        for (Employee employee : employees) {
+            builder.add(employee);
+        }
+        return builder.build();
+    }
+
+    /**
+     * 1行ずつ追加して構築するビルダーを返します。
+     *
+     * @return ビルダー
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 件数を返します。
+     *
+     * @return 件数
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 指定したIDの従業員データを返します。
+     *
+     * @param id
+     *            従業員ID
+     * @return 従業員データ（存在しない場合はnull）
+     */
+    public Employee get(int id) {
+        int row = rowById.get(id);
+        return row < 0 ? null : employee(row);
+    }
+
+    /**
+     * 全従業員データをID順に返します。
+     *
+     * @return 従業員リスト
+     */
+    public List<Employee> toList() {
+        List<Employee> employees = new ArrayList<>(size);
+        for (int row = 0; row < size; row++) {
+            employees.add(employee(row));
+        }
+        return employees;
+    }
+
+    /**
+     * 名または姓に指定文字列を含む従業員をID順に返します（{@code selectByName} の {@code LIKE '%name%'} と同じ結果）。
+     *
+     * <p>
+     * UTF-8のバイト列のまま比較するため、行ごとの文字列の生成は一致した行のみです。
+     *
+     * @param name
+     *            検索する名前（{@link EmployeeNameIndex#supports(String)} を満たすこと）
+     * @return 該当する従業員リスト
+     */
+    public List<Employee> search(String name) {
+        byte[] pattern = name.getBytes(StandardCharsets.UTF_8);
+        List<Employee> employees = new ArrayList<>();
+        for (int row = 0; row < size; row++) {
+            if (firstNames.contains(row, pattern) || lastNames.contains(row, pattern)) {
+                employees.add(employee(row));
+            }
+        }
+        return employees;
+    }
+
+    /**
+     * 件数と変更バージョンの集計を返します（{@code findTableState} と同じ形式）。
+     *
+     * @return 件数・変更バージョンの合計・最大値
+     */
+    public EmployeeTableState tableState() {
+        long sum = 0;
+        long max = NULL_LONG;
+        for (long changeVersion : changeVersions) {
+            // SQLの集計関数と同じくnullは除く
+            if (changeVersion != NULL_LONG) {
+                sum += changeVersion;
+                max = Math.max(max, changeVersion);
+            }
+        }
+        return max == NULL_LONG ? new EmployeeTableState(size, null, null) : new EmployeeTableState(size, sum, max);
+    }
+
+    /**
+     * 保持している配列の概算バイト数を返します。
+     *
+     * @return 概算バイト数
+     */
+    public long estimatedBytes() {
+        long bytes = ARRAY_HEADER * 7L + 4L * size + 2L * size + 8L * size + size + 4L * size + 8L * size;
+        for (String job : jobDictionary) {
+            bytes += STRING_HEADER + job.length();
+        }
+        return bytes + firstNames.estimatedBytes() + lastNames.estimatedBytes() + emails.estimatedBytes()
+                + phoneNumbers.estimatedBytes() + rowById.estimatedBytes();
+    }
+
+    private Employee employee(int row) {
+        Employee employee = new Employee();
+        employee.setEmployeeId(ids[row]);
+        employee.setFirstName(firstNames.get(row));
+        employee.setLastName(lastNames.get(row));
+        employee.setEmail(emails.get(row));
+        employee.setPhoneNumber(phoneNumbers.get(row));
+        employee.setJobId(jobCodes[row] == NULL_CODE ? null : jobDictionary[jobCodes[row]]);
+        employee.setSalary(salaryScales[row] == NULL_SCALE ? null
+                : BigDecimal.valueOf(salaryUnscaled[row], salaryScales[row]));
+        employee.setDepartmentId(departmentIds[row] == NULL_INT ? null : departmentIds[row]);
+        employee.setChangeVersion(changeVersions[row] == NULL_LONG ? null : changeVersions[row]);
+        return employee;
+    }
+
+    /**
+     * {@link EmployeeColumns} のビルダー（従業員ID昇順に追加すること）。
+     */
+    public static final class Builder {
+        private static final int INITIAL_CAPACITY = 1024;
+
+        private int size;
+
+        private int[] ids = new int[INITIAL_CAPACITY];
+
+        private final StringColumn.Builder firstNames = new StringColumn.Builder();
+
+        private final StringColumn.Builder lastNames = new StringColumn.Builder();
+
+        private final StringColumn.Builder emails = new StringColumn.Builder();
+
+        private final StringColumn.Builder phoneNumbers = new StringColumn.Builder();
+
+        private short[] jobCodes = new short[INITIAL_CAPACITY];
+
+        private final List<String> jobDictionary = new ArrayList<>();
+
+        private final Map<String, Short> jobCodeByValue = new HashMap<>();
+
+        private long[] salaryUnscaled = new long[INITIAL_CAPACITY];
+
+        private byte[] salaryScales = new byte[INITIAL_CAPACITY];
+
+        private int[] departmentIds = new int[INITIAL_CAPACITY];
+
+        private long[] changeVersions = new long[INITIAL_CAPACITY];
+
+        private Builder() {
+        }
+
+        /**
+         * 1行追加します。
+         *
+         * @param employee
+         *            従業員データ（直前に追加した行より大きい従業員ID）
+         * @return このビルダー
+         */
+        public Builder add(Employee employee) {
+            Integer id = employee.getEmployeeId();
+            if (id == null || (size > 0 && id <= ids[size - 1])) {
+                throw new IllegalArgumentException("employees must be in ascending employeeId order: " + id);
+            }
+            if (size == ids.length) {
+                grow();
+            }
+            ids[size] = id;
+            firstNames.add(employee.getFirstName());
+            lastNames.add(employee.getLastName());
+            emails.add(employee.getEmail());
+            phoneNumbers.add(employee.getPhoneNumber());
+            jobCodes[size] = jobCode(employee.getJobId());
+            setSalary(id, employee.getSalary());
+            departmentIds[size] = notNullMarker(employee.getDepartmentId(), id);
+            changeVersions[size] = notNullMarker(employee.getChangeVersion(), id);
+            size++;
+            return this;
+        }
+
+        /**
+         * スナップショットを構築します。
+         *
+         * @return スナップショット
+         */
+        public EmployeeColumns build() {
+            return new EmployeeColumns(this);
+        }
+
+        private short jobCode(String jobId) {
+            if (jobId == null) {
+                return NULL_CODE;
+            }
+            Short code = jobCodeByValue.get(jobId);
+            if (code == null) {
+                if (jobDictionary.size() == Short.MAX_VALUE) {
+                    throw new IllegalStateException("too many distinct jobId values: " + jobDictionary.size());
+                }
+                code = (short) jobDictionary.size();
+                jobDictionary.add(jobId);
+                jobCodeByValue.put(jobId, code);
+            }
+            return code;
+        }
+
+        private void setSalary(int id, BigDecimal salary) {
+            if (salary == null) {
+                salaryScales[size] = NULL_SCALE;
+                return;
+            }
+            if (salary.scale() <= NULL_SCALE || salary.scale() > Byte.MAX_VALUE) {
+                throw new IllegalStateException("unsupported salary scale: employeeId=" + id);
+            }
+            try {
+                salaryUnscaled[size] = salary.unscaledValue().longValueExact();
+            } catch (ArithmeticException e) {
+                throw new IllegalStateException("unsupported salary precision: employeeId=" + id, e);
+            }
+            salaryScales[size] = (byte) salary.scale();
+        }
+
+        private static int notNullMarker(Integer value, int id) {
+            if (value == null) {
+                return NULL_INT;
+            }
+            if (value == NULL_INT) {
+                throw new IllegalStateException("unsupported departmentId: employeeId=" + id);
+            }
+            return value;
+        }
+
+        private static long notNullMarker(Long value, int id) {
+            if (value == null) {
+                return NULL_LONG;
+            }
+            if (value == NULL_LONG) {
+                throw new IllegalStateException("unsupported changeVersion: employeeId=" + id);
+            }
+            return value;
+        }
+
+        private void grow() {
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            jobCodes = Arrays.copyOf(jobCodes, capacity);
+            salaryUnscaled = Arrays.copyOf(salaryUnscaled, capacity);
+            salaryScales = Arrays.copyOf(salaryScales, capacity);
+            departmentIds = Arrays.copyOf(departmentIds, capacity);
+            changeVersions = Arrays.copyOf(changeVersions, capacity);
+        }
+    }
+
+    /**
+     * 文字列の列（全行のUTF-8バイト列を連結した配列と、各行の開始位置）。
+     */
+    private static final class StringColumn {
+        private final byte[] data;
+
+        /** 各行の開始位置（行数+1件、最後は終端） */
+        private final int[] offsets;
+
+        private final BitSet nulls;
+
+        private StringColumn(byte[] data, int[] offsets, BitSet nulls) {
+            this.data = data;
+            this.offsets = offsets;
+            this.nulls = nulls;
+        }
+
+        String get(int row) {
+            if (nulls.get(row)) {
+                return null;
+            }
+            return new String(data, offsets[row], offsets[row + 1] - offsets[row], StandardCharsets.UTF_8);
+        }
+
+        /**
+         * 行の値がバイト列を含むかを返します（UTF-8は文字の境界以外で一致しないため、文字列の部分一致と同じ結果）。
+         */
+        boolean contains(int row, byte[] pattern) {
+            if (nulls.get(row)) {
+                return false;
+            }
+            int last = offsets[row + 1] - pattern.length;
+            for (int i = offsets[row]; i <= last; i++) {
+                int j = 0;
+                while (j < pattern.length && data[i + j] == pattern[j]) {
+                    j++;
+                }
+                if (j == pattern.length) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        long estimatedBytes() {
+            return ARRAY_HEADER * 3L + data.length + 4L * offsets.length + nulls.size() / 8;
+        }
+
+        static final class Builder {
+            private static final int INITIAL_BYTES = 16 * 1024;
+
+            private static final int INITIAL_ROWS = 1024;
+
+            private byte[] data = new byte[INITIAL_BYTES];
+
+            private int length;
+
+            private int[] offsets = new int[INITIAL_ROWS + 1];
+
+            private int rows;
+
+            private final BitSet nulls = new BitSet();
+
+            void add(String value) {
+                if (rows + 1 == offsets.length) {
+                    offsets = Arrays.copyOf(offsets, offsets.length * 2);
+                }
+                if (value == null) {
+                    nulls.set(rows);
+                } else {
+                    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                    if (length + bytes.length > data.length) {
+                        data = Arrays.copyOf(data, Math.max(data.length * 2, length + bytes.length));
+                    }
+                    System.arraycopy(bytes, 0, data, length, bytes.length);
+                    length += bytes.length;
+                }
+                offsets[++rows] = length;
+            }
+
+            StringColumn build() {
+                return new StringColumn(Arrays.copyOf(data, length), Arrays.copyOf(offsets, rows + 1),
+                        (BitSet) nulls.clone());
+            }
+        }
+    }
+
+    /**
+     * 従業員ID → 行番号のハッシュ表（オープンアドレス法・線形探索、構築後は読み取り専用）。
+     */
+    private static final class IntIntMap {
+        /** 空きスロット（行番号としては使わない値） */
+        private static final int EMPTY = -1;
+
+        private final int[] keys;
+
+        private final int[] values;
+
+        private final int mask;
+
+        /**
+         * 配列の添字を値として登録します（キーは重複しないこと）。
+         */
+        IntIntMap(int[] keys) {
+            int capacity = Integer.highestOneBit(Math.max(keys.length, 1) * 2 - 1) << 1;
+            this.keys = new int[capacity];
+            this.values = new int[capacity];
+            this.mask = capacity - 1;
+            Arrays.fill(values, EMPTY);
+            for (int row = 0; row < keys.length; row++) {
+                int slot = slot(keys[row]);
+                while (values[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                this.keys[slot] = keys[row];
+                values[slot] = row;
+            }
+        }
+
+        /**
+         * キーの値を返します（存在しない場合は負の値）。
+         */
+        int get(int key) {
+            int slot = slot(key);
+            while (values[slot] != EMPTY) {
+                if (keys[slot] == key) {
+                    return values[slot];
+                }
+                slot = (slot + 1) & mask;
+            }
+            return EMPTY;
+        }
+
+        long estimatedBytes() {
+            return ARRAY_HEADER * 2L + 8L * keys.length;
+        }
+
+        private int slot(int key) {
+            int h = key * 0x9E3779B9;
+            return (h ^ (h >>> 16)) & mask;
+        }
+    }
+}
@@ -0,0 +1,312 @@
+package com.example.hrapp.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.hrapp.config.HrProperties;
+import com.example.hrapp.mapper.EmployeeMapper;
+import com.example.hrapp.model.Employee;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 名・姓のトライグラム（3文字単位）転置索引によるメモリ内の名前検索。
+ *
+ * <p>
+ * {@code selectByName} の {@code LIKE '%name%'}（大文字小文字を区別する部分一致）と同じ結果を、 全件走査せずに返します。
+ * 起動時にMapperから構築し、{@code hr.search.refresh-interval} ごとに（変更フィードが有効な場合は変更があったときのみ）再構築して差し替えます。
+ * 再構築までの間は {@link EmployeeChangedEvent} の変更後データを索引に上書きし、変更直後の検索にも反映します。
+ */
+@Slf4j
+@Component
+public class EmployeeNameIndex {
+    /** 索引の単位文字数 */
+    private static final int GRAM = 3;
+
+    private final EmployeeMapper mapper;
+
+    private final HrProperties properties;
+
+    /** 現在の索引（未構築の場合はnull） */
+    private volatile Snapshot snapshot;
+
+    /** 索引構築後に従業員データが変更されたか */
+    private volatile boolean stale;
+
+    /** 再構築中に受けた変更（再構築中でない場合はnull） */
+    private volatile Map<Integer, Optional<Employee>> building;
+
+    public EmployeeNameIndex(EmployeeMapper mapper, HrProperties properties) {
+        this.mapper = mapper;
+        this.properties = properties;
+    }
+
+    /**
+     * アプリケーション起動完了時に索引を構築します。
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (properties.getSearch().isIndexEnabled()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 従業員データの変更を索引に上書きし、次回の定期処理で索引を再構築するよう記録します。
+     *
+     * @param event
+     *            従業員変更イベント
+     */
+    @EventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        Optional<Employee> change = Optional.ofNullable(event.getCurrent());
+        // 再構築中の変更は構築後の索引にも引き継ぐ（再構築の開始を先に確認し、差し替え前後どちらの索引にも漏れなく反映する）
+        Map<Integer, Optional<Employee>> pending = building;
+        if (pending != null) {
+            pending.put(event.getEmployeeId(), change);
+        }
+        Snapshot current = snapshot;
+        if (current != null) {
+            current.changes.put(event.getEmployeeId(), change);
+        }
+        stale = true;
+    }
+
+    /**
+     * 一定間隔で索引を再構築し、DBの変更を反映します。
+     *
+     * <p>
+     * 変更フィードが有効な場合は、変更があった場合のみ再構築します。
+     */
+    @Scheduled(initialDelayString = "${hr.search.refresh-interval:PT5M}",
+            fixedDelayString = "${hr.search.refresh-interval:PT5M}")
+    public void scheduledRefresh() {
+        if (properties.getSearch().isIndexEnabled() && snapshot != null
+                && (stale || !properties.getChanges().isPollEnabled())) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 全従業員データを読み込み、索引を再構築して差し替えます。
+     */
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        stale = false;
+        Map<Integer, Optional<Employee>> pending = new ConcurrentHashMap<>();
+        building = pending;
+        Snapshot built = Snapshot.build(mapper.findAll(), pending);
+        snapshot = built;
+        building = null;
+        log.info("EmployeeNameIndex rebuilt: {}件, {} grams ({} ms)", built.rows.length, built.postings.size(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * 索引で検索できる状態かを返します。
+     *
+     * @return 索引構築済みの場合はtrue
+     */
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    /**
+     * 指定した検索文字列を索引で扱えるかを返します。
+     *
+     * <p>
+     * LIKEのワイルドカード（{@code %}・{@code _}）を含む場合はSQLと同じ結果を保証できないため扱いません。
+     *
+     * @param name
+     *            検索する名前
+     * @return 索引で検索できる場合はtrue
+     */
+    public static boolean supports(String name) {
+        return name != null && name.indexOf('%') < 0 && name.indexOf('_') < 0;
+    }
+
+    /**
+     * 名または姓に指定文字列を含む従業員をID順に返します。
+     *
+     * @param name
+     *            検索する名前（{@link #supports(String)} を満たすこと）
+     * @return 該当する従業員リスト
+     */
+    public List<Employee> search(String name) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            throw new IllegalStateException("EmployeeNameIndex is not built yet");
+        }
+        return current.search(name);
+    }
+
+    /**
+     * 検索結果を一致度順（完全一致→前方一致→部分一致、同順位はID順）に並べ替えます。
+     *
+     * @param employees
+     *            検索結果
+     * @param name
+     *            検索した名前
+     * @return 並べ替えた従業員リスト
+     */
+    public static List<Employee> rank(List<Employee> employees, String name) {
+        List<Employee> ranked = new ArrayList<>(employees);
+        ranked.sort(Comparator.comparingInt((Employee e) -> score(e, name))
+                .thenComparing(Employee::getEmployeeId, Comparator.nullsLast(Comparator.naturalOrder())));
+        return ranked;
+    }
+
+    private static int score(Employee employee, String name) {
+        String first = employee.getFirstName();
+        String last = employee.getLastName();
+        if (name.equals(first) || name.equals(last)) {
+            return 0;
+        }
+        if ((first != null && first.startsWith(name)) || (last != null && last.startsWith(name))) {
+            return 1;
+        }
+        return 2;
+    }
+
+    private static boolean matches(Employee employee, String name) {
+        String first = employee.getFirstName();
+        String last = employee.getLastName();
+        return (first != null && first.contains(name)) || (last != null && last.contains(name));
+    }
+
+    private static long gramKey(String s, int offset) {
+        return ((long) s.charAt(offset) << 32) | ((long) s.charAt(offset + 1) << 16) | s.charAt(offset + 2);
+    }
+
+    /**
+     * ある時点の全従業員データと、そのトライグラム転置索引（不変）、および構築後に受けた変更。
+     */
+    private static final class Snapshot {
+        /** 従業員データ（ID順） */
+        private final Employee[] rows;
+
+        /** トライグラム → 該当行番号（昇順・重複なし） */
+        private final Map<Long, int[]> postings;
+
+        /** 構築後に受けた変更（従業員ID → 変更後データ、削除は空） */
+        private final Map<Integer, Optional<Employee>> changes;
+
+        private Snapshot(Employee[] rows, Map<Long, int[]> postings, Map<Integer, Optional<Employee>> changes) {
+            this.rows = rows;
+            this.postings = postings;
+            this.changes = changes;
+        }
+
+        static Snapshot build(List<Employee> employees, Map<Integer, Optional<Employee>> changes) {
+            Employee[] rows = employees.toArray(new Employee[0]);
+            Arrays.sort(rows, Comparator.comparing(Employee::getEmployeeId,
+                    Comparator.nullsLast(Comparator.naturalOrder())));
+            Map<Long, PostingBuilder> builders = new HashMap<>();
+            for (int row = 0; row < rows.length; row++) {
+                addGrams(builders, rows[row].getFirstName(), row);
+                addGrams(builders, rows[row].getLastName(), row);
+            }
+            Map<Long, int[]> postings = new HashMap<>(builders.size() * 2);
+            builders.forEach((key, builder) -> postings.put(key, builder.toArray()));
+            return new Snapshot(rows, postings, changes);
+        }
+
+        private static void addGrams(Map<Long, PostingBuilder> builders, String value, int row) {
+            if (value == null) {
+                return;
+            }
+            for (int i = 0; i + GRAM <= value.length(); i++) {
+                builders.computeIfAbsent(gramKey(value, i), k -> new PostingBuilder()).add(row);
+            }
+        }
+
+        List<Employee> search(String name) {
+            List<Employee> indexed = searchRows(name);
+            if (changes.isEmpty()) {
+                return indexed;
+            }
+            // 変更された従業員は索引の行を除き、変更後データで照合し直す
+            List<Employee> result = new ArrayList<>(indexed.size());
+            for (Employee employee : indexed) {
+                if (!changes.containsKey(employee.getEmployeeId())) {
+                    result.add(employee);
+                }
+            }
+            changes.values().forEach(change -> change.filter(employee -> matches(employee, name))
+                    .ifPresent(result::add));
+            result.sort(Comparator.comparing(Employee::getEmployeeId,
+                    Comparator.nullsLast(Comparator.naturalOrder())));
+            return result;
+        }
+
+        private List<Employee> searchRows(String name) {
+            List<Employee> result = new ArrayList<>();
+            if (name.length() < GRAM) {
+                // 短い検索語は索引を使えないため全件を照合する
+                for (Employee employee : rows) {
+                    if (matches(employee, name)) {
+                        result.add(employee);
+                    }
+                }
+                return result;
+            }
+            int[][] lists = new int[name.length() - GRAM + 1][];
+            for (int i = 0; i < lists.length; i++) {
+                int[] posting = postings.get(gramKey(name, i));
+                if (posting == null) {
+                    return result;
+                }
+                lists[i] = posting;
+            }
+            Arrays.sort(lists, Comparator.comparingInt(list -> list.length));
+            for (int row : lists[0]) {
+                if (containsAll(lists, row) && matches(rows[row], name)) {
+                    result.add(rows[row]);
+                }
+            }
+            return result;
+        }
+
+        private static boolean containsAll(int[][] lists, int row) {
+            for (int i = 1; i < lists.length; i++) {
+                if (Arrays.binarySearch(lists[i], row) < 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * 行番号リストの構築用バッファ（行番号は昇順に追加される前提）。
+     */
+    private static final class PostingBuilder {
+        private int[] rows = new int[4];
+        private int size;
+
+        void add(int row) {
+            if (size > 0 && rows[size - 1] == row) {
+                return;
+            }
+            if (size == rows.length) {
+                rows = Arrays.copyOf(rows, size * 2);
+            }
+            rows[size++] = row;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(rows, size);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.hrapp.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.stereotype.Component;
+
+import com.example.hrapp.config.DataAccessConfig;
+import com.example.hrapp.config.HrProperties;
+import com.example.hrapp.jdbc.ConnectionLimitDataSource;
+import com.example.hrapp.mapper.EmployeeMapper;
+import com.example.hrapp.model.Employee;
+import com.zaxxer.hikari.HikariDataSource;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 全従業員データを従業員IDの範囲ごとに並列に読み込み、ID順に連結します（{@code hr.parallel-read.enabled=true} の場合）。
+ *
+ * <p>
+ * 最小～最大の従業員IDを {@code hr.parallel-read.range-size} ごとの範囲に分け、最大 {@code hr.parallel-read.parallelism}
+ * 個の範囲を仮想スレッドで同時に {@link EmployeeMapper#findRange(int, int)} します（範囲ごとに別の接続）。 範囲は先頭から順に
+ * 呼び出し元へ渡し、渡し終えた分だけ次の範囲の読み込みを開始するため、メモリに保持するのは読み込み中の範囲の分だけです。
+ *
+ * <p>
+ * 同時実行数は、他のリクエスト用に1接続を残すよう、コネクションプールの最大サイズ-1以下に制限します（プールサイズを取得できない場合は
+ * {@link DataAccessConfig#DEFAULT_LIMIT}-1）。 この上限は1回の読み込みごとではなくインスタンス全体で共有し、同時に複数の読み込みが
+ * 行われても範囲のSQLの実行数の合計が上限を超えないようにします。 呼び出し元はトランザクションを開始せずに呼び出します（接続を保持したまま
+ * 範囲ごとの接続を待たないため）。 範囲ごとに別のトランザクションで読むため、1回のSQLで読む場合と異なり、読み込み中の更新は範囲によって
+ * 反映される場合とされない場合があります。
+ */
+@Slf4j
+@Component
+public class EmployeeRangeReader {
+    private final EmployeeMapper mapper;
+
+    private final HrProperties.ParallelRead config;
+
+    /** コネクションプールの大きさによる同時実行数の上限 */
+    private final int maxParallelism;
+
+    /** 実行中の範囲のSQLの数を、全ての読み込みの合計で同時実行数の上限以下にする */
+    private final Semaphore rangePermits;
+
+    /** 範囲ごとの読み込み用（読み込み中の範囲ごとに1つの仮想スレッド） */
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public EmployeeRangeReader(EmployeeMapper mapper, HrProperties properties, DataSource dataSource) {
+        this.mapper = mapper;
+        this.config = properties.getParallelRead();
+        HikariDataSource hikari = DataSourceUnwrapper.unwrap(dataSource, HikariDataSource.class);
+        int connections = hikari != null ? hikari.getMaximumPoolSize() : DataAccessConfig.DEFAULT_LIMIT;
+        if (dataSource instanceof ConnectionLimitDataSource limited) {
+            connections = Math.min(connections, limited.getLimit());
+        }
+        this.maxParallelism = Math.max(connections - 1, 1);
+        this.rangePermits = new Semaphore(maxParallelism, true);
+    }
+
+    /**
+     * 並列読み込みを行うかを返します。
+     *
+     * @return 有効で、同時実行数が2以上の場合はtrue
+     */
+    public boolean isEnabled() {
+        return config.isEnabled() && parallelism() > 1;
+    }
+
+    /**
+     * 同時に読み込む範囲の数を返します。
+     *
+     * @return 設定値をコネクションプールの大きさで制限した値
+     */
+    public int parallelism() {
+        return Math.max(Math.min(config.getParallelism(), maxParallelism), 1);
+    }
+
+    /**
+     * 全従業員データをID順に取得します。
+     *
+     * @return 従業員リスト（ID順）
+     */
+    public List<Employee> readAll() {
+        List<Employee> employees = new ArrayList<>();
+        read(employees::add);
+        return employees;
+    }
+
+    /**
+     * 全従業員データをID順に1行ずつ指定した処理に渡します。
+     *
+     * <p>
+     * 処理が例外を投げた場合は、未開始の範囲の読み込みを取り消して例外をそのまま投げます。
+     *
+     * @param action
+     *            1行ごとに呼び出す処理
+     * @return 処理した件数
+     */
+    public long read(Consumer<Employee> action) {
+        Integer min = mapper.findMinEmployeeId();
+        Integer max = mapper.findMaxEmployeeId();
+        if (min == null || max == null) {
+            return 0;
+        }
+        int parallelism = parallelism();
+        long rangeSize = Math.max(config.getRangeSize(), 1);
+        Deque<Future<List<Employee>>> pending = new ArrayDeque<>(parallelism);
+        long next = min;
+        long count = 0;
+        int ranges = 0;
+        try {
+            while (next <= max || !pending.isEmpty()) {
+                while (next <= max && pending.size() < parallelism) {
+                    int from = (int) next;
+                    int to = (int) Math.min(next + rangeSize - 1, max);
+                    pending.add(executor.submit(() -> findRange(from, to)));
+                    next = (long) to + 1;
+                    ranges++;
+                }
+                for (Employee employee : await(pending.poll())) {
+                    action.accept(employee);
+                    count++;
+                }
+            }
+        } finally {
+            // 読み込み中のSQLは中断せず（接続を壊さないため）、未開始の範囲のみ取り消す
+            pending.forEach(future -> future.cancel(false));
+        }
+        log.debug("EmployeeRangeReader read {}件 in {} ranges (parallelism={})", count, ranges, parallelism);
+        return count;
+    }
+
+    /**
+     * アプリケーション終了時に読み込み用のスレッドを停止します。
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 範囲のSQLの実行数が上限に達している場合は、他の範囲（他の読み込みのものを含む）の完了を待ってから実行します。
+     */
+    private List<Employee> findRange(int from, int to) throws InterruptedException {
+        rangePermits.acquire();
+        try {
+            return mapper.findRange(from, to);
+        } finally {
+            rangePermits.release();
+        }
+    }
+
+    private static List<Employee> await(Future<List<Employee>> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("parallel read interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("parallel read failed", e.getCause());
+        }
+    }
+}
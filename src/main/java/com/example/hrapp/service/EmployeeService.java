@@ -1,11 +1,34 @@
 package com.example.hrapp.service;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
+import com.example.hrapp.config.HrProperties;
 import com.example.hrapp.mapper.EmployeeMapper;
 import com.example.hrapp.model.Employee;
+import com.example.hrapp.model.EmployeeBatchResult;
+import com.example.hrapp.model.EmployeeChange;
+import com.example.hrapp.model.EmployeeChangeSet;
+import com.example.hrapp.model.EmployeeField;
+import com.example.hrapp.model.EmployeePage;
+import com.example.hrapp.model.EmployeeQuery;
+import com.example.hrapp.model.EmployeeTableState;
+import com.example.hrapp.model.ProjectedEmployee;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,51 +37,457 @@ import lombok.extern.slf4j.Slf4j;
  * 従業員情報の取得・検索サービス。
  *
  * <p>
- * Mapperを利用してDBアクセスを行います。
+ * Mapperを利用してDBアクセスを行います。 ID検索は {@link EmployeeCache}、名前検索は {@link EmployeeNameIndex} を経由します。
+ * 読み取りレプリカモード（{@code hr.snapshot.enabled=true}）では、全件取得・ID検索・名前検索を {@link EmployeeSnapshot} から返します。
+ * {@code hr.parallel-read.enabled=true} の場合、DBからの全件取得・エクスポートは {@link EmployeeRangeReader} で並列に読み込みます。
+ *
+ * <p>
+ * ログは1呼び出しにつき件数と処理時間の1行のみ出力します。 取得したエンティティの内容は、このクラスのログレベルをTRACEにした場合のみ出力します
+ * （{@code logging.level.com.example.hrapp.service.EmployeeService: TRACE}）。
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class EmployeeService {
+    /** 1ページあたりの最大取得件数 */
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    /** ID一括取得で指定できる最大ID数 */
+    public static final int MAX_BATCH_SIZE = 1000;
+
     private final EmployeeMapper mapper;
 
+    private final EmployeeCache employeeCache;
+
+    private final EmployeeNameIndex nameIndex;
+
+    private final EmployeeSnapshot snapshot;
+
+    private final EmployeeRangeReader rangeReader;
+
+    private final HrProperties properties;
+
+    /** Cursorでのエクスポート用（並列読み込みの場合は範囲ごとに接続を使うため、トランザクションを開始しない） */
+    private final TransactionOperations transactionOperations;
+
+    /** 実行中の名前検索SQL（検索文字列 → 結果）。同じ文字列の同時検索は1回のSQLの結果を共有する */
+    private final ConcurrentMap<String, CompletableFuture<List<Employee>>> namesInFlight = new ConcurrentHashMap<>();
+
     /**
      * 全従業員データを取得します。
      *
      * @return 従業員リスト
      */
     public List<Employee> getAll() {
-        log.info("getAll() called");
-        List<Employee> employees = mapper.findAll();
-        log.info("getAll() result: {}件", employees.size());
+        long start = System.nanoTime();
+        EmployeeColumns columns = snapshot.current();
+        List<Employee> employees;
+        String source;
+        if (columns != null) {
+            employees = columns.toList();
+            source = "snapshot";
+        } else if (rangeReader.isEnabled()) {
+            employees = rangeReader.readAll();
+            source = "parallel sql";
+        } else {
+            employees = mapper.findAll();
+            source = "sql";
+        }
+        log.info("getAll() result: {}件 from {} ({} ms)", employees.size(), source, elapsedMillis(start));
+        traceEntities("getAll()", employees);
+        return employees;
+    }
+
+    /**
+     * 全従業員データの件数と変更バージョンの集計を返します（全件取得のETag用）。
+     *
+     * <p>
+     * スナップショットが構築済みの場合はスナップショットから、それ以外はDBの集計SQLで求め、行は読み込みません。
+     * {@link #getAll()} より前に呼び出すと、その後に取得する全件は集計時点以降の内容になります。
+     *
+     * @return 件数・変更バージョンの合計・最大値
+     */
+    public EmployeeTableState getTableState() {
+        EmployeeColumns columns = snapshot.current();
+        return columns != null ? columns.tableState() : mapper.findTableState();
+    }
+
+    /**
+     * 全従業員データの指定項目のみを取得します。
+     *
+     * <p>
+     * スナップショットが構築済みの場合は、{@link #getTableState()} と同じ時点を表すようスナップショットから項目を絞ります。
+     * それ以外はSELECTする列自体を指定項目に絞るため、DBからの転送量とマッピングの処理量も項目数に比例して減ります
+     * （並列読み込みは使わず、1回のSQLで読みます）。
+     *
+     * @param fields
+     *            取得する項目（{@link EmployeeField#parse(String)} の結果）
+     * @return 従業員リスト（指定項目のみを出力する {@link ProjectedEmployee}）
+     */
+    public List<Employee> getAll(Set<EmployeeField> fields) {
+        long start = System.nanoTime();
+        EmployeeColumns columns = snapshot.current();
+        List<Employee> employees;
+        if (columns != null) {
+            employees = Collections.unmodifiableList(ProjectedEmployee.of(columns.toList(), fields));
+        } else {
+            List<ProjectedEmployee> rows = mapper.findAllProjected(fields);
+            rows.forEach(row -> row.setFields(fields));
+            employees = Collections.unmodifiableList(rows);
+        }
+        log.info("getAll(fields={}) result: {}件 from {} ({} ms)", fields, employees.size(),
+                columns != null ? "snapshot" : "sql", elapsedMillis(start));
+        traceEntities("getAll()", employees);
         return employees;
     }
 
     /**
-     * 指定したIDの従業員データを取得します。
+     * 全従業員データをID順に1行ずつ読み出し、指定した処理に渡します。
+     *
+     * <p>
+     * MyBatisのCursorで読み出すため、件数に関係なくメモリ使用量は一定です。 Cursorを開いている間はトランザクション（DB接続）を保持します。
+     * 並列読み込みが有効な場合は、同時に読み込む範囲の分だけをメモリに保持します。 このとき呼び出し元の接続を保持したまま範囲ごとの接続を
+     * 取得しないよう、トランザクションは開始しません。
+     *
+     * @param action
+     *            1行ごとに呼び出す処理
+     * @return 処理した件数
+     */
+    public long exportAll(Consumer<Employee> action) {
+        long start = System.nanoTime();
+        if (rangeReader.isEnabled()) {
+            long count = rangeReader.read(action);
+            log.info("exportAll() result: {}件 from parallel sql ({} ms)", count, elapsedMillis(start));
+            return count;
+        }
+        long count = transactionOperations.execute(status -> {
+            long rows = 0;
+            try (Cursor<Employee> cursor = mapper.findAllCursor()) {
+                for (Employee employee : cursor) {
+                    action.accept(employee);
+                    rows++;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return rows;
+        });
+        log.info("exportAll() result: {}件 ({} ms)", count, elapsedMillis(start));
+        return count;
+    }
+
+    /**
+     * 全従業員データの指定項目のみをID順に1行ずつ読み出し、指定した処理に渡します。
+     *
+     * @param fields
+     *            取得する項目
+     * @param action
+     *            1行ごとに呼び出す処理
+     * @return 処理した件数
+     * @see #exportAll(Consumer)
+     */
+    @Transactional(readOnly = true)
+    public long exportAll(Set<EmployeeField> fields, Consumer<Employee> action) {
+        long start = System.nanoTime();
+        long count = 0;
+        try (Cursor<ProjectedEmployee> cursor = mapper.findAllCursorProjected(fields)) {
+            for (ProjectedEmployee employee : cursor) {
+                employee.setFields(fields);
+                action.accept(employee);
+                count++;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        log.info("exportAll(fields={}) result: {}件 ({} ms)", fields, count, elapsedMillis(start));
+        return count;
+    }
+
+    /**
+     * 従業員データをID順に1ページ分取得します。
+     *
+     * <p>
+     * 次ページの有無を判定するため、指定件数より1件多く取得します。
+     *
+     * @param after
+     *            直前ページの最終従業員ID（先頭ページの場合はnull）
+     * @param limit
+     *            取得件数（1～{@link #MAX_PAGE_SIZE}）
+     * @return ページ取得結果
+     */
+    public EmployeePage getPage(Integer after, int limit) {
+        long start = System.nanoTime();
+        int size = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        List<Employee> rows = mapper.findPage(after, size + 1);
+        if (rows.size() <= size) {
+            log.info("getPage(after={}, limit={}) result: {}件 last page ({} ms)", after, limit, rows.size(),
+                    elapsedMillis(start));
+            traceEntities("getPage()", rows);
+            return new EmployeePage(rows, null);
+        }
+        List<Employee> items = new ArrayList<>(rows.subList(0, size));
+        Integer nextCursor = items.get(size - 1).getEmployeeId();
+        log.info("getPage(after={}, limit={}) result: {}件 next={} ({} ms)", after, limit, size, nextCursor,
+                elapsedMillis(start));
+        traceEntities("getPage()", items);
+        return new EmployeePage(items, nextCursor);
+    }
+
+    /**
+     * 従業員データの指定項目のみをID順に1ページ分取得します。
+     *
+     * @param after
+     *            直前ページの最終従業員ID（先頭ページの場合はnull）
+     * @param limit
+     *            取得件数（1～{@link #MAX_PAGE_SIZE}）
+     * @param fields
+     *            取得する項目（従業員IDを含むこと）
+     * @return ページ取得結果（指定項目のみを出力する {@link ProjectedEmployee}）
+     * @see #getPage(Integer, int)
+     */
+    public EmployeePage getPage(Integer after, int limit, Set<EmployeeField> fields) {
+        long start = System.nanoTime();
+        int size = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        List<ProjectedEmployee> rows = mapper.findPageProjected(after, size + 1, fields);
+        List<Employee> items = new ArrayList<>(Math.min(rows.size(), size));
+        for (ProjectedEmployee row : rows.subList(0, Math.min(rows.size(), size))) {
+            row.setFields(fields);
+            items.add(row);
+        }
+        Integer nextCursor = rows.size() > size ? items.get(size - 1).getEmployeeId() : null;
+        log.info("getPage(after={}, limit={}, fields={}) result: {}件 next={} ({} ms)", after, limit, fields,
+                items.size(), nextCursor, elapsedMillis(start));
+        traceEntities("getPage()", items);
+        return new EmployeePage(items, nextCursor);
+    }
+
+    /**
+     * 指定したIDの従業員データを取得します（キャッシュ・スナップショット経由）。
      *
      * @param id
      *            従業員ID
      * @return 従業員データ
      */
     public Employee getById(int id) {
-        log.info("getById({}) called", id);
-        Employee employee = mapper.findById(id);
-        log.info("getById({}) result: {}", id, employee);
+        long start = System.nanoTime();
+        EmployeeColumns columns = snapshot.current();
+        Employee employee = columns != null ? columns.get(id) : employeeCache.get(id);
+        log.info("getById({}) result: {} ({} ms)", id, employee != null ? "found" : "not found",
+                elapsedMillis(start));
+        if (log.isTraceEnabled()) {
+            log.trace("getById({}) entity: {}", id, employee);
+        }
         return employee;
     }
 
+    /**
+     * 指定した複数IDの従業員データを一括取得します（キャッシュ・スナップショット経由）。
+     *
+     * <p>
+     * キャッシュにないIDのみ、チャンク単位のINリストでまとめてDB検索します。
+     *
+     * @param ids
+     *            従業員IDリスト
+     * @return リクエストのID順に並べた従業員リストと、存在しなかったIDリスト
+     */
+    public EmployeeBatchResult getByIds(List<Integer> ids) {
+        long start = System.nanoTime();
+        EmployeeColumns columns = snapshot.current();
+        Map<Integer, Employee> found = columns != null ? null : employeeCache.getAll(ids);
+        List<Employee> employees = new ArrayList<>(ids.size());
+        List<Integer> missingIds = new ArrayList<>();
+        for (Integer id : ids) {
+            Employee employee = columns != null ? columns.get(id) : found.get(id);
+            if (employee != null) {
+                employees.add(employee);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        log.info("getByIds({}件) result: {}件 missing={}件 ({} ms)", ids.size(), employees.size(), missingIds.size(),
+                elapsedMillis(start));
+        traceEntities("getByIds()", employees);
+        return new EmployeeBatchResult(employees, missingIds);
+    }
+
+    /**
+     * 部署・職種・給与範囲・メールアドレス前方一致の条件で従業員データを検索します。
+     *
+     * <p>
+     * 絞り込み・並べ替え・件数制限はすべてSQLで行います。 取得する項目が指定されている場合はSELECTする列も絞ります。
+     *
+     * @param query
+     *            検索条件（最大件数は1～{@link #MAX_PAGE_SIZE} に丸めます）
+     * @return 該当する従業員リスト
+     */
+    public List<Employee> query(EmployeeQuery query) {
+        long start = System.nanoTime();
+        query.setLimit(Math.min(Math.max(query.getLimit(), 1), MAX_PAGE_SIZE));
+        List<Employee> employees;
+        if (query.getFields() == null) {
+            employees = mapper.query(query);
+        } else {
+            List<ProjectedEmployee> rows = mapper.queryProjected(query);
+            rows.forEach(row -> row.setFields(query.getFields()));
+            employees = Collections.unmodifiableList(rows);
+        }
+        log.info("query({}) result: {}件 ({} ms)", query, employees.size(), elapsedMillis(start));
+        traceEntities("query()", employees);
+        return employees;
+    }
+
+    /**
+     * 指定バージョンより後の登録・更新・削除を変更順に取得します（変更フィード）。
+     *
+     * <p>
+     * CHANGE_VERSIONの索引で範囲検索するため、取得コストは表の件数ではなく変更件数に比例します。
+     * 採番順とコミット順は一致しないため、続きを取得しきった後の定期的な取得は {@code nextSince} ではなく
+     * {@code hr.changes.lag-window} 分巻き戻した {@code rereadSince} から行います。
+     *
+     * @param since
+     *            前回取得した最新の変更バージョン（初回は0）
+     * @param limit
+     *            最大件数（1～{@link #MAX_PAGE_SIZE}）
+     * @return 変更リストと次回の取得開始位置
+     */
+    public EmployeeChangeSet getChanges(long since, int limit) {
+        long start = System.nanoTime();
+        EmployeeChangeSet changes = readChanges(since, Math.min(Math.max(limit, 1), MAX_PAGE_SIZE));
+        changes.setRereadSince(
+                Math.max(changes.getNextSince() - Math.max(properties.getChanges().getLagWindow(), 0), 0));
+        log.info("getChanges(since={}, limit={}) result: {}件 next={} hasMore={} ({} ms)", since, limit,
+                changes.getChanges().size(), changes.getNextSince(), changes.isHasMore(), elapsedMillis(start));
+        return changes;
+    }
+
+    /**
+     * 現在の最新の変更バージョンを返します。
+     *
+     * @return 最新の変更バージョン（変更がない場合は0）
+     */
+    public long getCurrentChangeVersion() {
+        Long changed = mapper.findMaxChangeVersion();
+        Long deleted = mapper.findMaxDeletedVersion();
+        return Math.max(changed != null ? changed : 0, deleted != null ? deleted : 0);
+    }
+
+    /**
+     * 登録・更新と削除をそれぞれ変更順に取得し、変更バージョン順に併合して最大件数分を返します（ログ出力なし）。
+     */
+    EmployeeChangeSet readChanges(long since, int limit) {
+        List<Employee> changed = mapper.findChangedSince(since, limit + 1);
+        List<EmployeeChange> deleted = mapper.findDeletedSince(since, limit + 1);
+        List<EmployeeChange> changes = new ArrayList<>(Math.min(changed.size() + deleted.size(), limit));
+        int i = 0;
+        int j = 0;
+        while (changes.size() < limit && (i < changed.size() || j < deleted.size())) {
+            if (j >= deleted.size()
+                    || (i < changed.size() && changed.get(i).getChangeVersion() < deleted.get(j).getChangeVersion())) {
+                Employee employee = changed.get(i++);
+                changes.add(new EmployeeChange(employee.getEmployeeId(), employee.getChangeVersion(), false, employee));
+            } else {
+                changes.add(deleted.get(j++));
+            }
+        }
+        boolean hasMore = i < changed.size() || j < deleted.size();
+        long nextSince = changes.isEmpty() ? since : changes.get(changes.size() - 1).getChangeVersion();
+        return new EmployeeChangeSet(changes, nextSince, hasMore);
+    }
+
     /**
      * 名前（部分一致）で従業員データを検索します。
      *
      * @param name
      *            検索する名前
-     * @return 該当する従業員リスト
+     * @return 該当する従業員リスト（ID順）
      */
     public List<Employee> getByName(String name) {
-        log.info("getByName('{}') called", name);
-        List<Employee> employees = mapper.selectByName(name);
-        log.info("getByName('{}') result: {}件", name, employees.size());
+        return getByName(name, false, 0);
+    }
+
+    /**
+     * 名前（部分一致）で従業員データを検索します。
+     *
+     * <p>
+     * スナップショットまたは名前索引が構築済みの場合はメモリ内で検索し、未構築の場合やLIKEのワイルドカードを含む場合はSQLで検索します。
+     * SQLで検索する場合、同じ文字列の検索が実行中であれば新たにSQLを実行せず、その結果を待って返します。
+     *
+     * @param name
+     *            検索する名前
+     * @param ranked
+     *            一致度順（完全一致→前方一致→部分一致）に並べるか
+     * @param limit
+     *            最大件数（0以下の場合は無制限）
+     * @return 該当する従業員リスト
+     */
+    public List<Employee> getByName(String name, boolean ranked, int limit) {
+        long start = System.nanoTime();
+        EmployeeColumns columns = EmployeeNameIndex.supports(name) ? snapshot.current() : null;
+        boolean useIndex = columns == null && nameIndex.isReady() && EmployeeNameIndex.supports(name);
+        List<Employee> employees;
+        if (columns != null) {
+            employees = columns.search(name);
+        } else {
+            employees = useIndex ? nameIndex.search(name) : selectByNameShared(name);
+        }
+        if (ranked) {
+            employees = EmployeeNameIndex.rank(employees, name);
+        }
+        if (limit > 0 && employees.size() > limit) {
+            employees = new ArrayList<>(employees.subList(0, limit));
+        }
+        log.info("getByName('{}', ranked={}, limit={}) result: {}件 from {} ({} ms)", name, ranked, limit,
+                employees.size(), columns != null ? "snapshot" : useIndex ? "index" : "sql", elapsedMillis(start));
+        traceEntities("getByName()", employees);
         return employees;
     }
+
+    /**
+     * 名前検索SQLを実行します。 同じ文字列の検索が実行中の場合は、その結果（変更不可のリスト）を返します。
+     */
+    private List<Employee> selectByNameShared(String name) {
+        CompletableFuture<List<Employee>> own = new CompletableFuture<>();
+        CompletableFuture<List<Employee>> running = namesInFlight.putIfAbsent(name, own);
+        if (running != null) {
+            log.debug("getByName('{}') joined in-flight query", name);
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                if (e.getCause() instanceof Error cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+        try {
+            List<Employee> employees = Collections.unmodifiableList(mapper.selectByName(name));
+            own.complete(employees);
+            return employees;
+        } catch (Throwable e) {
+            // Errorの場合も完了させ、結果を待っている検索が待ち続けないようにする
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            namesInFlight.remove(name, own);
+        }
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    /**
+     * TRACEレベルが有効な場合のみ、取得したエンティティを1件ずつ出力します。
+     */
+    private static void traceEntities(String call, List<Employee> employees) {
+        if (!log.isTraceEnabled()) {
+            return;
+        }
+        for (Employee employee : employees) {
+            log.trace("{} entity: {}", call, employee);
+        }
+    }
 }
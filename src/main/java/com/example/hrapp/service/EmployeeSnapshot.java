@@ -0,0 +1,137 @@
+package com.example.hrapp.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import com.example.hrapp.config.HrProperties;
+import com.example.hrapp.mapper.EmployeeMapper;
+import com.example.hrapp.model.Employee;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 読み取りレプリカモード（{@code hr.snapshot.enabled=true}）で全件取得・ID検索・名前検索に使う、全従業員データのメモリ内スナップショット。
+ *
+ * <p>
+ * 起動時にMapperのCursorから {@link EmployeeColumns} を構築し、{@code hr.snapshot.refresh-interval} ごとに
+ * （変更フィードが有効な場合は変更があったときのみ）再構築して差し替えます。 読み取り側は差し替え時点のスナップショットを同期なしで参照するため、
+ * 変更の反映は最大で変更フィードの読み込み間隔と再構築間隔の合計だけ遅れます。 件数・概算サイズは {@code hr.snapshot.rows}・
+ * {@code hr.snapshot.bytes} として公開します。
+ */
+@Slf4j
+@Component
+public class EmployeeSnapshot {
+    private final EmployeeMapper mapper;
+
+    private final TransactionOperations transactionOperations;
+
+    private final HrProperties properties;
+
+    /** 現在のスナップショット（未構築・無効の場合はnull） */
+    private volatile EmployeeColumns columns;
+
+    /** 構築後に従業員データが変更されたか */
+    private volatile boolean stale;
+
+    public EmployeeSnapshot(EmployeeMapper mapper, TransactionOperations transactionOperations,
+            HrProperties properties, MeterRegistry meterRegistry) {
+        this.mapper = mapper;
+        this.transactionOperations = transactionOperations;
+        this.properties = properties;
+        Gauge.builder("hr.snapshot.rows", this, s -> s.columns != null ? s.columns.size() : 0)
+                .description("メモリ内スナップショットの件数")
+                .register(meterRegistry);
+        Gauge.builder("hr.snapshot.bytes", this, s -> s.columns != null ? s.columns.estimatedBytes() : 0)
+                .description("メモリ内スナップショットの概算サイズ")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * アプリケーション起動完了時にスナップショットを構築します。
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (properties.getSnapshot().isEnabled()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 従業員データの変更を受け、次回の定期処理で再構築するよう記録します。
+     *
+     * @param event
+     *            従業員変更イベント
+     */
+    @EventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        stale = true;
+    }
+
+    /**
+     * 一定間隔でスナップショットを再構築し、DBの変更を反映します。
+     *
+     * <p>
+     * 変更フィードが有効な場合は、変更があった場合のみ再構築します。
+     */
+    @Scheduled(initialDelayString = "${hr.snapshot.refresh-interval:PT10S}",
+            fixedDelayString = "${hr.snapshot.refresh-interval:PT10S}")
+    public void scheduledRefresh() {
+        if (properties.getSnapshot().isEnabled() && columns != null
+                && (stale || !properties.getChanges().isPollEnabled())) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 全従業員データをID順に読み出してスナップショットを構築し、差し替えます。
+     *
+     * <p>
+     * 列の形式で表せない値を含む場合は差し替えず、現在のスナップショット（未構築の場合はDB検索）を使い続けます。
+     */
+    public void rebuild() {
+        long start = System.nanoTime();
+        stale = false;
+        EmployeeColumns built;
+        try {
+            built = transactionOperations.execute(status -> {
+                EmployeeColumns.Builder builder = EmployeeColumns.builder();
+                try (Cursor<Employee> cursor = mapper.findAllCursor()) {
+                    for (Employee employee : cursor) {
+                        builder.add(employee);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return builder.build();
+            });
+        } catch (IllegalStateException e) {
+            log.warn("EmployeeSnapshot rebuild skipped: {}", e.getMessage());
+            return;
+        }
+        columns = built;
+        log.info("EmployeeSnapshot rebuilt: {}件, {} bytes ({} ms)", built.size(), built.estimatedBytes(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * 現在のスナップショットを返します。
+     *
+     * <p>
+     * 1回の処理の中では戻り値を使い続けることで、途中で差し替えられても同じ時点のデータを参照できます。
+     *
+     * @return スナップショット（未構築・無効の場合はnull）
+     */
+    public EmployeeColumns current() {
+        return columns;
+    }
+}
@@ -0,0 +1,208 @@
+package com.example.hrapp.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.example.hrapp.mapper.EmployeeMapper;
+import com.example.hrapp.model.Employee;
+import com.example.hrapp.model.EmployeeGroupStats;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 部署別・職種別の人数と給与（合計・平均・最小・最大）のメモリ内集計。
+ *
+ * <p>
+ * 起動時にMapperから1回だけ構築し、以降は {@link EmployeeChangedEvent} を受けて該当従業員の差分だけを反映します。
+ * 集計結果の取得はグループ数に比例する処理量で、従業員数には依存しません。
+ */
+@Slf4j
+@Component
+public class EmployeeStatistics {
+    /** 平均値の小数桁数 */
+    private static final int AVG_SCALE = 2;
+
+    private final EmployeeMapper mapper;
+
+    /** 集計の更新・参照を排他するロック */
+    private final Object lock = new Object();
+
+    /** 従業員ID → 集計に反映済みの値（未構築の場合はnull） */
+    private Map<Integer, Member> members;
+
+    /** 部署ID → 集計 */
+    private final Map<Integer, Accumulator> byDepartment = new HashMap<>();
+
+    /** 職種ID → 集計 */
+    private final Map<String, Accumulator> byJob = new HashMap<>();
+
+    public EmployeeStatistics(EmployeeMapper mapper) {
+        this.mapper = mapper;
+    }
+
+    /**
+     * アプリケーション起動完了時に集計を構築します。
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * 全従業員データを読み込み、集計を作り直します。
+     */
+    public void rebuild() {
+        long start = System.nanoTime();
+        synchronized (lock) {
+            List<Employee> employees = mapper.findAll();
+            members = new HashMap<>(employees.size() * 2);
+            byDepartment.clear();
+            byJob.clear();
+            for (Employee employee : employees) {
+                add(employee.getEmployeeId(), Member.of(employee));
+            }
+            log.info("EmployeeStatistics rebuilt: {}件, {} departments, {} jobs ({} ms)", members.size(),
+                    byDepartment.size(), byJob.size(), (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    /**
+     * 従業員データの変更を集計に反映します（変更前の値を差し引き、変更後の値を加算）。
+     *
+     * @param event
+     *            従業員変更イベント
+     */
+    @EventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        synchronized (lock) {
+            if (members == null) {
+                // 未構築の場合は構築時に最新の状態を読み込むため反映不要
+                return;
+            }
+            Member previous = members.remove(event.getEmployeeId());
+            if (previous != null) {
+                remove(previous);
+            }
+            if (!event.isDeleted()) {
+                add(event.getEmployeeId(), Member.of(event.getCurrent()));
+            }
+        }
+    }
+
+    /**
+     * 部署別の集計を部署ID順（未設定は末尾）に返します。
+     *
+     * @return 部署別集計
+     */
+    public List<EmployeeGroupStats<Integer>> byDepartment() {
+        return snapshot(byDepartment);
+    }
+
+    /**
+     * 職種別の集計を職種ID順（未設定は末尾）に返します。
+     *
+     * @return 職種別集計
+     */
+    public List<EmployeeGroupStats<String>> byJob() {
+        return snapshot(byJob);
+    }
+
+    private <K extends Comparable<K>> List<EmployeeGroupStats<K>> snapshot(Map<K, Accumulator> groups) {
+        synchronized (lock) {
+            if (members == null) {
+                rebuild();
+            }
+            List<EmployeeGroupStats<K>> result = new ArrayList<>(groups.size());
+            groups.forEach((key, accumulator) -> result.add(accumulator.toStats(key)));
+            result.sort(Comparator.comparing(EmployeeGroupStats<K>::getKey,
+                    Comparator.nullsLast(Comparator.<K>naturalOrder())));
+            return result;
+        }
+    }
+
+    private void add(Integer employeeId, Member member) {
+        members.put(employeeId, member);
+        // HashMapはnullキーも扱えるため、部署・職種が未設定の従業員も1グループとして集計する
+        byDepartment.computeIfAbsent(member.departmentId(), key -> new Accumulator()).add(member.salary());
+        byJob.computeIfAbsent(member.jobId(), key -> new Accumulator()).add(member.salary());
+    }
+
+    private void remove(Member member) {
+        removeFrom(byDepartment, member.departmentId(), member.salary());
+        removeFrom(byJob, member.jobId(), member.salary());
+    }
+
+    private static <K> void removeFrom(Map<K, Accumulator> groups, K key, BigDecimal salary) {
+        Accumulator accumulator = groups.get(key);
+        if (accumulator != null && accumulator.remove(salary)) {
+            groups.remove(key);
+        }
+    }
+
+    /**
+     * 集計に反映済みの従業員の値（グループのキーと給与）。
+     */
+    private record Member(Integer departmentId, String jobId, BigDecimal salary) {
+        static Member of(Employee employee) {
+            return new Member(employee.getDepartmentId(), employee.getJobId(), employee.getSalary());
+        }
+    }
+
+    /**
+     * 1グループの集計値。
+     *
+     * <p>
+     * 削除時にも最小・最大を再計算せずに求められるよう、給与の値ごとの人数を順序付きで保持します。
+     */
+    private static final class Accumulator {
+        private long headcount;
+        private long salaryCount;
+        private BigDecimal salarySum = BigDecimal.ZERO;
+
+        /** 給与 → 人数 */
+        private final TreeMap<BigDecimal, Integer> salaries = new TreeMap<>();
+
+        void add(BigDecimal salary) {
+            headcount++;
+            if (salary != null) {
+                salaryCount++;
+                salarySum = salarySum.add(salary);
+                salaries.merge(salary, 1, Integer::sum);
+            }
+        }
+
+        /**
+         * 1人分を差し引きます。
+         *
+         * @return グループが空になった場合はtrue
+         */
+        boolean remove(BigDecimal salary) {
+            headcount--;
+            if (salary != null) {
+                salaryCount--;
+                salarySum = salarySum.subtract(salary);
+                salaries.computeIfPresent(salary, (key, count) -> count > 1 ? count - 1 : null);
+            }
+            return headcount == 0;
+        }
+
+        <K> EmployeeGroupStats<K> toStats(K key) {
+            if (salaryCount == 0) {
+                return new EmployeeGroupStats<>(key, headcount, 0, BigDecimal.ZERO, null, null, null);
+            }
+            BigDecimal avg = salarySum.divide(BigDecimal.valueOf(salaryCount), AVG_SCALE, RoundingMode.HALF_UP);
+            return new EmployeeGroupStats<>(key, headcount, salaryCount, salarySum, avg, salaries.firstKey(),
+                    salaries.lastKey());
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.hrapp.service;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.util.HtmlUtils;
+
+import com.example.hrapp.config.HrProperties;
+import com.example.hrapp.model.Employee;
+import com.example.hrapp.model.EmployeePage;
+
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 従業員一覧画面のテーブル本体（{@code <tbody>}）をサーバー側で描画したHTMLと、そのキャッシュ。
+ *
+ * <p>
+ * 先頭から {@code hr.page.max-rows} 件を従業員ID順に描画し、内容のハッシュをETagとして保持します。 {@link EmployeeChangedEvent}
+ * を受けるとキャッシュを無効にし、次の要求時に描画し直します（同時の要求は1回の描画を待ちます）。 描画中に変更を受けた場合、その結果は返しますが保持しません。
+ *
+ * <p>
+ * 描画前の最新の変更バージョンを {@code data-change-version} に、そこから {@code hr.changes.lag-window} 分巻き戻した値を
+ * {@code data-reread-since} に出力します。 画面は巻き戻した位置以降の変更を変更フィードから取得して反映するため、
+ * キャッシュした時点から画面を表示するまでの変更も、採番順と異なる順にコミットされた変更も取りこぼしません。
+ */
+@Slf4j
+@Component
+public class EmployeeTableFragment {
+    private final EmployeeService service;
+
+    private final HrProperties.Page config;
+
+    /** 画面が変更フィードを読み直す範囲（変更バージョンの数） */
+    private final long lagWindow;
+
+    /** 描画を1回にまとめるためのロック */
+    private final Object lock = new Object();
+
+    /** 変更を受けるたびに増やす世代番号 */
+    private final AtomicLong generation = new AtomicLong();
+
+    /** 描画済みのHTMLと、描画を開始した時点の世代番号（未描画の場合はnull） */
+    private volatile Cached cached;
+
+    public EmployeeTableFragment(EmployeeService service, HrProperties properties) {
+        this.service = service;
+        this.config = properties.getPage();
+        this.lagWindow = Math.max(properties.getChanges().getLagWindow(), 0);
+    }
+
+    /**
+     * 現在の従業員データで描画したテーブル本体を返します（変更がなければキャッシュを返す）。
+     *
+     * @return 描画結果
+     */
+    public Fragment current() {
+        Cached current = cached;
+        if (current != null && current.generation == generation.get()) {
+            return current.fragment;
+        }
+        synchronized (lock) {
+            current = cached;
+            long startGeneration = generation.get();
+            if (current != null && current.generation == startGeneration) {
+                return current.fragment;
+            }
+            Fragment fragment = render();
+            cached = new Cached(startGeneration, fragment);
+            return fragment;
+        }
+    }
+
+    /**
+     * 従業員データの変更を受け、キャッシュを無効にします。
+     *
+     * @param event
+     *            従業員変更イベント
+     */
+    @EventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        generation.incrementAndGet();
+    }
+
+    private Fragment render() {
+        long start = System.nanoTime();
+        // 行より先に読み、描画中の変更は画面側で変更フィードから取得させる
+        long changeVersion = service.getCurrentChangeVersion();
+        EmployeePage page = service.getPage(null, config.getMaxRows());
+        boolean truncated = page.getNextCursor() != null;
+        StringBuilder html = new StringBuilder(256 + page.getItems().size() * 200);
+        html.append("<tbody id=\"tableBody\" data-change-version=\"").append(changeVersion).append('"');
+        html.append(" data-reread-since=\"").append(Math.max(changeVersion - lagWindow, 0)).append('"');
+        if (truncated) {
+            html.append(" data-truncated=\"true\"");
+        }
+        html.append(">\n");
+        for (Employee employee : page.getItems()) {
+            appendRow(html, employee);
+        }
+        html.append("</tbody>");
+        Fragment fragment = new Fragment(html.toString(), page.getItems().size(), truncated);
+        log.info("EmployeeTableFragment rendered: {}件{}, {} bytes ({} ms)", fragment.getRows(),
+                truncated ? " (truncated)" : "", fragment.getBody().length, (System.nanoTime() - start) / 1_000_000);
+        return fragment;
+    }
+
+    private static void appendRow(StringBuilder html, Employee employee) {
+        html.append("<tr data-employee-id=\"").append(employee.getEmployeeId()).append("\">");
+        // employees.js の COLUMNS と同じ列順
+        Object[] cells = { employee.getEmployeeId(), employee.getFirstName(), employee.getLastName(),
+                employee.getEmail(), employee.getPhoneNumber(), employee.getSalary(), employee.getDepartmentId() };
+        for (Object cell : cells) {
+            html.append("<td>").append(HtmlUtils.htmlEscape(text(cell), "UTF-8")).append("</td>");
+        }
+        html.append("</tr>\n");
+    }
+
+    /**
+     * セルの表示文字列を返します（画面でJSONから描画する場合と同じ表記）。
+     */
+    private static String text(Object value) {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof BigDecimal salary) {
+            // JSONの数値をJavaScriptで文字列にした場合と同じく、末尾の0と指数表記を除く
+            return salary.signum() == 0 ? "0" : salary.stripTrailingZeros().toPlainString();
+        }
+        return value.toString();
+    }
+
+    /**
+     * 描画したテーブル本体。
+     */
+    @Value
+    public static class Fragment {
+        /** {@code <tbody>} 要素のHTML */
+        String html;
+
+        /** HTMLのUTF-8バイト列（レスポンス本文） */
+        byte[] body;
+
+        /** 内容のハッシュによる強いETag（ダブルクォート付き） */
+        String etag;
+
+        /** 描画した行数 */
+        int rows;
+
+        /** 最大行数を超えたため一部のみ描画したか */
+        boolean truncated;
+
+        public Fragment(String html, int rows, boolean truncated) {
+            this.html = html;
+            this.body = html.getBytes(StandardCharsets.UTF_8);
+            this.etag = "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+            this.rows = rows;
+            this.truncated = truncated;
+        }
+    }
+
+    private record Cached(long generation, Fragment fragment) {
+    }
+}
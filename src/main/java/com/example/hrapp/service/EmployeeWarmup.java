@@ -0,0 +1,323 @@
+package com.example.hrapp.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.GenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.hrapp.config.HrProperties;
+import com.example.hrapp.jdbc.ConnectionLimitDataSource;
+import com.example.hrapp.mapper.EmployeeMapper;
+import com.example.hrapp.model.Employee;
+import com.example.hrapp.model.EmployeeBatchResult;
+import com.example.hrapp.model.EmployeeChange;
+import com.example.hrapp.model.EmployeeChangeSet;
+import com.example.hrapp.model.EmployeeField;
+import com.example.hrapp.model.EmployeePage;
+import com.example.hrapp.model.EmployeeQuery;
+import com.example.hrapp.model.ProjectedEmployee;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 起動完了時に、初回リクエストで発生する初期化処理を先に済ませるウォームアップ。
+ *
+ * <p>
+ * {@link ApplicationReadyEvent} の処理中に同期的に実行するため、完了するまでreadiness（{@code /actuator/health/readiness}）は
+ * {@code ACCEPTING_TRAFFIC} になりません。 次の順に実行し、フェーズごとの所要時間を {@code hr.warmup}（{@code phase} タグ）として公開します。
+ * <ol>
+ * <li>DB接続の事前確立（コネクションプールを最小アイドル数まで満たす）
+ * <li>参照系のMapper文を少量の行で実行（動的SQL・結果マッピング・JDBCドライバーの初期化）
+ * <li>代表的なレスポンスをHTTPメッセージコンバーター（JSON・CBOR）で書き出し（Jacksonのシリアライザー生成）
+ * <li>従業員IDキャッシュの事前読み込み（{@code hr.warmup.cache-prefill-size} 件、既定は無効）
+ * </ol>
+ * 各フェーズの失敗はWARNで出力して次のフェーズへ進み、起動自体は止めません。 更新系の文（upsert）は実行しません。
+ */
+@Slf4j
+@Component
+public class EmployeeWarmup {
+    /** Mapper文・シリアライズに使う行数 */
+    static final int SAMPLE_ROWS = 10;
+
+    /** 項目指定の文に使う項目 */
+    private static final Set<EmployeeField> SAMPLE_FIELDS = EnumSet.of(EmployeeField.EMPLOYEE_ID,
+            EmployeeField.EMAIL);
+
+    private static final Type EMPLOYEE_LIST = new ParameterizedTypeReference<List<Employee>>() {
+    }.getType();
+
+    private final DataSource dataSource;
+
+    private final EmployeeMapper mapper;
+
+    private final EmployeeCache employeeCache;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final List<HttpMessageConverter<?>> converters;
+
+    private final HrProperties properties;
+
+    private final MeterRegistry meterRegistry;
+
+    public EmployeeWarmup(DataSource dataSource, EmployeeMapper mapper, EmployeeCache employeeCache,
+            TransactionTemplate transactionTemplate, HttpMessageConverters converters, HrProperties properties,
+            MeterRegistry meterRegistry) {
+        this.dataSource = dataSource;
+        this.mapper = mapper;
+        this.employeeCache = employeeCache;
+        this.transactionTemplate = transactionTemplate;
+        this.converters = converters.getConverters();
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * アプリケーション起動完了時にウォームアップを実行します。
+     *
+     * <p>
+     * 事前読み込みしたキャッシュに起動中の変更が反映されるよう、変更フィードの開始位置を記録した後に実行します。
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onApplicationReady() {
+        if (properties.getWarmup().isEnabled()) {
+            warmUp();
+        }
+    }
+
+    /**
+     * ウォームアップの全フェーズを実行します。
+     */
+    public void warmUp() {
+        HrProperties.Warmup config = properties.getWarmup();
+        long start = System.nanoTime();
+        runPhase("connections", () -> openConnections(connectionCount(config)));
+        List<Employee> samples = new ArrayList<>();
+        runPhase("statements", () -> {
+            for (int i = 0; i < config.getIterations(); i++) {
+                samples.clear();
+                samples.addAll(executeStatements());
+            }
+        });
+        runPhase("serialization", () -> {
+            for (int i = 0; i < config.getIterations(); i++) {
+                serializeSamples(samples);
+            }
+        });
+        if (config.getCachePrefillSize() > 0) {
+            runPhase("cache", () -> prefillCache(config.getCachePrefillSize()));
+        }
+        log.info("EmployeeWarmup finished ({} ms)", elapsedMillis(start));
+    }
+
+    /**
+     * 1フェーズを実行し、所要時間を記録します（失敗した場合はWARNを出力して続行）。
+     */
+    private void runPhase(String phase, Runnable action) {
+        long start = System.nanoTime();
+        try {
+            action.run();
+            log.info("EmployeeWarmup {} done ({} ms)", phase, elapsedMillis(start));
+        } catch (RuntimeException e) {
+            log.warn("EmployeeWarmup {} failed ({} ms): {}", phase, elapsedMillis(start), e.toString());
+        }
+        Timer.builder("hr.warmup")
+                .description("起動時ウォームアップの所要時間")
+                .tag("phase", phase)
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 事前に確立するDB接続数を返します。
+     */
+    private int connectionCount(HrProperties.Warmup config) {
+        if (config.getConnections() > 0) {
+            return config.getConnections();
+        }
+        HikariDataSource hikari = DataSourceUnwrapper.unwrap(dataSource, HikariDataSource.class);
+        if (hikari == null) {
+            return 1;
+        }
+        int count = Math.max(hikari.getMinimumIdle() > 0 ? hikari.getMinimumIdle() : hikari.getMaximumPoolSize(), 1);
+        // 接続数制限がある場合、上限を超えて同時に取得すると許可待ちのまま進まない
+        return dataSource instanceof ConnectionLimitDataSource limited ? Math.min(count, limited.getLimit()) : count;
+    }
+
+    /**
+     * 指定数のDB接続を同時に取得してから返却し、コネクションプールに確立済みの接続を用意します。
+     */
+    private void openConnections(int count) {
+        List<Connection> connections = new ArrayList<>(count);
+        try {
+            for (int i = 0; i < count; i++) {
+                connections.add(dataSource.getConnection());
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("connection warm-up failed after " + connections.size(), e);
+        } finally {
+            for (Connection connection : connections) {
+                try {
+                    connection.close();
+                } catch (SQLException e) {
+                    log.debug("EmployeeWarmup close failed: {}", e.toString());
+                }
+            }
+        }
+    }
+
+    /**
+     * 参照系のMapper文をすべて少量の行で実行し、取得した従業員データを返します。
+     *
+     * <p>
+     * 全件取得（findAll・findAllProjected）はCursor版と同じSQL・結果マッピングのため、Cursor版で先頭行のみ読み出して代用します。
+     */
+    private List<Employee> executeStatements() {
+        List<Employee> rows = mapper.findPage(null, SAMPLE_ROWS);
+        mapper.findPageProjected(null, SAMPLE_ROWS, SAMPLE_FIELDS);
+        List<Integer> ids = new ArrayList<>(rows.size());
+        for (Employee row : rows) {
+            ids.add(row.getEmployeeId());
+        }
+        mapper.findById(ids.isEmpty() ? 0 : ids.get(0));
+        if (!ids.isEmpty()) {
+            mapper.findByIds(ids);
+        }
+        EmployeeQuery query = new EmployeeQuery();
+        query.setLimit(SAMPLE_ROWS);
+        if (!rows.isEmpty() && rows.get(0).getDepartmentId() != null) {
+            query.setDepartmentIds(List.of(rows.get(0).getDepartmentId()));
+        }
+        mapper.query(query);
+        query.setFields(SAMPLE_FIELDS);
+        mapper.queryProjected(query);
+        mapper.selectByName(rows.isEmpty() || rows.get(0).getLastName() == null ? "a" : rows.get(0).getLastName());
+        Long changed = mapper.findMaxChangeVersion();
+        Long deleted = mapper.findMaxDeletedVersion();
+        long since = Math.max(Math.max(changed != null ? changed : 0, deleted != null ? deleted : 0) - 1, 0);
+        mapper.findChangedSince(since, 1);
+        mapper.findDeletedSince(since, 1);
+        transactionTemplate.executeWithoutResult(status -> {
+            readFirst(mapper.findAllCursor());
+            readFirst(mapper.findAllCursorProjected(SAMPLE_FIELDS));
+        });
+        return rows;
+    }
+
+    private static void readFirst(Cursor<? extends Employee> cursor) {
+        try (cursor) {
+            cursor.iterator().hasNext();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 取得系エンドポイントの戻り値と同じ型のデータを、JSON・CBORのコンバーターで書き出します。
+     */
+    private void serializeSamples(List<Employee> samples) {
+        List<Employee> employees = samples.isEmpty() ? List.of(new Employee()) : samples;
+        List<Employee> projected = ProjectedEmployee.of(employees, SAMPLE_FIELDS);
+        Employee first = employees.get(0);
+        for (MediaType mediaType : List.of(MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR)) {
+            write(employees, EMPLOYEE_LIST, mediaType);
+            write(projected, EMPLOYEE_LIST, mediaType);
+            write(first, Employee.class, mediaType);
+            write(new EmployeePage(employees, first.getEmployeeId()), EmployeePage.class, mediaType);
+            write(new EmployeeBatchResult(employees, List.of(0)), EmployeeBatchResult.class, mediaType);
+            write(new EmployeeChangeSet(List.of(new EmployeeChange(0, 1L, false, first)), 1L, false),
+                    EmployeeChangeSet.class, mediaType);
+        }
+    }
+
+    /**
+     * 実際のレスポンスと同じく、最初に書き出し可能と判定したコンバーターで書き出します。
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private void write(Object value, Type type, MediaType mediaType) {
+        try {
+            for (HttpMessageConverter converter : converters) {
+                if (converter instanceof GenericHttpMessageConverter generic) {
+                    if (generic.canWrite(type, value.getClass(), mediaType)) {
+                        generic.write(value, type, mediaType, new DiscardingOutputMessage());
+                        return;
+                    }
+                } else if (converter.canWrite(value.getClass(), mediaType)) {
+                    converter.write(value, mediaType, new DiscardingOutputMessage());
+                    return;
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 起動完了時点のID順に指定件数の従業員データを読み込み、従業員IDキャッシュに登録します。
+     */
+    private void prefillCache(int size) {
+        Integer after = null;
+        int loaded = 0;
+        while (loaded < size) {
+            List<Employee> page = mapper.findPage(after, Math.min(size - loaded, EmployeeService.MAX_PAGE_SIZE));
+            if (page.isEmpty()) {
+                break;
+            }
+            employeeCache.putAll(page);
+            loaded += page.size();
+            after = page.get(page.size() - 1).getEmployeeId();
+        }
+        log.info("EmployeeWarmup cache prefilled: {}件", loaded);
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    /**
+     * 書き出した内容を保持しない出力先。
+     */
+    private static final class DiscardingOutputMessage implements HttpOutputMessage {
+        private final HttpHeaders headers = new HttpHeaders();
+
+        private final OutputStream body = OutputStream.nullOutputStream();
+
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
@@ -3,144 +3,433 @@
  * @module employees
  */
 import { API_BASE_URL } from './constants.js';
+
+/** 変更通知（Server-Sent Events）の接続先 */
+const STREAM_URL = `${API_BASE_URL}/api/employees/stream`;
+
+/** テーブルの列順に並べた従業員データの項目名 */
+const COLUMNS = ['employeeId', 'firstName', 'lastName', 'email', 'phoneNumber', 'salary', 'departmentId'];
+
+/** 全件表示中か（検索結果の表示中は、変更通知で新しい行を追加しない） */
+let showingAll = true;
+
+/** 一覧の取得中に届いた変更（取得中でなければnull）。描画後に適用する */
+let bufferedChanges = null;
+
+/** 入力が止まってから検索するまでの待ち時間（ms） */
+const SEARCH_DEBOUNCE_MILLIS = 300;
+
+/** 検索結果を保持する件数（使われていない順に破棄） */
+const SEARCH_CACHE_SIZE = 50;
+
+/** 描画以降の変更を取得する最大回数（超える場合は一覧を取得し直す） */
+const CATCH_UP_MAX_PAGES = 3;
+
+/**
+ * 最近使った順に一定件数まで保持するキャッシュ（Mapの挿入順を利用）
+ */
+class LruCache {
+    /**
+     * @param {number} maxSize - 保持する最大件数
+     */
+    constructor(maxSize) {
+        this.maxSize = maxSize;
+        this.entries = new Map();
+    }
+
+    /**
+     * @param {string} key - キー
+     * @returns {*} 値（ない場合はundefined）
+     */
+    get(key) {
+        if (!this.entries.has(key)) {
+            return undefined;
+        }
+        // 最近使ったものとして末尾に移す
+        const value = this.entries.get(key);
+        this.entries.delete(key);
+        this.entries.set(key, value);
+        return value;
+    }
+
+    /**
+     * @param {string} key - キー
+     * @param {*} value - 値
+     */
+    set(key, value) {
+        this.entries.delete(key);
+        this.entries.set(key, value);
+        if (this.entries.size > this.maxSize) {
+            this.entries.delete(this.entries.keys().next().value);
+        }
+    }
+
+    clear() {
+        this.entries.clear();
+    }
+}
+
+/** 検索文字列 → 検索結果（変更通知を受けたら破棄する） */
+const searchCache = new LruCache(SEARCH_CACHE_SIZE);
+
+/** 実行中の取得（新しい取得を始めたら中断し、古い応答で表示を上書きしない） */
+let inFlight = null;
+
+/**
+ * 従業員1人分のテーブル行を作成する
+ * @param {Object} emp - 従業員データ
+ * @returns {HTMLTableRowElement} テーブル行
+ */
+function buildEmployeeRow(emp) {
+    const row = document.createElement('tr');
+    row.dataset.employeeId = emp.employeeId;
+    for (const column of COLUMNS) {
+        const cell = document.createElement('td');
+        cell.textContent = emp[column] ?? '';
+        row.appendChild(cell);
+    }
+    return row;
+}
+
 /**
  * 従業員データの配列をHTMLテーブルに描画する
  * @param {Array<Object>} employees - 従業員データ配列
  */
 function renderEmployeeTable(employees) {
-    const $status = $('#status');
-    const $table = $('#employeeTable');
     const $body = $('#tableBody');
     $body.empty();
 
+    // データがある場合は1行ずつテーブルに追加
+    if (employees && employees.length > 0) {
+        const fragment = document.createDocumentFragment();
+        for (const emp of employees) {
+            fragment.appendChild(buildEmployeeRow(emp));
+        }
+        $body[0].appendChild(fragment);
+    }
+    updateTableVisibility();
+}
+
+/**
+ * 行の有無に応じてテーブルと「データなし」表示を切り替える
+ */
+function updateTableVisibility() {
+    const $status = $('#status');
+    const $table = $('#employeeTable');
     // データが空の場合の分岐
-    if (!employees || employees.length === 0) {
+    if ($('#tableBody')[0].rows.length === 0) {
         $status.text('No data found.').show();
         $table.hide();
     } else {
-        // データがある場合は1行ずつテーブルに追加
-        for (const emp of employees) {
-            const $row = $('<tr></tr>');
-            $row.append($('<td></td>').text(emp.employeeId ?? ''));
-            $row.append($('<td></td>').text(emp.firstName ?? ''));
-            $row.append($('<td></td>').text(emp.lastName ?? ''));
-            $row.append($('<td></td>').text(emp.email ?? ''));
-            $row.append($('<td></td>').text(emp.phoneNumber ?? ''));
-            $row.append($('<td></td>').text(emp.salary ?? ''));
-            $row.append($('<td></td>').text(emp.departmentId ?? ''));
-            $body.append($row);
-        }
         $status.hide();
         $table.show();
     }
 }
 
 /**
- * 全従業員データをAPIから取得しテーブル表示する
+ * 変更通知で受け取った変更を、表示中のテーブル行に反映する（テーブル全体は再描画しない）
+ * @param {Array<Object>} changes - 変更リスト（employeeId, deleted, employee）
+ */
+function applyEmployeeChanges(changes) {
+    const body = $('#tableBody')[0];
+    for (const change of changes) {
+        const row = body.querySelector(`tr[data-employee-id="${change.employeeId}"]`);
+        if (change.deleted) {
+            row?.remove();
+        } else if (row) {
+            // 値が変わったセルのみ書き換え
+            COLUMNS.forEach((column, i) => {
+                const text = String(change.employee[column] ?? '');
+                if (row.cells[i].textContent !== text) {
+                    row.cells[i].textContent = text;
+                }
+            });
+        } else if (showingAll) {
+            body.insertBefore(buildEmployeeRow(change.employee), findRowAfter(body, change.employeeId));
+        }
+    }
+    updateTableVisibility();
+}
+
+/**
+ * ID順に並んだ行から、指定IDより大きいIDの最初の行を二分探索で返す
+ * @param {HTMLTableSectionElement} body - テーブル本体
+ * @param {number} employeeId - 従業員ID
+ * @returns {HTMLTableRowElement|null} 挿入位置の次の行（末尾の場合はnull）
+ */
+function findRowAfter(body, employeeId) {
+    const rows = body.rows;
+    let low = 0;
+    let high = rows.length;
+    while (low < high) {
+        const mid = (low + high) >>> 1;
+        if (Number(rows[mid].dataset.employeeId) <= employeeId) {
+            low = mid + 1;
+        } else {
+            high = mid;
+        }
+    }
+    return rows[low] ?? null;
+}
+
+/**
+ * 一覧の取得を開始する（取得中に届いた変更は描画後に適用するため保留する）
+ */
+function beginLoading() {
+    bufferedChanges = [];
+    $('#status').text('Loading data...').show();
+}
+
+/**
+ * 取得した一覧を描画し、取得中に届いた変更を適用する
+ * @param {Array<Object>} employees - 従業員データ配列
+ */
+function finishLoading(employees) {
+    const buffered = bufferedChanges ?? [];
+    bufferedChanges = null;
+    renderEmployeeTable(employees);
+    if (buffered.length > 0) {
+        applyEmployeeChanges(buffered);
+    }
+}
+
+/**
+ * 変更通知（SSE）を購読し、届いた変更をテーブルに反映する
+ * @param {Function} reload - 表示中の一覧を取得し直す関数（再接続時・resetイベント受信時に呼び出す）
+ * @param {Function} [onConnected] - 最初に接続したときに呼び出す関数
+ */
+function subscribeEmployeeChanges(reload, onConnected) {
+    if (!window.EventSource) {
+        return;
+    }
+    const source = new EventSource(STREAM_URL);
+    let connected = false;
+    source.addEventListener('open', () => {
+        // 再接続した場合は切断中の変更を受け取れていないため、取得し直す
+        if (connected) {
+            searchCache.clear();
+            reload();
+        } else {
+            onConnected?.();
+        }
+        connected = true;
+    });
+    source.addEventListener('changes', (e) => {
+        const changes = JSON.parse(e.data);
+        // 保持している検索結果は変更前の内容のため破棄する
+        searchCache.clear();
+        if (bufferedChanges) {
+            bufferedChanges.push(...changes);
+        } else {
+            applyEmployeeChanges(changes);
+        }
+    });
+    // 送信が追いつかず変更が破棄された場合
+    source.addEventListener('reset', () => {
+        searchCache.clear();
+        reload();
+    });
+}
+
+/**
+ * サーバー側で描画されたテーブルに、描画以降の変更を変更フィードから取得して反映する
+ *
+ * 採番順と異なる順にコミットされた変更を取りこぼさないよう、描画時点から巻き戻した位置から取得する。
+ * 描画済みの変更も含まれるが、従業員IDごとに置き換えるため再適用しても結果は変わらない。
+ * 取得中に変更通知で届いた変更は保留し、取得した変更の後に適用する。
+ * @param {number} since - 取得の開始位置（テーブル本体の data-reread-since）
+ * @param {Array<Object>} buffer - 変更通知の保留先（購読前に bufferedChanges に設定したもの）
+ * @param {Function} reload - 取得しきれない場合・失敗した場合に一覧を取得し直す関数
+ * @param {Array<Object>} [received] - 前回までに取得した変更（続きを取得する場合）
+ * @param {number} [page] - 取得回数
+ */
+function catchUpChanges(since, buffer, reload, received = [], page = 1) {
+    fetch(`${API_BASE_URL}/api/employees/changes?since=${since}`)
+        .then((response) => {
+            if (!response.ok) throw response;
+            return response.json();
+        })
+        .then((changeSet) => {
+            // 取得中に検索が始まった場合は、その結果の描画で保留分も適用される
+            if (bufferedChanges !== buffer) {
+                return;
+            }
+            const changes = [...received, ...changeSet.changes];
+            if (changeSet.hasMore && page < CATCH_UP_MAX_PAGES) {
+                catchUpChanges(changeSet.nextSince, buffer, reload, changes, page + 1);
+                return;
+            }
+            bufferedChanges = null;
+            if (changeSet.hasMore) {
+                reload();
+                return;
+            }
+            applyEmployeeChanges([...changes, ...buffer]);
+        })
+        .catch(() => {
+            if (bufferedChanges === buffer) {
+                bufferedChanges = null;
+                reload();
+            }
+        });
+}
+
+/**
+ * 検索文字列に対応するAPIのURLを返す
+ * @param {string} query - 検索文字列（空文字列の場合は全件取得）
+ * @returns {string} URL
+ */
+function searchUrl(query) {
+    if (!query) {
+        return `${API_BASE_URL}/api/employees`;
+    }
+    // 数字のみの場合はID検索、それ以外は名前検索
+    if (/^\d+$/.test(query)) {
+        return `${API_BASE_URL}/api/employees/${query}`;
+    }
+    return `${API_BASE_URL}/api/employees/search?name=${encodeURIComponent(query)}`;
+}
+
+/**
+ * エラーダイアログを表示する
+ * @param {string} message - メッセージ
+ */
+function showErrorDialog(message) {
+    $('<div></div>')
+        .text(message)
+        .dialog({
+            title: 'エラー',
+            modal: true,
+            buttons: {
+                OK: function () {
+                    $(this).dialog('close');
+                },
+            },
+        });
+}
+
+/**
+ * 従業員データをAPIから取得しテーブル表示する
+ *
+ * 実行中の取得は中断する。検索結果は変更通知を受けるまで保持し、同じ検索文字列では再取得しない。
+ * @param {string} query - 検索文字列（空文字列の場合は全件取得）
+ * @param {Object} [options]
+ * @param {boolean} [options.silent=false] - 入力途中の自動検索か（該当なしをダイアログで通知しない）
  */
-function loadEmployees() {
+function fetchEmployees(query, { silent = false } = {}) {
     const $status = $('#status');
-    $status.text('Loading data...').show();
-    // APIから従業員データを取得
-    fetch(`${API_BASE_URL}/api/employees`)
+    inFlight?.abort();
+    inFlight = null;
+    showingAll = !query;
+
+    const cached = query ? searchCache.get(query) : undefined;
+    if (cached) {
+        bufferedChanges = null;
+        renderEmployeeTable(cached);
+        return;
+    }
+
+    const controller = new AbortController();
+    inFlight = controller;
+    beginLoading();
+    fetch(searchUrl(query), { signal: controller.signal })
         .then((response) => {
+            // 該当なし（ID検索）は空の結果として扱う
+            if (response.status === 404 && query) {
+                return null;
+            }
             // レスポンスが正常でなければ例外を投げる
             if (!response.ok) throw response;
             // JSONデータとしてパース
             return response.json();
         })
         .then((data) => {
-            // 取得したデータをテーブルに描画
-            renderEmployeeTable(data);
+            // 中断後に届いた応答は表示しない
+            if (controller.signal.aborted) {
+                return;
+            }
+            inFlight = null;
+            let normalized = [];
+            // 返却データが配列か単一オブジェクトかで正規化
+            if (Array.isArray(data)) {
+                normalized = data;
+            } else if (data) {
+                normalized = [data];
+            }
+            if (query) {
+                searchCache.set(query, normalized);
+            }
+            if (normalized.length === 0 && query && !silent) {
+                showErrorDialog('該当する従業員が見つかりませんでした。');
+            }
+            // テーブル描画
+            finishLoading(normalized);
         })
-        .catch(() => {
-            // エラー時の表示
+        .catch((err) => {
+            // 新しい取得を始めたため中断した場合は何もしない
+            if (controller.signal.aborted) {
+                return;
+            }
+            inFlight = null;
+            bufferedChanges = null;
+            const status = err.status || 0;
+            // ステータスごとにエラーダイアログ表示
+            if (status === 500) {
+                showErrorDialog('サーバーエラーが発生しました。管理者に連絡してください。');
+            } else if (!silent) {
+                showErrorDialog('エラーが発生しました。ステータス: ' + status);
+            }
+            // ステータスバーにエラー表示
             $status.text('Error loading employees. Check console.').show();
         });
 }
 
 $(function () {
-    loadEmployees();
+    const $input = $('#searchInput');
+    /** 最後に表示した検索文字列（全件表示の場合は空文字列） */
+    let lastQuery = '';
+    /** 入力途中の自動検索のタイマー */
+    let debounceTimer = null;
+
     /**
      * 検索バーの入力値で従業員データをAPI検索しテーブル表示する
      * @function
+     * @param {string} [query] - 検索文字列（省略時は検索バーの入力値）
+     * @param {Object} [options] - {@link fetchEmployees} のオプション
      */
-    const search = function () {
-        const query = $('#searchInput').val().trim();
-        const $status = $('#status');
-        $status.text('Loading data...').show();
-
-        let url;
-        // 検索バーに入力があればID/名前検索、なければ全件取得API
-        if (query) {
-            url = `${API_BASE_URL}/api/employees/` + encodeURIComponent(query);
-        } else {
-            url = `${API_BASE_URL}/api/employees`;
-        }
-
-        // APIリクエスト実行
-        fetch(url)
-            .then((response) => {
-                // レスポンスが正常でなければ例外を投げる
-                if (!response.ok) throw response;
-                // JSONデータとしてパース
-                return response.json();
-            })
-            .then((data) => {
-                let normalized = [];
-                // 返却データが配列か単一オブジェクトかで正規化
-                if (Array.isArray(data)) {
-                    normalized = data;
-                } else if (data) {
-                    normalized = [data];
-                }
-                // テーブル描画
-                renderEmployeeTable(normalized);
-            })
-            .catch(async (err) => {
-                let status = err.status || 0;
-                // ステータスごとにエラーダイアログ表示
-                if (status === 404) {
-                    $('<div>該当する従業員が見つかりませんでした。</div>').dialog({
-                        title: 'エラー',
-                        modal: true,
-                        buttons: {
-                            OK: function () {
-                                $(this).dialog('close');
-                            },
-                        },
-                    });
-                } else if (status === 500) {
-                    $('<div>サーバーエラーが発生しました。管理者に連絡してください。</div>').dialog(
-                        {
-                            title: 'エラー',
-                            modal: true,
-                            buttons: {
-                                OK: function () {
-                                    $(this).dialog('close');
-                                },
-                            },
-                        }
-                    );
-                } else {
-                    $('<div>エラーが発生しました。ステータス: ' + status + '</div>').dialog({
-                        title: 'エラー',
-                        modal: true,
-                        buttons: {
-                            OK: function () {
-                                $(this).dialog('close');
-                            },
-                        },
-                    });
-                }
-                // ステータスバーにエラー表示
-                $status.text('Error loading employees. Check console.').show();
-            });
+    const search = function (query = $input.val().trim(), options = {}) {
+        clearTimeout(debounceTimer);
+        lastQuery = query;
+        fetchEmployees(query, options);
     };
-    $('#searchButton').on('click', search);
-    $('#searchInput').on('keydown', function (e) {
+    $('#searchButton').on('click', () => search());
+    $input.on('keydown', function (e) {
         if (e.key === 'Enter') {
             search();
         }
     });
+    // 入力が止まってから検索する（1文字ごとにAPIを呼ばない）
+    $input.on('input', function () {
+        clearTimeout(debounceTimer);
+        debounceTimer = setTimeout(() => {
+            const query = $input.val().trim();
+            if (query !== lastQuery) {
+                search(query, { silent: true });
+            }
+        }, SEARCH_DEBOUNCE_MILLIS);
+    });
+
+    const reload = () => search(lastQuery, { silent: true });
+    const tableBody = $('#tableBody')[0].dataset;
+    const rereadSince = tableBody.rereadSince ?? tableBody.changeVersion;
+    if (rereadSince !== undefined && !tableBody.truncated) {
+        // サーバー側で全件描画済みの場合は取得せず、接続後に描画以降（巻き戻した位置から）の変更のみを取得する
+        const buffer = [];
+        bufferedChanges = buffer;
+        subscribeEmployeeChanges(reload, () => catchUpChanges(Number(rereadSince), buffer, reload));
+        return;
+    }
+    // 一覧の取得より先に購読し、取得中の変更も取りこぼさない
+    subscribeEmployeeChanges(reload);
+    search('');
 });
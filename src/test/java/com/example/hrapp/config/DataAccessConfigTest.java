@@ -0,0 +1,109 @@
+package com.example.hrapp.config;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.Ordered;
+
+import com.example.hrapp.jdbc.ConnectionLimitDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/** DataAccessConfigのテストクラス。 Oracle専用の接続プロパティの追加と、接続数制限によるデータソースの置き換えを検証します。 */
+class DataAccessConfigTest {
+
+    private BeanPostProcessor postProcessor;
+
+    @BeforeEach
+    void setUp() {
+        // 準備
+        HrProperties properties = new HrProperties();
+        properties.getDatasource().getOracleProperties().put("oracle.jdbc.implicitStatementCacheSize", "100");
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("hrProperties", properties);
+        postProcessor = DataAccessConfig.oracleDataSourcePropertiesPostProcessor(
+                beanFactory.getBeanProvider(HrProperties.class));
+    }
+
+    @Test
+    @DisplayName("Oracle専用の接続プロパティ - 接続先がOracleの場合は追加すること")
+    void testOracleProperties_Oracle() {
+        // 準備
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:oracle:thin:@localhost:1521/XEPDB1");
+
+        // メソッド実行
+        postProcessor.postProcessAfterInitialization(dataSource, "dataSource");
+
+        // 検証
+        assertThat(dataSource.getDataSourceProperties()).containsEntry("oracle.jdbc.implicitStatementCacheSize", "100");
+    }
+
+    @Test
+    @DisplayName("Oracle専用の接続プロパティ - 接続先がH2の場合は追加しないこと")
+    void testOracleProperties_H2() {
+        // 準備
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:testdb");
+
+        // メソッド実行
+        postProcessor.postProcessAfterInitialization(dataSource, "dataSource");
+
+        // 検証
+        assertThat(dataSource.getDataSourceProperties()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("接続数制限 - データソースを包み、上限をコネクションプールの最大サイズとすること")
+    void testConnectionLimit() {
+        // 準備
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("hrProperties", new HrProperties());
+        beanFactory.addBean("meterRegistry", new SimpleMeterRegistry());
+        BeanPostProcessor limiter = DataAccessConfig.connectionLimitPostProcessor(
+                beanFactory.getBeanProvider(HrProperties.class), beanFactory.getBeanProvider(MeterRegistry.class));
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setMaximumPoolSize(7);
+
+        // メソッド実行
+        Object result = limiter.postProcessAfterInitialization(dataSource, "dataSource");
+
+        // 検証
+        assertThat(result).isInstanceOfSatisfying(ConnectionLimitDataSource.class, limited -> {
+            assertThat(limited.getLimit()).isEqualTo(7);
+            assertThat(limited.getTargetDataSource()).isSameAs(dataSource);
+        });
+        assertThat(limiter.postProcessAfterInitialization(result, "dataSource")).isSameAs(result);
+        assertThat(((Ordered) limiter).getOrder()).isGreaterThan(((Ordered) postProcessor).getOrder());
+    }
+
+    @Test
+    @DisplayName("接続数制限 - アプリケーションの終了時に包んだコネクションプールを閉じること")
+    void testConnectionLimit_ClosesPoolOnShutdown() {
+        // 準備
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:testdb");
+        GenericApplicationContext context = new GenericApplicationContext();
+        context.registerBean("hrProperties", HrProperties.class);
+        context.registerBean("meterRegistry", MeterRegistry.class, SimpleMeterRegistry::new);
+        context.registerBean("connectionLimitPostProcessor", BeanPostProcessor.class,
+                () -> DataAccessConfig.connectionLimitPostProcessor(context.getBeanProvider(HrProperties.class),
+                        context.getBeanProvider(MeterRegistry.class)));
+        context.registerBean("dataSource", HikariDataSource.class, () -> dataSource);
+        context.refresh();
+        assertThat(context.getBean("dataSource")).isInstanceOf(ConnectionLimitDataSource.class);
+
+        // メソッド実行
+        context.close();
+
+        // 検証
+        assertThat(dataSource.isClosed()).isTrue();
+    }
+}
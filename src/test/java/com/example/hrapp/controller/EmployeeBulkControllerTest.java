@@ -0,0 +1,82 @@
+package com.example.hrapp.controller;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.example.hrapp.model.EmployeeBulkResult;
+import com.example.hrapp.service.EmployeeBulkReader;
+import com.example.hrapp.service.EmployeeBulkService;
+
+/** EmployeeBulkControllerのテストクラス。 リクエストボディの形式ごとの受け付けを検証します。 */
+@WebMvcTest(EmployeeBulkController.class)
+class EmployeeBulkControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private EmployeeBulkService bulkService;
+
+    @Test
+    @DisplayName("一括登録・更新API - NDJSONを1行ずつServiceに渡すこと")
+    void testUpsertNdjson() throws Exception {
+        // Mock設定
+        List<EmployeeBulkReader.Row> received = new ArrayList<>();
+        when(bulkService.upsert(any())).thenAnswer(invocation -> {
+            EmployeeBulkReader reader = invocation.getArgument(0);
+            reader.forEachRemaining(received::add);
+            EmployeeBulkResult result = new EmployeeBulkResult();
+            result.setTotalRows(received.size());
+            result.setUpserted(received.size());
+            return result;
+        });
+
+        // APIテスト実行
+        mockMvc.perform(post("/employees/bulk")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content("{\"employeeId\":1}\n{\"employeeId\":2}\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalRows").value(2))
+                .andExpect(jsonPath("$.upserted").value(2));
+
+        // 検証
+        assertThat(received).extracting(row -> row.getEmployee().getEmployeeId()).containsExactly(1, 2);
+    }
+
+    @Test
+    @DisplayName("一括登録・更新API - CSVのヘッダーに不明な列がある場合は400")
+    void testUpsertCsv_UnknownColumn() throws Exception {
+        // APIテスト実行
+        mockMvc.perform(post("/employees/bulk")
+                .contentType("text/csv")
+                .content("employeeId,password\n1,x\n"))
+                .andExpect(status().isBadRequest());
+
+        // 検証
+        verify(bulkService, never()).upsert(any());
+    }
+
+    @Test
+    @DisplayName("一括登録・更新API - 対応していない形式の場合は415")
+    void testUpsert_UnsupportedMediaType() throws Exception {
+        // APIテスト実行
+        mockMvc.perform(post("/employees/bulk")
+                .contentType(MediaType.APPLICATION_XML)
+                .content("<employees/>"))
+                .andExpect(status().isUnsupportedMediaType());
+    }
+}
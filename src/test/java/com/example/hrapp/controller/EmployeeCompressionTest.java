@@ -0,0 +1,95 @@
+package com.example.hrapp.controller;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/** レスポンス圧縮の統合テストクラス。 サイズしきい値による圧縮有無とETagの扱いを実際のTomcatで検証します。 */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        // テストデータ（5件）の全件取得が対象になるよう、しきい値を下げる
+        "server.compression.min-response-size=512B",
+        "hr.changes.poll-enabled=false" })
+@ActiveProfiles("test")
+class EmployeeCompressionTest {
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    @DisplayName("圧縮 - しきい値以上のJSONはgzipで返し、ETagは弱いETagにすること")
+    void testGetAll_Gzip() throws Exception {
+        // APIテスト実行
+        HttpResponse<InputStream> response = get("/employees", "gzip", null);
+
+        // 検証
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Encoding")).hasValue("gzip");
+        assertThat(response.headers().allValues("Vary").toString()).containsIgnoringCase("accept-encoding");
+        JsonNode body;
+        try (InputStream in = new GZIPInputStream(response.body())) {
+            body = new ObjectMapper().readTree(in);
+        }
+        assertThat(body.size()).isEqualTo(5);
+        String etag = response.headers().firstValue("ETag").orElseThrow();
+        assertThat(etag).startsWith("W/\"");
+
+        // 弱いETagでも304になること
+        HttpResponse<InputStream> notModified = get("/employees", "gzip", etag);
+        assertThat(notModified.statusCode()).isEqualTo(304);
+    }
+
+    @Test
+    @DisplayName("圧縮 - Accept-Encodingがない場合は圧縮せず、強いETagのままにすること")
+    void testGetAll_Identity() throws Exception {
+        // APIテスト実行
+        HttpResponse<InputStream> response = get("/employees", null, null);
+
+        // 検証
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Encoding")).isEmpty();
+        assertThat(new ObjectMapper().readTree(response.body()).size()).isEqualTo(5);
+        assertThat(response.headers().firstValue("ETag").orElseThrow()).startsWith("\"");
+    }
+
+    @Test
+    @DisplayName("圧縮 - しきい値未満の応答（ID検索）は圧縮しないこと")
+    void testGetById_BelowThreshold() throws Exception {
+        // APIテスト実行
+        HttpResponse<InputStream> response = get("/employees/1", "gzip", null);
+
+        // 検証
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Encoding")).isEmpty();
+        assertThat(new ObjectMapper().readTree(response.body()).get("employeeId").asInt()).isEqualTo(1);
+    }
+
+    private HttpResponse<InputStream> get(String path, String acceptEncoding, String ifNoneMatch)
+            throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api" + path))
+                .header("Accept", "application/json");
+        if (acceptEncoding != null) {
+            request.header("Accept-Encoding", acceptEncoding);
+        }
+        if (ifNoneMatch != null) {
+            request.header("If-None-Match", ifNoneMatch);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofInputStream());
+    }
+}
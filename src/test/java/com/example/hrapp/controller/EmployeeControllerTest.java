@@ -1,5 +1,9 @@
 package com.example.hrapp.controller;
 
+import static org.assertj.core.api.Assertions.*;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -7,19 +11,36 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import com.example.hrapp.model.Employee;
+import com.example.hrapp.model.EmployeeBatchResult;
+import com.example.hrapp.model.EmployeeChange;
+import com.example.hrapp.model.EmployeeChangeSet;
+import com.example.hrapp.model.EmployeeField;
+import com.example.hrapp.model.EmployeePage;
+import com.example.hrapp.model.EmployeeQuery;
+import com.example.hrapp.model.EmployeeSort;
+import com.example.hrapp.model.EmployeeTableState;
+import com.example.hrapp.model.ProjectedEmployee;
 import com.example.hrapp.service.EmployeeService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
 
 /** EmployeeControllerのテストクラス。 Spring Boot Testを使用してRESTエンドポイントをテストします。 */
 @WebMvcTest(EmployeeController.class)
@@ -59,6 +80,7 @@ class EmployeeControllerTest {
         employee2.setDepartmentId(20);
 
         employeeList = Arrays.asList(employee1, employee2);
+        when(employeeService.getTableState()).thenReturn(new EmployeeTableState(2, 3L, 2L));
     }
 
     @Test
@@ -134,7 +156,7 @@ class EmployeeControllerTest {
   @DisplayName("名前検索API - 正常系")
   void testGetByName_Success() throws Exception {
     // Mock設定
-    when(employeeService.getByName("John")).thenReturn(Arrays.asList(employee1));
+    when(employeeService.getByName("John", false, 0)).thenReturn(Arrays.asList(employee1));
 
     // APIテスト実行
     mockMvc
@@ -153,7 +175,7 @@ class EmployeeControllerTest {
   @DisplayName("名前検索API - 該当なしの場合")
   void testGetByName_NoMatches() throws Exception {
     // Mock設定
-    when(employeeService.getByName("NotExist")).thenReturn(Collections.emptyList());
+    when(employeeService.getByName("NotExist", false, 0)).thenReturn(Collections.emptyList());
 
     // APIテスト実行
     mockMvc
@@ -171,7 +193,7 @@ class EmployeeControllerTest {
   @DisplayName("名前検索API - 複数件ヒットの場合")
   void testGetByName_MultipleMatches() throws Exception {
     // Mock設定
-    when(employeeService.getByName("a")).thenReturn(employeeList);
+    when(employeeService.getByName("a", false, 0)).thenReturn(employeeList);
 
     // APIテスト実行
     mockMvc
@@ -182,4 +204,393 @@ class EmployeeControllerTest {
         .andExpect(jsonPath("$").isArray())
         .andExpect(jsonPath("$.length()").value(2));
   }
+
+    @Test
+    @DisplayName("ページング取得API - 次ページありの場合")
+    void testGetPage_HasNext() throws Exception {
+        // Mock設定
+        when(employeeService.getPage(null, 2)).thenReturn(new EmployeePage(employeeList, 2));
+
+        // APIテスト実行
+        mockMvc.perform(get("/employees").param("limit", "2").contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].employeeId").value(1))
+                .andExpect(jsonPath("$.nextCursor").value(2));
+    }
+
+    @Test
+    @DisplayName("ページング取得API - カーソル指定で最終ページの場合")
+    void testGetPage_LastPage() throws Exception {
+        // Mock設定
+        when(employeeService.getPage(1, 10)).thenReturn(new EmployeePage(Arrays.asList(employee2), null));
+
+        // APIテスト実行
+        mockMvc.perform(get("/employees").param("after", "1").param("limit", "10")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].employeeId").value(2))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("ページング取得API - 件数を省略してカーソルだけを指定した場合")
+    void testGetPage_AfterWithoutLimit() throws Exception {
+        // APIテスト実行（全件取得として表全体を返さないこと）
+        mockMvc.perform(get("/employees").param("after", "1").contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(employeeService);
+    }
+
+    @Test
+    @DisplayName("ページング取得API - 件数が範囲外の場合")
+    void testGetPage_InvalidLimit() throws Exception {
+        // APIテスト実行
+        mockMvc.perform(get("/employees").param("limit", "0").contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/employees").param("limit", "1001").contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(employeeService);
+    }
+
+    @Test
+    @DisplayName("NDJSONエクスポートAPI - 正常系")
+    void testExport_Success() throws Exception {
+        // Mock設定（Cursorから読み出した行を順に渡す）
+        doAnswer(invocation -> {
+            Consumer<Employee> action = invocation.getArgument(0);
+            employeeList.forEach(action);
+            return (long) employeeList.size();
+        }).when(employeeService).exportAll(any());
+
+        // APIテスト実行
+        MvcResult result = mockMvc.perform(get("/employees/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        // 検証 - 1行1従業員で出力されること
+        String[] lines = body.split("\n");
+        assertThat(body).endsWith("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("{\"employeeId\":1,");
+        assertThat(lines[1]).startsWith("{\"employeeId\":2,");
+    }
+
+    @Test
+    @DisplayName("名前検索API - 一致度順・件数指定の場合")
+    void testGetByName_RankedWithLimit() throws Exception {
+        // Mock設定
+        when(employeeService.getByName("J", true, 1)).thenReturn(Arrays.asList(employee2));
+
+        // APIテスト実行
+        mockMvc.perform(get("/employees/search").param("name", "J").param("ranked", "true").param("limit", "1")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].employeeId").value(2));
+    }
+
+    @Test
+    @DisplayName("ID一括取得API - 正常系（存在しないIDを含む）")
+    void testGetByIds_Success() throws Exception {
+        // Mock設定
+        when(employeeService.getByIds(Arrays.asList(2, 999, 1)))
+                .thenReturn(new EmployeeBatchResult(Arrays.asList(employee2, employee1), Arrays.asList(999)));
+
+        // APIテスト実行
+        mockMvc.perform(post("/employees/batch").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"ids\":[2,999,1]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.employees.length()").value(2))
+                .andExpect(jsonPath("$.employees[0].employeeId").value(2))
+                .andExpect(jsonPath("$.employees[1].employeeId").value(1))
+                .andExpect(jsonPath("$.missingIds[0]").value(999));
+    }
+
+    @Test
+    @DisplayName("ID一括取得API - ID未指定・null含み・上限超過の場合")
+    void testGetByIds_BadRequest() throws Exception {
+        String tooMany = "{\"ids\":[" + "1,".repeat(1000) + "1]}";
+
+        // APIテスト実行
+        mockMvc.perform(post("/employees/batch").contentType(MediaType.APPLICATION_JSON).content("{}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/employees/batch").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"ids\":[1,null]}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/employees/batch").contentType(MediaType.APPLICATION_JSON).content(tooMany))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(employeeService);
+    }
+
+    @Test
+    @DisplayName("条件付きGET - ETagが一致する場合は304を返すこと")
+    void testGetById_NotModified() throws Exception {
+        // Mock設定
+        when(employeeService.getById(1)).thenReturn(employee1);
+
+        // APIテスト実行 - 初回はETag付きで200
+        String etag = mockMvc.perform(get("/employees/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        // APIテスト実行 - 同じETagを指定すると304（ボディなし）
+        mockMvc.perform(get("/employees/1").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("条件付きGET - 内容が変わった場合は200を返すこと")
+    void testGetAll_ModifiedAfterChange() throws Exception {
+        // Mock設定
+        when(employeeService.getAll()).thenReturn(employeeList);
+        String etag = mockMvc.perform(get("/employees"))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        // データ変更 - 更新により変更バージョンが採番し直される
+        employee2.setSalary(new BigDecimal("46000"));
+        when(employeeService.getTableState()).thenReturn(new EmployeeTableState(2, 4L, 3L));
+
+        // APIテスト実行
+        mockMvc.perform(get("/employees").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)))
+                .andExpect(jsonPath("$[1].salary").value(46000));
+    }
+
+    @Test
+    @DisplayName("条件付きGET - 全件取得はETagが一致する場合、全件を読み込まずに304を返すこと")
+    void testGetAll_NotModifiedWithoutLoading() throws Exception {
+        // Mock設定
+        when(employeeService.getAll()).thenReturn(employeeList);
+        String etag = mockMvc.perform(get("/employees"))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        // APIテスト実行
+        mockMvc.perform(get("/employees").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+
+        // 検証 - 全件の読み込みは初回のみ
+        verify(employeeService, times(1)).getAll();
+        verify(employeeService, times(2)).getTableState();
+    }
+
+    @Test
+    @DisplayName("条件付きGET - 採番順と異なる順にコミットされ最大バージョンと件数が同じでも、合計が変われば200を返すこと")
+    void testGetAll_ModifiedOutOfOrderCommit() throws Exception {
+        // Mock設定 - 変更バージョン3（従業員1）・4（従業員2）の更新のうち、4が先にコミットされた状態
+        when(employeeService.getAll()).thenReturn(employeeList);
+        when(employeeService.getTableState()).thenReturn(new EmployeeTableState(2, 1L + 4L, 4L));
+        String etag = mockMvc.perform(get("/employees"))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        // データ変更 - 変更バージョン3が後からコミットされる（件数・最大値は同じ）
+        when(employeeService.getTableState()).thenReturn(new EmployeeTableState(2, 3L + 4L, 4L));
+
+        // APIテスト実行
+        mockMvc.perform(get("/employees").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)));
+    }
+
+    @Test
+    @DisplayName("全従業員取得API - Accept: application/cbor の場合はCBORで返すこと")
+    void testGetAll_Cbor() throws Exception {
+        // Mock設定
+        when(employeeService.getAll()).thenReturn(employeeList);
+        String jsonETag = mockMvc.perform(get("/employees").accept(MediaType.APPLICATION_JSON))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        // APIテスト実行
+        MvcResult result = mockMvc.perform(get("/employees").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andExpect(header().string(HttpHeaders.VARY, containsString("Accept")))
+                .andReturn();
+
+        // 検証 - JSONと同じ項目構成で、ETagはJSONと区別されること
+        JsonNode body = new ObjectMapper(new CBORFactory()).readTree(result.getResponse().getContentAsByteArray());
+        assertThat(body).hasSize(2);
+        assertThat(body.get(0).get("employeeId").asInt()).isEqualTo(1);
+        assertThat(body.get(1).get("lastName").asText()).isEqualTo("Smith");
+        assertThat(result.getResponse().getHeader(HttpHeaders.ETAG)).isNotEqualTo(jsonETag);
+    }
+
+    @Test
+    @DisplayName("全従業員取得API - Acceptの品質値でCBORが選ばれる場合は、ETagもCBORの値にすること")
+    void testGetAll_CborByQuality() throws Exception {
+        // Mock設定
+        when(employeeService.getAll()).thenReturn(employeeList);
+        String cborETag = mockMvc.perform(get("/employees").accept(MediaType.APPLICATION_CBOR))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        // APIテスト実行
+        mockMvc.perform(get("/employees").header(HttpHeaders.ACCEPT, "application/json;q=0.1, application/cbor"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andExpect(header().string(HttpHeaders.ETAG, cborETag));
+    }
+
+    @Test
+    @DisplayName("条件検索API - パラメータを検索条件に変換してServiceに渡すこと")
+    void testQuery_Success() throws Exception {
+        // Mock設定
+        when(employeeService.query(any())).thenReturn(employeeList);
+
+        // APIテスト実行
+        mockMvc.perform(get("/employees/query")
+                .param("departmentId", "10", "20")
+                .param("jobId", "IT_PROG")
+                .param("salaryMin", "40000")
+                .param("salaryMax", "60000")
+                .param("emailPrefix", "j")
+                .param("sort", "lastName")
+                .param("order", "desc")
+                .param("limit", "50"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(header().exists(HttpHeaders.ETAG));
+
+        // 検証
+        ArgumentCaptor<EmployeeQuery> captor = ArgumentCaptor.forClass(EmployeeQuery.class);
+        verify(employeeService).query(captor.capture());
+        EmployeeQuery query = captor.getValue();
+        assertThat(query.getDepartmentIds()).containsExactly(10, 20);
+        assertThat(query.getJobIds()).containsExactly("IT_PROG");
+        assertThat(query.getSalaryMin()).isEqualByComparingTo("40000");
+        assertThat(query.getSalaryMax()).isEqualByComparingTo("60000");
+        assertThat(query.getEmailPrefix()).isEqualTo("j");
+        assertThat(query.getSort()).isEqualTo(EmployeeSort.LAST_NAME);
+        assertThat(query.isDescending()).isTrue();
+        assertThat(query.getLimit()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("条件検索API - 不正な並び順・件数・給与範囲の場合は400")
+    void testQuery_BadRequest() throws Exception {
+        // APIテスト実行
+        mockMvc.perform(get("/employees/query").param("sort", "password")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/employees/query").param("order", "random")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/employees/query").param("limit", "0")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/employees/query").param("salaryMin", "60000").param("salaryMax", "40000"))
+                .andExpect(status().isBadRequest());
+
+        // 検証
+        verify(employeeService, never()).query(any());
+    }
+
+    @Test
+    @DisplayName("変更フィードAPI - 変更リストと次回の取得開始位置を返すこと")
+    void testGetChanges_Success() throws Exception {
+        // Mock設定
+        employee1.setChangeVersion(11L);
+        when(employeeService.getChanges(10L, 1000)).thenReturn(new EmployeeChangeSet(
+                Arrays.asList(new EmployeeChange(1, 11L, false, employee1), new EmployeeChange(9, 12L, true, null)),
+                12L, false));
+
+        // APIテスト実行
+        mockMvc.perform(get("/employees/changes").param("since", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes.length()").value(2))
+                .andExpect(jsonPath("$.changes[0].employee.changeVersion").value(11))
+                .andExpect(jsonPath("$.changes[1].employeeId").value(9))
+                .andExpect(jsonPath("$.changes[1].deleted").value(true))
+                .andExpect(jsonPath("$.nextSince").value(12))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    @DisplayName("変更フィードAPI - 範囲外のパラメータの場合は400")
+    void testGetChanges_BadRequest() throws Exception {
+        // APIテスト実行
+        mockMvc.perform(get("/employees/changes").param("since", "-1")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/employees/changes").param("limit", "1001")).andExpect(status().isBadRequest());
+
+        // 検証
+        verify(employeeService, never()).getChanges(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("項目の絞り込み - 全件取得は指定項目のみをSQLで取得し、従業員IDと指定項目のみを返すこと")
+    void testGetAll_Fields() throws Exception {
+        // Mock設定
+        EnumSet<EmployeeField> fields = EnumSet.of(EmployeeField.EMPLOYEE_ID, EmployeeField.EMAIL);
+        when(employeeService.getAll(fields)).thenReturn(ProjectedEmployee.of(employeeList, fields));
+
+        // APIテスト実行
+        MvcResult result = mockMvc.perform(get("/employees").param("fields", "email"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[1].employeeId").value(2))
+                .andExpect(jsonPath("$[1].email").value("jane.smith@example.com"))
+                .andReturn();
+
+        // 検証
+        JsonNode body = new ObjectMapper().readTree(result.getResponse().getContentAsString());
+        assertThat(body.get(0).size()).isEqualTo(2);
+        verify(employeeService, never()).getAll();
+    }
+
+    @Test
+    @DisplayName("項目の絞り込み - ID検索は指定項目のみを返し、ETagは全項目の場合と区別されること")
+    void testGetById_Fields() throws Exception {
+        // Mock設定
+        when(employeeService.getById(1)).thenReturn(employee1);
+        String fullETag = mockMvc.perform(get("/employees/1"))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        // APIテスト実行
+        MvcResult result = mockMvc.perform(get("/employees/1").param("fields", "phone_number,salary"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(fullETag)))
+                .andReturn();
+
+        // 検証 - 項目順は指定順ではなく定義順
+        assertThat(result.getResponse().getContentAsString())
+                .isEqualTo("{\"employeeId\":1,\"phoneNumber\":\"123-456-7890\",\"salary\":50000}");
+    }
+
+    @Test
+    @DisplayName("項目の絞り込み - 不明な項目を指定した場合は400")
+    void testFields_BadRequest() throws Exception {
+        // APIテスト実行
+        mockMvc.perform(get("/employees").param("fields", "email,password")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/employees/1").param("fields", "EMAIL AS x")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/employees").param("limit", "10").param("fields", "salary)"))
+                .andExpect(status().isBadRequest());
+
+        // 検証
+        verify(employeeService, never()).getAll(any());
+        verify(employeeService, never()).getById(anyInt());
+        verify(employeeService, never()).getPage(any(), anyInt(), any());
+    }
 }
@@ -0,0 +1,122 @@
+package com.example.hrapp.controller;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import com.example.hrapp.model.Employee;
+
+/** EmployeeETagのテストクラス。 ETagの生成と If-None-Match の照合を検証します。 */
+class EmployeeETagTest {
+
+    private Employee employee1;
+    private Employee employee2;
+
+    @BeforeEach
+    void setUp() {
+        employee1 = new Employee();
+        employee1.setEmployeeId(1);
+        employee1.setFirstName("John");
+        employee1.setSalary(new BigDecimal("50000"));
+
+        employee2 = new Employee();
+        employee2.setEmployeeId(2);
+        employee2.setFirstName("Jane");
+    }
+
+    @Test
+    @DisplayName("ETag生成 - 同じ内容なら同じ値、内容が変われば異なる値")
+    void testOf_Employee() {
+        // 準備
+        Employee copy = new Employee();
+        copy.setEmployeeId(1);
+        copy.setFirstName("John");
+        copy.setSalary(new BigDecimal("50000"));
+
+        // 検証
+        assertThat(EmployeeETag.of(employee1)).isEqualTo(EmployeeETag.of(copy)).matches("\"[0-9a-f]{16}\"");
+        copy.setSalary(new BigDecimal("50001"));
+        assertThat(EmployeeETag.of(employee1)).isNotEqualTo(EmployeeETag.of(copy));
+    }
+
+    @Test
+    @DisplayName("ETag生成 - nullと空文字、項目の境界を区別すること")
+    void testOf_DistinguishesNullAndBoundaries() {
+        // 準備
+        Employee a = new Employee();
+        a.setFirstName("Jo");
+        a.setLastName("hn");
+        Employee b = new Employee();
+        b.setFirstName("John");
+        b.setLastName("");
+        Employee c = new Employee();
+        c.setFirstName("John");
+
+        // 検証
+        assertThat(EmployeeETag.of(a)).isNotEqualTo(EmployeeETag.of(b));
+        assertThat(EmployeeETag.of(b)).isNotEqualTo(EmployeeETag.of(c));
+    }
+
+    @Test
+    @DisplayName("ETag生成 - リストは順序とカーソルも区別すること")
+    void testOf_List() {
+        // 検証
+        String etag = EmployeeETag.of(Arrays.asList(employee1, employee2), null);
+        assertThat(EmployeeETag.of(Arrays.asList(employee1, employee2), null)).isEqualTo(etag);
+        assertThat(EmployeeETag.of(Arrays.asList(employee2, employee1), null)).isNotEqualTo(etag);
+        assertThat(EmployeeETag.of(Arrays.asList(employee1, employee2), 2)).isNotEqualTo(etag);
+    }
+
+    @Test
+    @DisplayName("If-None-Match照合 - 複数指定・弱いETag・* に対応すること")
+    void testMatches() {
+        // 検証
+        String etag = EmployeeETag.of(employee1);
+        assertThat(EmployeeETag.matches(null, etag)).isFalse();
+        assertThat(EmployeeETag.matches("\"0000000000000000\"", etag)).isFalse();
+        assertThat(EmployeeETag.matches("\"0000000000000000\", " + etag, etag)).isTrue();
+        assertThat(EmployeeETag.matches("W/" + etag, etag)).isTrue();
+        assertThat(EmployeeETag.matches("*", etag)).isTrue();
+    }
+
+    @Test
+    @DisplayName("表現ごとのETag - CBORが選ばれる場合のみJSONと異なる値にすること")
+    void testForRepresentation() {
+        // 準備
+        String etag = EmployeeETag.of(employee1);
+
+        // 検証
+        assertThat(EmployeeETag.forRepresentation(etag, List.of())).isEqualTo(etag);
+        assertThat(EmployeeETag.forRepresentation(etag, List.of(MediaType.ALL))).isEqualTo(etag);
+        assertThat(EmployeeETag.forRepresentation(etag, List.of(MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR)))
+                .isEqualTo(etag);
+        assertThat(EmployeeETag.forRepresentation(etag, List.of(MediaType.APPLICATION_CBOR)))
+                .isNotEqualTo(etag)
+                .endsWith("-cbor\"");
+    }
+
+    @Test
+    @DisplayName("表現ごとのETag - Acceptの品質値が高い表現を指定順より優先すること")
+    void testForRepresentation_Quality() {
+        // 準備
+        String etag = EmployeeETag.of(employee1);
+        String cborETag = EmployeeETag.forRepresentation(etag, List.of(MediaType.APPLICATION_CBOR));
+
+        // 検証
+        assertThat(EmployeeETag.forRepresentation(etag,
+                MediaType.parseMediaTypes("application/json;q=0.1, application/cbor"))).isEqualTo(cborETag);
+        assertThat(EmployeeETag.forRepresentation(etag,
+                MediaType.parseMediaTypes("application/cbor;q=0.5, */*;q=0.8"))).isEqualTo(etag);
+        assertThat(EmployeeETag.forRepresentation(etag,
+                MediaType.parseMediaTypes("application/json;q=0, application/cbor;q=0.2"))).isEqualTo(cborETag);
+        assertThat(EmployeeETag.forRepresentation(etag,
+                MediaType.parseMediaTypes("application/cbor;q=0.7, application/json;q=0.7"))).isEqualTo(cborETag);
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.hrapp.controller;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+/** サーバー側描画の画面と静的ファイルのキャッシュの統合テストクラス。 ハッシュを含むURLとキャッシュヘッダーを実際のTomcatで検証します。 */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "hr.page.enabled=true",
+        "hr.changes.poll-enabled=false" })
+@ActiveProfiles("test")
+class EmployeePageCachingTest {
+
+    /** 画面内のCSSへの参照 */
+    private static final Pattern STYLESHEET = Pattern.compile("href=\"/api(/css/employees-[0-9a-f]{32}\\.css)\"");
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    @DisplayName("画面 - テーブルの行を埋め込み、CSS・JavaScriptをハッシュを含むURLで参照すること")
+    void testGetPage() throws Exception {
+        // APIテスト実行
+        HttpResponse<String> response = get("/employees.html", null);
+
+        // 検証
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.body()).contains("<tr data-employee-id=\"1\">", "<tr data-employee-id=\"5\">");
+        assertThat(response.body()).containsPattern("src=\"/api/js/employees-[0-9a-f]{32}\\.js\"");
+        assertThat(STYLESHEET.matcher(response.body()).find()).isTrue();
+
+        // 変更がなければ304
+        HttpResponse<String> notModified = get("/employees.html", response.headers().firstValue("ETag").orElseThrow());
+        assertThat(notModified.statusCode()).isEqualTo(304);
+    }
+
+    @Test
+    @DisplayName("静的ファイル - ハッシュを含むURLは長期間キャッシュさせ、含まないURLは毎回再検証させること")
+    void testAssetCacheControl() throws Exception {
+        // 準備
+        Matcher stylesheet = STYLESHEET.matcher(get("/employees.html", null).body());
+        assertThat(stylesheet.find()).isTrue();
+
+        // APIテスト実行
+        HttpResponse<String> versioned = get(stylesheet.group(1), null);
+        HttpResponse<String> plain = get("/css/employees.css", null);
+
+        // 検証
+        assertThat(versioned.statusCode()).isEqualTo(200);
+        assertThat(versioned.headers().firstValue("Cache-Control")).hasValue("max-age=31536000, public, immutable");
+        assertThat(plain.statusCode()).isEqualTo(200);
+        assertThat(plain.headers().firstValue("Cache-Control")).hasValue("no-cache");
+        assertThat(versioned.body()).isEqualTo(plain.body());
+    }
+
+    private HttpResponse<String> get(String path, String ifNoneMatch) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api" + path));
+        if (ifNoneMatch != null) {
+            request.header("If-None-Match", ifNoneMatch);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
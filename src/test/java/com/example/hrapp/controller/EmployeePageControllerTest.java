@@ -0,0 +1,121 @@
+package com.example.hrapp.controller;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.example.hrapp.config.HrProperties;
+import com.example.hrapp.service.EmployeeTableFragment;
+
+/** EmployeePageControllerのテストクラス。 テーブルを埋め込んだ画面・テーブル本体のレスポンスとキャッシュヘッダーを検証します。 */
+@WebMvcTest(controllers = EmployeePageController.class, properties = "hr.page.enabled=true")
+class EmployeePageControllerTest {
+
+    private static final String TABLE_BODY = "<tbody id=\"tableBody\" data-change-version=\"7\">\n"
+            + "<tr data-employee-id=\"1\"><td>1</td><td>John</td><td>Doe</td><td></td><td></td><td>50000</td>"
+            + "<td>10</td></tr>\n</tbody>";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private EmployeeTableFragment tableFragment;
+
+    @Test
+    @DisplayName("画面 - テーブル本体を埋め込み、読み込み中の表示を隠してテーブルを表示すること")
+    void testGetPage() throws Exception {
+        // Mock設定
+        when(tableFragment.current()).thenReturn(new EmployeeTableFragment.Fragment(TABLE_BODY, 1, false));
+
+        // APIテスト実行
+        mockMvc.perform(get("/employees.html"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_HTML))
+                .andExpect(content().string(containsString(TABLE_BODY)))
+                .andExpect(content().string(containsString("<table id=\"employeeTable\">")))
+                .andExpect(content().string(
+                        containsString("<div id=\"status\" class=\"loading\" style=\"display: none\"></div>")))
+                .andExpect(content().string(not(containsString("Loading data..."))))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=0, must-revalidate, private"))
+                .andExpect(header().string(HttpHeaders.ETAG, matchesPattern("\"[0-9a-f]{32}\"")));
+    }
+
+    @Test
+    @DisplayName("画面 - 従業員が存在しない場合は「No data found.」を表示しテーブルを隠すこと")
+    void testGetPage_Empty() throws Exception {
+        // Mock設定
+        when(tableFragment.current()).thenReturn(
+                new EmployeeTableFragment.Fragment("<tbody id=\"tableBody\" data-change-version=\"0\">\n</tbody>", 0,
+                        false));
+
+        // APIテスト実行
+        mockMvc.perform(get("/employees.html"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(
+                        containsString("<div id=\"status\" class=\"loading\">No data found.</div>")))
+                .andExpect(content().string(containsString("<table id=\"employeeTable\" style=\"display: none\">")));
+    }
+
+    @Test
+    @DisplayName("画面 - If-None-MatchがETagに一致する場合は304を返し、テーブル本体が変わったらETagも変わること")
+    void testGetPage_NotModified() throws Exception {
+        // Mock設定
+        EmployeeTableFragment.Fragment changed = new EmployeeTableFragment.Fragment(
+                TABLE_BODY.replace("John", "Jane"), 1, false);
+        when(tableFragment.current())
+                .thenReturn(new EmployeeTableFragment.Fragment(TABLE_BODY, 1, false))
+                .thenReturn(changed);
+
+        // APIテスト実行
+        MvcResult first = mockMvc.perform(get("/employees.html")).andExpect(status().isOk()).andReturn();
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/employees.html").header(HttpHeaders.IF_NONE_MATCH, "W/" + etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)));
+
+        // 同じテーブル本体の間は304
+        MvcResult second = mockMvc.perform(get("/employees.html")).andExpect(status().isOk()).andReturn();
+        mockMvc.perform(get("/employees.html")
+                .header(HttpHeaders.IF_NONE_MATCH, second.getResponse().getHeader(HttpHeaders.ETAG)))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=0, must-revalidate, private"));
+    }
+
+    @Test
+    @DisplayName("テーブル本体 - HTMLとETagを返し、If-None-Matchが一致する場合は304を返すこと")
+    void testGetTable() throws Exception {
+        // Mock設定
+        EmployeeTableFragment.Fragment fragment = new EmployeeTableFragment.Fragment(TABLE_BODY, 1, false);
+        when(tableFragment.current()).thenReturn(fragment);
+
+        // APIテスト実行
+        mockMvc.perform(get("/employees/table"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_HTML))
+                .andExpect(content().string(TABLE_BODY))
+                .andExpect(header().string(HttpHeaders.ETAG, fragment.getEtag()));
+        mockMvc.perform(get("/employees/table").header(HttpHeaders.IF_NONE_MATCH, fragment.getEtag()))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @TestConfiguration(proxyBeanMethods = false)
+    @EnableConfigurationProperties(HrProperties.class)
+    static class PropertiesConfig {
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.hrapp.controller;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.example.hrapp.model.EmployeeGroupStats;
+import com.example.hrapp.service.EmployeeStatistics;
+
+/** EmployeeStatsControllerのテストクラス。 集計エンドポイントのレスポンス形式を検証します。 */
+@WebMvcTest(EmployeeStatsController.class)
+class EmployeeStatsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private EmployeeStatistics statistics;
+
+    @Test
+    @DisplayName("部署別集計API - 正常系")
+    void testByDepartment() throws Exception {
+        // Mock設定
+        when(statistics.byDepartment()).thenReturn(Arrays.asList(
+                new EmployeeGroupStats<>(10, 2, 2, new BigDecimal("105000"), new BigDecimal("52500.00"),
+                        new BigDecimal("50000"), new BigDecimal("55000")),
+                new EmployeeGroupStats<>(null, 1, 0, BigDecimal.ZERO, null, null, null)));
+
+        // APIテスト実行
+        mockMvc.perform(get("/employees/stats/by-department"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].key").value(10))
+                .andExpect(jsonPath("$[0].headcount").value(2))
+                .andExpect(jsonPath("$[0].salarySum").value(105000))
+                .andExpect(jsonPath("$[0].salaryAvg").value(52500.00))
+                .andExpect(jsonPath("$[0].salaryMin").value(50000))
+                .andExpect(jsonPath("$[0].salaryMax").value(55000))
+                .andExpect(jsonPath("$[1].key").isEmpty())
+                .andExpect(jsonPath("$[1].salaryAvg").isEmpty());
+    }
+
+    @Test
+    @DisplayName("職種別集計API - 正常系")
+    void testByJob() throws Exception {
+        // Mock設定
+        when(statistics.byJob()).thenReturn(Arrays.asList(
+                new EmployeeGroupStats<>("IT_PROG", 2, 2, new BigDecimal("105000"), new BigDecimal("52500.00"),
+                        new BigDecimal("50000"), new BigDecimal("55000"))));
+
+        // APIテスト実行
+        mockMvc.perform(get("/employees/stats/by-job"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].key").value("IT_PROG"))
+                .andExpect(jsonPath("$[0].headcount").value(2));
+    }
+}
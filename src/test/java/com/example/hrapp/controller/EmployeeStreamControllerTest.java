@@ -0,0 +1,51 @@
+package com.example.hrapp.controller;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.hrapp.service.EmployeeChangeBroadcaster;
+
+/** EmployeeStreamControllerのテストクラス。 変更通知（SSE）の購読開始を検証します。 */
+@WebMvcTest(EmployeeStreamController.class)
+class EmployeeStreamControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private EmployeeChangeBroadcaster broadcaster;
+
+    @Test
+    @DisplayName("変更通知API - 非同期のイベントストリームを開始すること")
+    void testStream_Success() throws Exception {
+        // Mock設定
+        when(broadcaster.subscribe()).thenReturn(new SseEmitter());
+
+        // APIテスト実行
+        mockMvc.perform(get("/employees/stream").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isOk())
+                .andExpect(request().asyncStarted())
+                .andExpect(header().string("X-Accel-Buffering", "no"));
+    }
+
+    @Test
+    @DisplayName("変更通知API - 接続数が上限に達している場合は503")
+    void testStream_Full() throws Exception {
+        // Mock設定
+        when(broadcaster.subscribe()).thenReturn(null);
+
+        // APIテスト実行
+        mockMvc.perform(get("/employees/stream").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isServiceUnavailable());
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.hrapp.jdbc;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/** ConnectionLimitDataSourceのテストクラス。 接続の返却まで許可を保持することと、タイムアウト時の動作を検証します。 */
+@ExtendWith(MockitoExtension.class)
+class ConnectionLimitDataSourceTest {
+
+    @Mock
+    private DataSource target;
+
+    @Mock
+    private Connection connection;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("同時取得数 - 上限に達している間は、接続が返却されるまで次の取得を待たせること")
+    void testGetConnection_LimitsUntilClose() throws Exception {
+        // Mock設定
+        when(target.getConnection()).thenReturn(connection);
+        ConnectionLimitDataSource dataSource = new ConnectionLimitDataSource(target, 1, Duration.ofSeconds(5),
+                meterRegistry);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // メソッド実行 - 1件目を保持したまま2件目を取得
+            Connection first = dataSource.getConnection();
+            Future<Connection> second = executor.submit(() -> dataSource.getConnection());
+            Thread.sleep(100);
+
+            // 検証 - 2件目は1件目の返却まで待機
+            assertThat(second).isNotDone();
+            assertThat(dataSource.inFlight()).isEqualTo(1);
+            assertThat(meterRegistry.get("hr.db.limiter.queued").gauge().value()).isEqualTo(1);
+
+            first.close();
+            first.close();
+            second.get().close();
+            assertThat(first.isClosed()).isTrue();
+            assertThat(((ConnectionProxy) first).getTargetConnection()).isSameAs(connection);
+            assertThat(dataSource.inFlight()).isZero();
+            assertThat(meterRegistry.get("hr.db.limiter.wait").timer().count()).isEqualTo(2);
+            verify(connection, times(2)).close();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("タイムアウト - 許可を取得できない場合は例外とし、接続を取得しないこと")
+    void testGetConnection_Timeout() throws Exception {
+        // Mock設定
+        when(target.getConnection()).thenReturn(connection);
+        ConnectionLimitDataSource dataSource = new ConnectionLimitDataSource(target, 1, Duration.ofMillis(50),
+                meterRegistry);
+
+        // メソッド実行・検証
+        try (Connection held = dataSource.getConnection()) {
+            assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+            assertThat(meterRegistry.get("hr.db.limiter.rejected").counter().count()).isEqualTo(1);
+            verify(target, times(1)).getConnection();
+        }
+        assertThat(dataSource.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("取得失敗 - 接続を取得できなかった場合は許可を返すこと")
+    void testGetConnection_TargetFailure() throws Exception {
+        // Mock設定
+        when(target.getConnection()).thenThrow(new SQLException("pool exhausted"));
+        ConnectionLimitDataSource dataSource = new ConnectionLimitDataSource(target, 1, Duration.ofMillis(50),
+                meterRegistry);
+
+        // メソッド実行・検証
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLException.class).hasMessage("pool exhausted");
+        assertThat(dataSource.inFlight()).isZero();
+    }
+}
@@ -0,0 +1,304 @@
+package com.example.hrapp.load;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.hrapp.mapper.EmployeeMapper;
+import com.example.hrapp.model.Employee;
+
+/**
+ * 従業員一覧画面の初回表示（テーブルが表示されるまで）の時間を、低速な回線を模して計測する負荷テストの共通部分。
+ *
+ * <p>
+ * 画面の表示に必要なリソースを、前のリソースを受け取るまで要求できない段ごとに実際に取得し、1段あたり
+ * 「往復遅延 + サーバーの処理時間（段内の最大）+ 段内の転送量（gzip）÷ 帯域」として合計します。 回線はLighthouseのモバイル計測（Slow 4G）と同じ
+ * 往復遅延150ms・下り1.6Mbpsです。 CDN（code.jquery.com）のファイルは取得せず、概算サイズと接続確立（2往復）を加えます。
+ *
+ * <p>
+ * 2回目の表示は、初回の応答のETag・Last-Modifiedで再検証し（変更がなければ304）、ハッシュを含むURL・CDNのファイルはキャッシュから読み込むものとします。
+ * ブラウザの解析・描画の時間は含みません。
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "hr.changes.poll-enabled=false",
+        "logging.level.com.example.hrapp=WARN",
+        "logging.level.org.springframework.web=INFO",
+        "logging.level.org.mybatis=INFO" })
+@ActiveProfiles({ "test", "perf" })
+abstract class AbstractFirstPaintLoadTest {
+
+    /** 往復遅延（ms） */
+    static final long RTT_MILLIS = 150;
+
+    /** 下りの帯域（bytes/s、1.6Mbps） */
+    static final long BYTES_PER_SECOND = 1_638_400 / 8;
+
+    /** 別のオリジン（CDN）への接続確立に要する往復数（TCP・TLS） */
+    static final int CONNECT_ROUND_TRIPS = 2;
+
+    /** 画面に表示する従業員数（テスト用データの5件に追加する） */
+    static final int ROWS = 1000;
+
+    /** 計測回数（中央値を出力） */
+    static final int ITERATIONS = 5;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private EmployeeMapper mapper;
+
+    private final HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+    /**
+     * @return レポートに表示するモード名
+     */
+    abstract String mode();
+
+    /**
+     * テーブルが表示されるまでに取得するリソースを、段ごとに返します。
+     *
+     * @param page
+     *            取得した画面のHTML
+     * @return 2段目以降（1段目は画面）
+     */
+    abstract List<List<Resource>> resourcesAfterPage(String page);
+
+    @BeforeEach
+    void addEmployees() {
+        for (int id = 100; id < 100 + ROWS - 5; id++) {
+            Employee employee = new Employee();
+            employee.setEmployeeId(id);
+            employee.setFirstName("First" + id);
+            employee.setLastName("Last" + id);
+            employee.setEmail("employee" + id + "@example.com");
+            employee.setPhoneNumber("090-0000-" + String.format("%04d", id));
+            employee.setJobId("IT_PROG");
+            employee.setSalary(new BigDecimal(30_000 + id * 10));
+            employee.setDepartmentId(10 + id % 5 * 10);
+            mapper.upsert(employee);
+        }
+    }
+
+    @Test
+    void measureFirstPaint() throws Exception {
+        // ウォームアップ
+        for (int i = 0; i < ITERATIONS; i++) {
+            visit(new HashMap<>());
+        }
+
+        // 計測
+        List<Visit> firstVisits = new ArrayList<>();
+        List<Visit> repeatVisits = new ArrayList<>();
+        for (int i = 0; i < ITERATIONS; i++) {
+            Map<String, Fetched> cache = new HashMap<>();
+            firstVisits.add(visit(cache));
+            repeatVisits.add(visit(cache));
+        }
+        Visit first = median(firstVisits);
+        Visit repeat = median(repeatVisits);
+        System.out.printf("[load] first-paint %s (rtt=%d ms, 1.6 Mbps, rows=%d): first visit %s%n", mode(),
+                RTT_MILLIS, ROWS, first);
+        System.out.printf("[load] first-paint %s (rtt=%d ms, 1.6 Mbps, rows=%d): repeat visit %s%n", mode(),
+                RTT_MILLIS, ROWS, repeat);
+
+        assertThat(first.errors()).isZero();
+        assertThat(repeat.errors()).isZero();
+        assertThat(repeat.millis()).isLessThanOrEqualTo(first.millis());
+    }
+
+    /**
+     * 画面を表示し、テーブルが表示されるまでの時間を求めます。
+     *
+     * @param cache
+     *            ブラウザのキャッシュ（パス → 前回の応答。初回は空）
+     */
+    private Visit visit(Map<String, Fetched> cache) throws Exception {
+        Visit visit = new Visit();
+        List<Fetched> pages = wave(List.of(Resource.local("/employees.html", "text/html")), cache, visit);
+        String page = new String(pages.get(0).decodedBody(), StandardCharsets.UTF_8);
+        for (List<Resource> resources : resourcesAfterPage(page)) {
+            wave(resources, cache, visit);
+        }
+        return visit;
+    }
+
+    /**
+     * 1段分のリソースを並列に取得し、その段の所要時間を加算します。
+     *
+     * @return 取得した（またはキャッシュから読み込んだ）応答
+     */
+    private List<Fetched> wave(List<Resource> resources, Map<String, Fetched> cache, Visit visit) throws Exception {
+        List<Fetched> fetched = new ArrayList<>();
+        List<Future<Fetched>> futures = new ArrayList<>();
+        long bytes = 0;
+        boolean connect = false;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Resource resource : resources) {
+                Fetched cached = cache.get(resource.path());
+                if (cached != null && resource.immutable()) {
+                    fetched.add(cached);
+                } else if (resource.external()) {
+                    bytes += resource.externalBytes();
+                    connect = true;
+                    visit.requests++;
+                    cache.put(resource.path(), Fetched.EXTERNAL);
+                } else {
+                    visit.requests++;
+                    futures.add(executor.submit(() -> fetch(resource, cached)));
+                }
+            }
+        }
+        if (futures.isEmpty() && bytes == 0) {
+            return fetched;
+        }
+        long serverMillis = 0;
+        for (Future<Fetched> future : futures) {
+            Fetched result = future.get();
+            if (result.status() >= 400) {
+                visit.errors++;
+            }
+            // 304の場合は前回の本文を使う
+            Fetched current = result.status() == 304 ? cache.get(result.path()) : result;
+            cache.put(result.path(), current);
+            fetched.add(current);
+            serverMillis = Math.max(serverMillis, result.millis());
+            bytes += result.wireBytes();
+        }
+        visit.bytes += bytes;
+        visit.millis += RTT_MILLIS * (connect ? 1 + CONNECT_ROUND_TRIPS : 1) + serverMillis
+                + bytes * 1000 / BYTES_PER_SECOND;
+        return fetched;
+    }
+
+    private Fetched fetch(Resource resource, Fetched cached) throws Exception {
+        HttpRequest.Builder request = HttpRequest
+                .newBuilder(URI.create("http://localhost:" + port + "/api" + resource.path()))
+                .header("Accept", resource.accept())
+                .header("Accept-Encoding", "gzip");
+        if (cached != null) {
+            cached.etag().ifPresent(etag -> request.header("If-None-Match", etag));
+            cached.lastModified().ifPresent(lastModified -> request.header("If-Modified-Since", lastModified));
+        }
+        long start = System.nanoTime();
+        HttpResponse<byte[]> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        return new Fetched(resource.path(), response.statusCode(), response.body(),
+                response.headers().firstValue("Content-Encoding").orElse(null),
+                response.headers().firstValue("ETag"), response.headers().firstValue("Last-Modified"), millis);
+    }
+
+    private static Visit median(List<Visit> visits) {
+        List<Visit> sorted = new ArrayList<>(visits);
+        sorted.sort(Comparator.comparingLong(Visit::millis));
+        return sorted.get(sorted.size() / 2);
+    }
+
+    /**
+     * 画面の表示に必要なリソース。
+     *
+     * @param path
+     *            パス（コンテキストパスより後）またはCDNのファイル名
+     * @param accept
+     *            Acceptヘッダー
+     * @param immutable
+     *            ハッシュを含むURLか（2回目の表示ではキャッシュから読み込む）
+     * @param externalBytes
+     *            CDNのファイルの概算サイズ（gzip、このサーバーから取得する場合は0）
+     */
+    record Resource(String path, String accept, boolean immutable, long externalBytes) {
+
+        static Resource local(String path, String accept) {
+            return new Resource(path, accept, false, 0);
+        }
+
+        static Resource versioned(String path, String accept) {
+            return new Resource(path, accept, true, 0);
+        }
+
+        static Resource external(String name, long bytes) {
+            return new Resource(name, "*/*", true, bytes);
+        }
+
+        boolean external() {
+            return externalBytes > 0;
+        }
+    }
+
+    /**
+     * 取得した応答。
+     */
+    record Fetched(String path, int status, byte[] body, String contentEncoding, Optional<String> etag,
+            Optional<String> lastModified, long millis) {
+
+        /** CDNのファイル（取得せず、2回目の表示ではキャッシュから読み込む） */
+        static final Fetched EXTERNAL = new Fetched("", 200, new byte[0], null, Optional.empty(), Optional.empty(), 0);
+
+        long wireBytes() {
+            return body.length;
+        }
+
+        byte[] decodedBody() throws IOException {
+            if (!"gzip".equals(contentEncoding)) {
+                return body;
+            }
+            try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+                return in.readAllBytes();
+            }
+        }
+    }
+
+    /**
+     * 1回の表示の集計結果。
+     */
+    static final class Visit {
+        long millis;
+
+        long bytes;
+
+        int requests;
+
+        int errors;
+
+        long millis() {
+            return millis;
+        }
+
+        int errors() {
+            return errors;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("table painted at %d ms, requests=%d, transferred=%.1f KB, errors=%d", millis,
+                    requests, bytes / 1024.0, errors);
+        }
+    }
+}
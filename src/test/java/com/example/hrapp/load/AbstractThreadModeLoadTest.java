@@ -0,0 +1,107 @@
+package com.example.hrapp.load;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * スレッドモード別負荷テストの共通部分。
+ *
+ * <p>
+ * H2の各SQLにOracleとの往復を模した待ち時間を加え、キャッシュを無効にした {@code GET /employees/{id}} に負荷をかけます。
+ * プールサイズとTomcatのスレッド数は、プラットフォームスレッドではスレッド数が、仮想スレッドではプールが上限となるよう揃えています。
+ * コネクションプール・MyBatisの設定は本番の性能プロファイル（{@code perf}）を使用し、接続の取得待ち時間も出力します。
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "hr.cache.enabled=false",
+        "spring.datasource.hikari.maximum-pool-size=20",
+        "server.tomcat.threads.max=20",
+        "logging.level.com.example.hrapp=WARN",
+        "logging.level.org.springframework.web=INFO",
+        "logging.level.org.mybatis=INFO" })
+@ActiveProfiles({ "test", "perf" })
+@Import(AbstractThreadModeLoadTest.SimulatedLatencyConfig.class)
+abstract class AbstractThreadModeLoadTest {
+
+    /** SQL1回あたりの模擬ネットワーク遅延（ms） */
+    static final long SIMULATED_DB_LATENCY_MILLIS = 5;
+
+    /** 同時接続数 */
+    static final int CLIENTS = 200;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /**
+     * @return レポートに表示するモード名
+     */
+    abstract String mode();
+
+    @Test
+    void measureGetById() throws Exception {
+        String baseUrl = "http://localhost:" + port + "/api";
+
+        // ウォームアップ
+        LoadTestSupport.run(baseUrl, i -> "/employees/" + (1 + i % 5), CLIENTS, Duration.ofSeconds(5));
+
+        // 計測
+        LoadTestSupport.LoadResult result = LoadTestSupport.run(baseUrl, i -> "/employees/" + (1 + i % 5), CLIENTS,
+                Duration.ofSeconds(20));
+        System.out.printf("[load] %s GET /employees/{id} clients=%d: %s%n", mode(), CLIENTS, result);
+        Timer acquire = meterRegistry.get("hikaricp.connections.acquire").timer();
+        Timer usage = meterRegistry.get("hikaricp.connections.usage").timer();
+        System.out.printf("[load] %s pool: acquire count=%d mean=%.2f ms max=%.2f ms, usage mean=%.2f ms, timeouts=%.0f%n",
+                mode(), acquire.count(), acquire.mean(TimeUnit.MILLISECONDS), acquire.max(TimeUnit.MILLISECONDS),
+                usage.mean(TimeUnit.MILLISECONDS),
+                meterRegistry.get("hikaricp.connections.timeout").counter().count());
+
+        assertThat(result.requests()).isPositive();
+        assertThat(result.errors()).isZero();
+    }
+
+    /**
+     * すべてのSQL実行にOracleとの往復を模した待ち時間を加えます（コネクションは保持したまま待機）。
+     */
+    @TestConfiguration(proxyBeanMethods = false)
+    static class SimulatedLatencyConfig {
+        @Bean
+        Interceptor simulatedLatencyInterceptor() {
+            return new SimulatedLatencyInterceptor();
+        }
+    }
+
+    @Intercepts(@Signature(type = StatementHandler.class, method = "query",
+            args = { Statement.class, ResultHandler.class }))
+    static class SimulatedLatencyInterceptor implements Interceptor {
+        @Override
+        public Object intercept(Invocation invocation) throws Throwable {
+            Thread.sleep(SIMULATED_DB_LATENCY_MILLIS);
+            return invocation.proceed();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.hrapp.load;
+
+import java.util.List;
+
+import org.springframework.test.context.TestPropertySource;
+
+/** 静的な画面を表示後、スクリプトでAPIから取得して描画する場合（従来の動作）の初回表示の計測。 */
+@TestPropertySource(properties = "hr.page.enabled=false")
+class ClientRenderedFirstPaintLoadTest extends AbstractFirstPaintLoadTest {
+
+    /** jquery-3.7.1.min.js の概算サイズ（gzip） */
+    static final long JQUERY_BYTES = 30_000;
+
+    /** jquery-ui.min.js（1.13.2）の概算サイズ（gzip） */
+    static final long JQUERY_UI_BYTES = 70_000;
+
+    /** jquery-ui.css（1.13.2）の概算サイズ（gzip） */
+    static final long JQUERY_UI_CSS_BYTES = 7_000;
+
+    @Override
+    String mode() {
+        return "client-rendered";
+    }
+
+    @Override
+    List<List<Resource>> resourcesAfterPage(String page) {
+        return List.of(
+                // 画面から参照するCSS・スクリプト
+                List.of(Resource.local("/css/employees.css", "text/css"),
+                        Resource.local("/js/employees.js", "*/*"),
+                        Resource.external("jquery.min.js", JQUERY_BYTES),
+                        Resource.external("jquery-ui.min.js", JQUERY_UI_BYTES),
+                        Resource.external("jquery-ui.css", JQUERY_UI_CSS_BYTES)),
+                // employees.js のimport
+                List.of(Resource.local("/js/constants.js", "*/*")),
+                // スクリプトの実行後に全件取得
+                List.of(Resource.local("/employees", "application/json")));
+    }
+}
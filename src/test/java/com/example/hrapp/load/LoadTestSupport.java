@@ -0,0 +1,141 @@
+package com.example.hrapp.load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+
+/**
+ * 負荷テスト用のHTTPクライアント。
+ *
+ * <p>
+ * 指定した同時接続数のクライアント（仮想スレッド）が一定時間リクエストを繰り返し、 スループットとレイテンシのパーセンタイルを集計します。
+ */
+final class LoadTestSupport {
+
+    private LoadTestSupport() {
+    }
+
+    /**
+     * 負荷をかけて結果を集計します。
+     *
+     * @param baseUrl
+     *            ベースURL（例：http://localhost:8080/api）
+     * @param pathForRequest
+     *            リクエスト番号 → パス
+     * @param clients
+     *            同時接続数
+     * @param duration
+     *            計測時間
+     * @return 集計結果
+     */
+    static LoadResult run(String baseUrl, IntFunction<String> pathForRequest, int clients, Duration duration)
+            throws Exception {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<ClientResult>> futures = new ArrayList<>();
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < clients; c++) {
+                int client = c;
+                futures.add(executor.submit(() -> {
+                    ClientResult result = new ClientResult();
+                    for (int i = 0; System.nanoTime() < deadline; i++) {
+                        HttpRequest request = HttpRequest
+                                .newBuilder(URI.create(baseUrl + pathForRequest.apply(client * 1_000_000 + i)))
+                                .build();
+                        long sent = System.nanoTime();
+                        HttpResponse<byte[]> response = httpClient.send(request,
+                                HttpResponse.BodyHandlers.ofByteArray());
+                        result.add(System.nanoTime() - sent, response.statusCode() >= 500);
+                    }
+                    return result;
+                }));
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        ClientResult total = new ClientResult();
+        for (Future<ClientResult> future : futures) {
+            total.addAll(future.get());
+        }
+        return total.summarize(elapsed);
+    }
+
+    /**
+     * 1クライアント分の計測値。
+     */
+    private static final class ClientResult {
+        private long[] latencies = new long[1024];
+        private int size;
+        private long errors;
+
+        void add(long latencyNanos, boolean error) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = latencyNanos;
+            if (error) {
+                errors++;
+            }
+        }
+
+        void addAll(ClientResult other) {
+            for (int i = 0; i < other.size; i++) {
+                add(other.latencies[i], false);
+            }
+            errors += other.errors;
+        }
+
+        LoadResult summarize(long elapsedNanos) {
+            long[] sorted = Arrays.copyOf(latencies, size);
+            Arrays.sort(sorted);
+            return new LoadResult(size, errors, size * 1_000_000_000.0 / elapsedNanos, percentile(sorted, 0.50),
+                    percentile(sorted, 0.99), sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1_000);
+        }
+
+        private static long percentile(long[] sorted, double p) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(p * sorted.length) - 1;
+            return sorted[Math.max(index, 0)] / 1_000;
+        }
+    }
+
+    /**
+     * 負荷テストの集計結果。
+     *
+     * @param requests
+     *            完了したリクエスト数
+     * @param errors
+     *            5xxレスポンス数
+     * @param throughput
+     *            スループット（req/s）
+     * @param p50Micros
+     *            50パーセンタイル（μs）
+     * @param p99Micros
+     *            99パーセンタイル（μs）
+     * @param maxMicros
+     *            最大値（μs）
+     */
+    record LoadResult(long requests, long errors, double throughput, long p50Micros, long p99Micros,
+            long maxMicros) {
+
+        @Override
+        public String toString() {
+            return String.format("requests=%d errors=%d throughput=%.1f req/s p50=%.2f ms p99=%.2f ms max=%.2f ms",
+                    requests, errors, throughput, p50Micros / 1000.0, p99Micros / 1000.0, maxMicros / 1000.0);
+        }
+    }
+}
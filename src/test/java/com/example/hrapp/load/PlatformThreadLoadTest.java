@@ -0,0 +1,13 @@
+package com.example.hrapp.load;
+
+import org.springframework.test.context.TestPropertySource;
+
+/** プラットフォームスレッド（Tomcat既定のスレッドプール）での負荷テスト。 */
+@TestPropertySource(properties = "spring.threads.virtual.enabled=false")
+class PlatformThreadLoadTest extends AbstractThreadModeLoadTest {
+
+    @Override
+    String mode() {
+        return "platform-threads";
+    }
+}
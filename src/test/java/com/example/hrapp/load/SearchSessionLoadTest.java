@@ -0,0 +1,202 @@
+package com.example.hrapp.load;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 検索バーへの入力を模した負荷テスト。 1回の検索（名前を1文字ずつ入力）あたりのリクエスト数と名前検索SQLの実行回数を、
+ * 1文字ごとに取得する場合と、{@code employees.js} と同じく入力が止まってから取得し結果をLRUで保持する場合とで比較します。
+ *
+ * <p>
+ * 名前索引を無効にして検索をすべてSQLで行い、各SQLにOracleとの往復を模した待ち時間を加えます。
+ * リクエスト数とSQL実行回数の差が、サーバー側で実行中の同じ検索にまとめた分です。
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "hr.search.index-enabled=false",
+        "logging.level.com.example.hrapp=WARN",
+        "logging.level.org.springframework.web=INFO",
+        "logging.level.org.mybatis=INFO" })
+@ActiveProfiles({ "test", "perf" })
+@Import(AbstractThreadModeLoadTest.SimulatedLatencyConfig.class)
+class SearchSessionLoadTest {
+
+    /** 同時に検索する利用者数 */
+    static final int USERS = 50;
+
+    /** 利用者1人あたりの検索回数 */
+    static final int SESSIONS_PER_USER = 10;
+
+    /** 入力の間隔（ms） */
+    static final long KEYSTROKE_MILLIS = 80;
+
+    /** employees.js の SEARCH_DEBOUNCE_MILLIS */
+    static final long DEBOUNCE_MILLIS = 300;
+
+    /** employees.js の SEARCH_CACHE_SIZE */
+    static final int CACHE_SIZE = 50;
+
+    /** 検索する名前（テスト用データの姓） */
+    static final String[] NAMES = { "Doe", "Smith", "Johnson", "Brown", "Wilson" };
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    @Test
+    void measureSearchSessions() throws Exception {
+        String baseUrl = "http://localhost:" + port + "/api/employees/search?name=";
+
+        // ウォームアップ
+        runSessions(baseUrl, false);
+
+        // 計測
+        SessionResult perKeystroke = runSessions(baseUrl, false);
+        SessionResult debounced = runSessions(baseUrl, true);
+        System.out.printf("[load] search per-keystroke: %s%n", perKeystroke);
+        System.out.printf("[load] search debounced+lru: %s%n", debounced);
+        System.out.printf("[load] search saved per session: requests=%.2f sql=%.2f%n",
+                perKeystroke.requestsPerSession() - debounced.requestsPerSession(),
+                perKeystroke.sqlPerSession() - debounced.sqlPerSession());
+
+        assertThat(perKeystroke.errors()).isZero();
+        assertThat(debounced.errors()).isZero();
+        assertThat(perKeystroke.sql()).isLessThanOrEqualTo(perKeystroke.requests());
+        assertThat(debounced.requests()).isLessThan(perKeystroke.requests());
+    }
+
+    /**
+     * 全利用者が {@link #SESSIONS_PER_USER} 回ずつ名前を入力して検索します。
+     *
+     * @param debounced
+     *            入力が止まってから取得し、結果を保持するか（falseの場合は1文字ごとに応答を待たずに取得）
+     */
+    private SessionResult runSessions(String baseUrl, boolean debounced) throws Exception {
+        long sqlBefore = selectByNameCount();
+        AtomicLong requests = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int u = 0; u < USERS; u++) {
+                int user = u;
+                executor.submit(() -> {
+                    Map<String, Boolean> cache = lruCache();
+                    Thread.sleep(ThreadLocalRandom.current().nextLong(KEYSTROKE_MILLIS));
+                    for (int s = 0; s < SESSIONS_PER_USER; s++) {
+                        String name = NAMES[(user + s) % NAMES.length];
+                        List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>();
+                        for (int typed = 1; typed <= name.length(); typed++) {
+                            Thread.sleep(KEYSTROKE_MILLIS);
+                            if (!debounced) {
+                                responses.add(send(baseUrl, name.substring(0, typed)));
+                            }
+                        }
+                        if (debounced) {
+                            Thread.sleep(DEBOUNCE_MILLIS);
+                            if (cache.get(name) == null) {
+                                responses.add(send(baseUrl, name));
+                                cache.put(name, Boolean.TRUE);
+                            }
+                        }
+                        for (CompletableFuture<HttpResponse<Void>> response : responses) {
+                            requests.incrementAndGet();
+                            if (response.join().statusCode() >= 400) {
+                                errors.incrementAndGet();
+                            }
+                        }
+                    }
+                    return null;
+                });
+            }
+        }
+        return new SessionResult(USERS * SESSIONS_PER_USER, requests.get(), selectByNameCount() - sqlBefore,
+                errors.get());
+    }
+
+    private CompletableFuture<HttpResponse<Void>> send(String baseUrl, String query) {
+        HttpRequest request = HttpRequest
+                .newBuilder(URI.create(baseUrl + URLEncoder.encode(query, StandardCharsets.UTF_8)))
+                .build();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding());
+    }
+
+    private long selectByNameCount() {
+        Timer timer = meterRegistry.find("hr.mybatis.statement")
+                .tag("statement", "EmployeeMapper.selectByName")
+                .timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    private static Map<String, Boolean> lruCache() {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > CACHE_SIZE;
+            }
+        };
+    }
+
+    /**
+     * 検索1回あたりの集計結果。
+     *
+     * @param sessions
+     *            検索回数
+     * @param requests
+     *            送信したリクエスト数
+     * @param sql
+     *            名前検索SQLの実行回数
+     * @param errors
+     *            4xx・5xxレスポンス数
+     */
+    record SessionResult(long sessions, long requests, long sql, long errors) {
+
+        double requestsPerSession() {
+            return (double) requests / sessions;
+        }
+
+        double sqlPerSession() {
+            return (double) sql / sessions;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("sessions=%d requests/session=%.2f sql/session=%.2f coalesced=%.1f%% errors=%d",
+                    sessions, requestsPerSession(), sqlPerSession(),
+                    requests == 0 ? 0.0 : 100.0 * (requests - sql) / requests, errors);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.hrapp.load;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.test.context.TestPropertySource;
+
+/** テーブルの行をサーバー側で描画して画面に埋め込む場合（{@code hr.page.enabled=true}）の初回表示の計測。 */
+@TestPropertySource(properties = "hr.page.enabled=true")
+class ServerRenderedFirstPaintLoadTest extends AbstractFirstPaintLoadTest {
+
+    /** 画面内のCSSへの参照（ハッシュを含むURL） */
+    private static final Pattern STYLESHEET = Pattern.compile("href=\"/api(/css/[^\"]+)\"");
+
+    @Override
+    String mode() {
+        return "server-rendered";
+    }
+
+    @Override
+    List<List<Resource>> resourcesAfterPage(String page) {
+        // 行は画面に含まれるため、表示を妨げるのはCSSのみ（jQuery・スクリプトはdeferのため表示後に実行）
+        Matcher stylesheet = STYLESHEET.matcher(page);
+        assertThat(stylesheet.find()).isTrue();
+        return List.of(List.of(Resource.versioned(stylesheet.group(1), "text/css")));
+    }
+}
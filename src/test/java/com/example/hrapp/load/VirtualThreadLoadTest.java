@@ -0,0 +1,36 @@
+package com.example.hrapp.load;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/** 仮想スレッド＋接続数制限での負荷テスト。 */
+@TestPropertySource(properties = "spring.threads.virtual.enabled=true")
+class VirtualThreadLoadTest extends AbstractThreadModeLoadTest {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Override
+    String mode() {
+        return "virtual-threads";
+    }
+
+    @AfterEach
+    void reportLimiter() {
+        // 検証 - 接続数制限を経由しており、待ち時間が記録されていること
+        Timer wait = meterRegistry.get("hr.db.limiter.wait").timer();
+        System.out.printf("[load] virtual-threads limiter: limit=%.0f wait count=%d mean=%.2f ms max=%.2f ms%n",
+                meterRegistry.get("hr.db.limiter.limit").gauge().value(), wait.count(),
+                wait.mean(TimeUnit.MILLISECONDS),
+                wait.max(TimeUnit.MILLISECONDS));
+        assertThat(wait.count()).isPositive();
+    }
+}
@@ -0,0 +1,383 @@
+package com.example.hrapp.mapper;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.session.SqlSessionFactory;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.hrapp.model.Employee;
+import com.example.hrapp.model.EmployeeChange;
+import com.example.hrapp.model.EmployeeField;
+import com.example.hrapp.model.EmployeeQuery;
+import com.example.hrapp.model.EmployeeSort;
+import com.example.hrapp.model.EmployeeTableState;
+import com.example.hrapp.model.ProjectedEmployee;
+import com.example.hrapp.service.EmployeeColumns;
+
+/** EmployeeMapperのテストクラス。 H2のテスト用スキーマ（schema.sql / data.sql）に対してSQLを検証します。 */
+@MybatisTest
+@ActiveProfiles("test")
+class EmployeeMapperTest {
+
+    @Autowired
+    private EmployeeMapper employeeMapper;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private SqlSessionFactory sqlSessionFactory;
+
+    @Test
+    @DisplayName("キーセットページング - 先頭ページ")
+    void testFindPage_FirstPage() {
+        // メソッド実行
+        List<Employee> result = employeeMapper.findPage(null, 2);
+
+        // 検証
+        assertThat(result).extracting(Employee::getEmployeeId).containsExactly(1, 2);
+        assertThat(result.get(0).getFirstName()).isEqualTo("John");
+    }
+
+    @Test
+    @DisplayName("キーセットページング - カーソル指定")
+    void testFindPage_AfterCursor() {
+        // メソッド実行
+        List<Employee> result = employeeMapper.findPage(2, 2);
+
+        // 検証
+        assertThat(result).extracting(Employee::getEmployeeId).containsExactly(3, 4);
+    }
+
+    @Test
+    @DisplayName("キーセットページング - 最終ページ")
+    void testFindPage_LastPage() {
+        // メソッド実行
+        List<Employee> result = employeeMapper.findPage(4, 10);
+
+        // 検証
+        assertThat(result).extracting(Employee::getEmployeeId).containsExactly(5);
+    }
+
+    @Test
+    @DisplayName("ID範囲指定取得 - 両端を含む範囲をID順に返し、IDの最小値・最大値を取得できること")
+    void testFindRange() {
+        // メソッド実行・検証
+        assertThat(employeeMapper.findRange(2, 4)).extracting(Employee::getEmployeeId).containsExactly(2, 3, 4);
+        assertThat(employeeMapper.findRange(6, 10)).isEmpty();
+        assertThat(employeeMapper.findMinEmployeeId()).isEqualTo(1);
+        assertThat(employeeMapper.findMaxEmployeeId()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("全件ストリーミング取得 - ID順に全行を読み出すこと")
+    void testFindAllCursor() throws Exception {
+        // メソッド実行
+        List<Employee> result = new ArrayList<>();
+        try (Cursor<Employee> cursor = employeeMapper.findAllCursor()) {
+            cursor.forEach(result::add);
+        }
+
+        // 検証
+        assertThat(result).extracting(Employee::getEmployeeId).containsExactly(1, 2, 3, 4, 5);
+    }
+
+    @Test
+    @DisplayName("名前検索 - 名・姓の部分一致をID順で返すこと")
+    void testSelectByName() {
+        // メソッド実行
+        List<Employee> result = employeeMapper.selectByName("John");
+
+        // 検証 - 名（John）と姓（Johnson）の両方に一致すること
+        assertThat(result).extracting(Employee::getEmployeeId).containsExactly(1, 3);
+        assertThat(result.get(1).getLastName()).isEqualTo("Johnson");
+    }
+
+    @Test
+    @DisplayName("ID一括取得 - 存在するIDのみID順で返すこと")
+    void testFindByIds() {
+        // メソッド実行
+        List<Employee> result = employeeMapper.findByIds(Arrays.asList(4, 999, 2));
+
+        // 検証
+        assertThat(result).extracting(Employee::getEmployeeId).containsExactly(2, 4);
+    }
+
+    @Test
+    @DisplayName("ID一括取得 - INリストの要素数を段階にそろえ、同じ段階の件数は同じSQL文になること")
+    void testFindByIds_PaddedInList() {
+        // 準備
+        MappedStatement statement = sqlSessionFactory.getConfiguration()
+                .getMappedStatement("com.example.hrapp.mapper.EmployeeMapper.findByIds");
+
+        // メソッド実行
+        String two = statement.getBoundSql(Map.of("ids", List.of(1, 2))).getSql();
+        String three = statement.getBoundSql(Map.of("ids", List.of(1, 2, 3))).getSql();
+        String five = statement.getBoundSql(Map.of("ids", List.of(1, 2, 3, 4, 5))).getSql();
+
+        // 検証
+        assertThat(two).isEqualTo(three);
+        assertThat(two.chars().filter(c -> c == '?').count()).isEqualTo(4);
+        assertThat(five.chars().filter(c -> c == '?').count()).isEqualTo(16);
+        assertThat(employeeMapper.findByIds(List.of(1, 2, 3, 4, 5))).extracting(Employee::getEmployeeId)
+                .containsExactly(1, 2, 3, 4, 5);
+    }
+
+    @Test
+    @DisplayName("条件検索 - 部署IDのINリストと給与下限で絞り込み、給与の降順で返すこと")
+    void testQuery_DepartmentAndSalary() {
+        // 準備
+        EmployeeQuery query = new EmployeeQuery();
+        query.setDepartmentIds(Arrays.asList(10, 20));
+        query.setSalaryMin(new BigDecimal("50000"));
+        query.setSort(EmployeeSort.SALARY);
+        query.setDescending(true);
+        query.setLimit(10);
+
+        // メソッド実行
+        List<Employee> result = employeeMapper.query(query);
+
+        // 検証
+        assertThat(result).extracting(Employee::getEmployeeId).containsExactly(3, 5, 1);
+    }
+
+    @Test
+    @DisplayName("条件検索 - 降順は昇順の逆順（給与nullは昇順で末尾・降順で先頭、同値は従業員ID順の逆）であること")
+    void testQuery_DescendingIsReverseOfAscending() {
+        // 準備（給与なしの従業員と、給与が同じ従業員を追加）
+        Employee noSalary = new Employee();
+        noSalary.setEmployeeId(7);
+        noSalary.setFirstName("Anna");
+        noSalary.setLastName("Lee");
+        noSalary.setEmail("anna.lee@example.com");
+        noSalary.setJobId("IT_PROG");
+        employeeMapper.upsert(noSalary);
+        Employee sameSalary = employeeMapper.findById(2);
+        sameSalary.setEmployeeId(8);
+        sameSalary.setEmail("jane.smith2@example.com");
+        employeeMapper.upsert(sameSalary);
+        EmployeeQuery query = new EmployeeQuery();
+        query.setSort(EmployeeSort.SALARY);
+        query.setLimit(10);
+
+        // メソッド実行
+        List<Employee> ascending = employeeMapper.query(query);
+        query.setDescending(true);
+        List<Employee> descending = employeeMapper.query(query);
+
+        // 検証
+        assertThat(ascending).extracting(Employee::getEmployeeId).containsExactly(2, 8, 4, 1, 5, 3, 7);
+        assertThat(descending).extracting(Employee::getEmployeeId).containsExactly(7, 3, 5, 1, 4, 8, 2);
+    }
+
+    @Test
+    @DisplayName("条件検索 - 職種IDと給与範囲（上下限を含む）で絞り込むこと")
+    void testQuery_JobAndSalaryRange() {
+        // 準備
+        EmployeeQuery query = new EmployeeQuery();
+        query.setJobIds(Arrays.asList("SA_REP", "HR_REP"));
+        query.setSalaryMin(new BigDecimal("45000"));
+        query.setSalaryMax(new BigDecimal("48000"));
+        query.setLimit(10);
+
+        // メソッド実行
+        List<Employee> result = employeeMapper.query(query);
+
+        // 検証
+        assertThat(result).extracting(Employee::getEmployeeId).containsExactly(2, 4);
+    }
+
+    @Test
+    @DisplayName("条件検索 - メールアドレス前方一致はワイルドカードをエスケープすること")
+    void testQuery_EmailPrefix() {
+        // 準備
+        EmployeeQuery query = new EmployeeQuery();
+        query.setLimit(10);
+
+        // メソッド実行・検証
+        query.setEmailPrefix("j");
+        assertThat(employeeMapper.query(query)).extracting(Employee::getEmployeeId).containsExactly(1, 2);
+        query.setEmailPrefix("jane.");
+        assertThat(employeeMapper.query(query)).extracting(Employee::getEmployeeId).containsExactly(2);
+        query.setEmailPrefix("%smith");
+        assertThat(employeeMapper.query(query)).isEmpty();
+        query.setEmailPrefix("j_ne");
+        assertThat(employeeMapper.query(query)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("条件検索 - 条件なしの場合は並び順と件数制限のみ適用すること")
+    void testQuery_NoConditions() {
+        // 準備
+        EmployeeQuery query = new EmployeeQuery();
+        query.setSort(EmployeeSort.LAST_NAME);
+        query.setLimit(3);
+
+        // メソッド実行
+        List<Employee> result = employeeMapper.query(query);
+
+        // 検証 - Brown, Doe, Johnson
+        assertThat(result).extracting(Employee::getEmployeeId).containsExactly(4, 1, 3);
+    }
+
+    @Test
+    @DisplayName("項目の絞り込み - 指定した列のみをSELECTし、他の項目はnullになること")
+    void testFindAllProjected() {
+        // メソッド実行
+        List<ProjectedEmployee> result = employeeMapper
+                .findAllProjected(EnumSet.of(EmployeeField.EMPLOYEE_ID, EmployeeField.EMAIL));
+
+        // 検証
+        assertThat(result).extracting(Employee::getEmployeeId).containsExactly(1, 2, 3, 4, 5);
+        assertThat(result.get(0).getEmail()).isEqualTo("john.doe@example.com");
+        assertThat(result.get(0).getFirstName()).isNull();
+        assertThat(result.get(0).getSalary()).isNull();
+    }
+
+    @Test
+    @DisplayName("項目の絞り込み - ページング・条件検索でも条件と並び順は変わらないこと")
+    void testProjected_PageAndQuery() {
+        // 準備
+        EmployeeQuery query = new EmployeeQuery();
+        query.setSort(EmployeeSort.LAST_NAME);
+        query.setLimit(3);
+        query.setFields(EnumSet.of(EmployeeField.EMPLOYEE_ID, EmployeeField.JOB_ID));
+
+        // メソッド実行
+        List<ProjectedEmployee> page = employeeMapper.findPageProjected(2, 2,
+                EnumSet.of(EmployeeField.EMPLOYEE_ID, EmployeeField.LAST_NAME));
+        List<ProjectedEmployee> queried = employeeMapper.queryProjected(query);
+
+        // 検証 - 並び順の列（LAST_NAME）はSELECTしなくても使えること
+        assertThat(page).extracting(Employee::getEmployeeId).containsExactly(3, 4);
+        assertThat(page.get(0).getLastName()).isNotNull();
+        assertThat(page.get(0).getEmail()).isNull();
+        assertThat(queried).extracting(Employee::getEmployeeId).containsExactly(4, 1, 3);
+        assertThat(queried.get(0).getJobId()).isNotNull();
+        assertThat(queried.get(0).getLastName()).isNull();
+    }
+
+    @Test
+    @DisplayName("推奨索引 - テスト用スキーマに作成され、代表的な条件で実行計画に使用されること")
+    void testQueryIndexes() throws Exception {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            // 検証 - 索引の列構成
+            List<String> columns = new ArrayList<>();
+            try (ResultSet rs = statement.executeQuery("SELECT INDEX_NAME, COLUMN_NAME"
+                    + " FROM INFORMATION_SCHEMA.INDEX_COLUMNS"
+                    + " WHERE TABLE_NAME = 'EMPLOYEES' AND INDEX_NAME LIKE 'IDX\\_EMPLOYEES\\_%'"
+                    + " ORDER BY INDEX_NAME, ORDINAL_POSITION")) {
+                while (rs.next()) {
+                    columns.add(rs.getString(1) + "." + rs.getString(2));
+                }
+            }
+            assertThat(columns).containsExactly(
+                    "IDX_EMPLOYEES_CHANGE_VERSION.CHANGE_VERSION",
+                    "IDX_EMPLOYEES_DEPT_SALARY.DEPARTMENT_ID", "IDX_EMPLOYEES_DEPT_SALARY.SALARY",
+                    "IDX_EMPLOYEES_DEPT_SALARY.EMPLOYEE_ID",
+                    "IDX_EMPLOYEES_JOB_SALARY.JOB_ID", "IDX_EMPLOYEES_JOB_SALARY.SALARY",
+                    "IDX_EMPLOYEES_JOB_SALARY.EMPLOYEE_ID",
+                    "IDX_EMPLOYEES_SALARY.SALARY", "IDX_EMPLOYEES_SALARY.EMPLOYEE_ID");
+
+            // 検証 - 実行計画
+            assertThat(explain(statement, "SELECT * FROM EMPLOYEES WHERE DEPARTMENT_ID = 10"))
+                    .contains("IDX_EMPLOYEES_DEPT_SALARY");
+            assertThat(explain(statement, "SELECT * FROM EMPLOYEES WHERE JOB_ID = 'IT_PROG'"))
+                    .contains("IDX_EMPLOYEES_JOB_SALARY");
+            assertThat(explain(statement, "SELECT * FROM EMPLOYEES WHERE SALARY BETWEEN 45000 AND 50000"))
+                    .contains("IDX_EMPLOYEES_SALARY");
+            assertThat(explain(statement, "SELECT * FROM EMPLOYEES WHERE CHANGE_VERSION > 3"))
+                    .contains("IDX_EMPLOYEES_CHANGE_VERSION");
+        }
+    }
+
+    @Test
+    @DisplayName("変更フィード - 登録・更新と削除を変更バージョン順に返すこと")
+    void testFindChangedSince() {
+        // メソッド実行
+        List<Employee> all = employeeMapper.findChangedSince(0, 10);
+        long third = all.get(2).getChangeVersion();
+        List<Employee> afterThird = employeeMapper.findChangedSince(third, 10);
+        List<EmployeeChange> deleted = employeeMapper.findDeletedSince(0, 10);
+
+        // 検証
+        assertThat(all).extracting(Employee::getEmployeeId).containsExactlyInAnyOrder(1, 2, 3, 4, 5);
+        assertThat(all).extracting(Employee::getChangeVersion).isSorted().doesNotHaveDuplicates();
+        assertThat(afterThird).containsExactlyElementsOf(all.subList(3, 5));
+        assertThat(employeeMapper.findChangedSince(0, 2)).hasSize(2);
+        assertThat(deleted).hasSize(1);
+        assertThat(deleted.get(0).getEmployeeId()).isEqualTo(6);
+        assertThat(deleted.get(0).isDeleted()).isTrue();
+        assertThat(deleted.get(0).getEmployee()).isNull();
+        assertThat(employeeMapper.findMaxChangeVersion()).isEqualTo(all.get(4).getChangeVersion());
+        assertThat(employeeMapper.findMaxDeletedVersion()).isEqualTo(deleted.get(0).getChangeVersion());
+    }
+
+    @Test
+    @DisplayName("表の変更状態 - 件数と変更バージョンの合計・最大値を返し、スナップショットから求めた値と一致すること")
+    void testFindTableState() {
+        // 準備
+        List<Employee> all = employeeMapper.findAll();
+
+        // メソッド実行
+        EmployeeTableState state = employeeMapper.findTableState();
+
+        // 検証
+        assertThat(state.getRowCount()).isEqualTo(5);
+        assertThat(state.getVersionSum()).isEqualTo(all.stream().mapToLong(Employee::getChangeVersion).sum());
+        assertThat(state.getMaxChangeVersion()).isEqualTo(employeeMapper.findMaxChangeVersion());
+        assertThat(EmployeeColumns.of(all).tableState()).isEqualTo(state);
+    }
+
+    @Test
+    @DisplayName("登録・更新 - 既存IDは更新して新しい変更バージョンを採番し、新規IDは登録すること")
+    void testUpsert() {
+        // 準備
+        long before = employeeMapper.findMaxChangeVersion();
+        Employee employee = employeeMapper.findById(1);
+        employee.setSalary(new BigDecimal("51000"));
+        Employee added = new Employee();
+        added.setEmployeeId(7);
+        added.setFirstName("Anna");
+        added.setLastName("Lee");
+        added.setEmail("anna.lee@example.com");
+        added.setJobId("IT_PROG");
+
+        // メソッド実行
+        employeeMapper.upsert(employee);
+        employeeMapper.upsert(added);
+
+        // 検証
+        List<Employee> changed = employeeMapper.findChangedSince(before, 10);
+        assertThat(changed).extracting(Employee::getEmployeeId).containsExactly(1, 7);
+        assertThat(changed.get(0).getSalary()).isEqualByComparingTo("51000");
+        assertThat(changed.get(1).getSalary()).isNull();
+        assertThat(changed.get(0).getChangeVersion()).isGreaterThan(before);
+    }
+
+    private static String explain(Statement statement, String sql) throws Exception {
+        try (ResultSet rs = statement.executeQuery("EXPLAIN " + sql)) {
+            rs.next();
+            return rs.getString(1);
+        }
+    }
+}
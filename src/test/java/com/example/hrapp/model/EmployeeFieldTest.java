@@ -0,0 +1,52 @@
+package com.example.hrapp.model;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.EnumSet;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/** EmployeeField・ProjectedEmployeeのテストクラス。 fieldsパラメータの解釈と、指定項目のみのJSON出力を検証します。 */
+class EmployeeFieldTest {
+
+    @Test
+    @DisplayName("fieldsの解釈 - キャメルケース・スネークケース・列名を受け付け、従業員IDを常に含むこと")
+    void testParse() {
+        // メソッド実行・検証
+        assertThat(EmployeeField.parse("email, phone_number,JOB_ID,departmentId,"))
+                .containsExactly(EmployeeField.EMPLOYEE_ID, EmployeeField.EMAIL, EmployeeField.PHONE_NUMBER,
+                        EmployeeField.JOB_ID, EmployeeField.DEPARTMENT_ID);
+        assertThat(EmployeeField.parse(null)).isNull();
+        assertThat(EmployeeField.parse(" ")).isNull();
+    }
+
+    @Test
+    @DisplayName("fieldsの解釈 - 許可していない項目は例外とすること")
+    void testParse_Unknown() {
+        // メソッド実行・検証
+        assertThatThrownBy(() -> EmployeeField.parse("email,EMAIL||'x'"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("EMAIL||'x'");
+    }
+
+    @Test
+    @DisplayName("項目を絞ったJSON - 指定項目のみを定義順に出力し、null値も出力すること")
+    void testProjectedJson() throws Exception {
+        // 準備
+        Employee employee = new Employee();
+        employee.setEmployeeId(1);
+        employee.setFirstName("John");
+        employee.setSalary(new BigDecimal("50000"));
+
+        // メソッド実行
+        String json = new ObjectMapper().writeValueAsString(ProjectedEmployee.of(employee,
+                EnumSet.of(EmployeeField.SALARY, EmployeeField.EMPLOYEE_ID, EmployeeField.EMAIL)));
+
+        // 検証
+        assertThat(json).isEqualTo("{\"employeeId\":1,\"email\":null,\"salary\":50000}");
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.hrapp.model;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+/** EmployeeJsonSerializerのテストクラス。 標準のBeanシリアライザーとバイト単位で同じ出力になることを検証します。 */
+class EmployeeJsonSerializerTest {
+
+    private List<Employee> employees;
+
+    @BeforeEach
+    void setUp() {
+        // テストデータの準備
+        Employee employee1 = new Employee();
+        employee1.setEmployeeId(1);
+        employee1.setFirstName("John");
+        employee1.setLastName("O\"Brien\\");
+        employee1.setEmail("john.doe@example.com");
+        employee1.setPhoneNumber("123-456-7890");
+        employee1.setJobId("IT_PROG");
+        employee1.setSalary(new BigDecimal("50000"));
+        employee1.setDepartmentId(10);
+        employee1.setChangeVersion(42L);
+
+        Employee employee2 = new Employee();
+        employee2.setEmployeeId(2);
+        employee2.setLastName("山田\t太郎");
+        employee2.setSalary(new BigDecimal("6000.50"));
+
+        Employee employee3 = new Employee();
+        employee3.setEmployeeId(3);
+        employee3.setSalary(new BigDecimal("1E+4"));
+
+        Employee employee4 = new Employee();
+        employee4.setEmployeeId(4);
+        employee4.setSalary(new BigDecimal("12345678901234567890"));
+
+        Employee employee5 = new Employee();
+        employee5.setEmployeeId(5);
+        employee5.setSalary(new BigDecimal("0.0000001"));
+
+        employees = Arrays.asList(employee1, employee2, employee3, employee4, employee5, null);
+    }
+
+    @Test
+    @DisplayName("JSON出力 - null値・エスケープ・給与の表記を含めて標準のシリアライザーと同じバイト列になること")
+    void testSerialize_Json() throws Exception {
+        // 準備
+        ObjectMapper standard = new ObjectMapper();
+        ObjectMapper direct = new ObjectMapper().registerModule(EmployeeJsonSerializer.module());
+
+        // メソッド実行・検証
+        assertThat(direct.writeValueAsBytes(employees)).isEqualTo(standard.writeValueAsBytes(employees));
+        assertThat(direct.writeValueAsString(employees.get(0)))
+                .isEqualTo(standard.writeValueAsString(employees.get(0)));
+        assertThat(direct.writer(SerializationFeature.INDENT_OUTPUT).writeValueAsString(employees))
+                .isEqualTo(standard.writer(SerializationFeature.INDENT_OUTPUT).writeValueAsString(employees));
+    }
+
+    @Test
+    @DisplayName("CBOR出力 - 給与の型を含めて標準のシリアライザーと同じバイト列になること")
+    void testSerialize_Cbor() throws Exception {
+        // 準備
+        ObjectMapper standard = new ObjectMapper(new CBORFactory());
+        ObjectMapper direct = new ObjectMapper(new CBORFactory()).registerModule(EmployeeJsonSerializer.module());
+
+        // メソッド実行・検証
+        assertThat(direct.writeValueAsBytes(employees)).isEqualTo(standard.writeValueAsBytes(employees));
+    }
+
+    @Test
+    @DisplayName("サブクラス - ProjectedEmployeeは指定項目のみの出力を維持すること")
+    void testSerialize_Projected() throws Exception {
+        // 準備
+        ObjectMapper direct = new ObjectMapper().registerModule(EmployeeJsonSerializer.module());
+
+        // メソッド実行
+        String json = direct.writeValueAsString(
+                ProjectedEmployee.of(employees.get(0), EnumSet.of(EmployeeField.EMPLOYEE_ID, EmployeeField.SALARY)));
+
+        // 検証
+        assertThat(json).isEqualTo("{\"employeeId\":1,\"salary\":50000}");
+    }
+}
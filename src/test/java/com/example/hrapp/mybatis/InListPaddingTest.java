@@ -0,0 +1,42 @@
+package com.example.hrapp.mybatis;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** InListPaddingのテストクラス。 INリストの要素数を段階にそろえることを検証します。 */
+class InListPaddingTest {
+
+    @Test
+    @DisplayName("段階 - 要素数以上の最小の段階を返し、最大の段階を超える場合はそのまま返すこと")
+    void testBucket() {
+        // メソッド実行・検証
+        assertThat(InListPadding.bucket(1)).isEqualTo(1);
+        assertThat(InListPadding.bucket(2)).isEqualTo(4);
+        assertThat(InListPadding.bucket(4)).isEqualTo(4);
+        assertThat(InListPadding.bucket(17)).isEqualTo(64);
+        assertThat(InListPadding.bucket(257)).isEqualTo(1000);
+        assertThat(InListPadding.bucket(1000)).isEqualTo(1000);
+        assertThat(InListPadding.bucket(1001)).isEqualTo(1001);
+    }
+
+    @Test
+    @DisplayName("埋め込み - 最後の値を繰り返して段階の要素数にし、元のリストは変更しないこと")
+    void testPad() {
+        // 準備
+        List<Integer> ids = List.of(4, 999, 2);
+
+        // メソッド実行・検証
+        assertThat(InListPadding.pad(ids)).containsExactly(4, 999, 2, 2);
+        assertThat(ids).hasSize(3);
+        assertThat(InListPadding.pad(List.of("IT_PROG"))).containsExactly("IT_PROG");
+        assertThat(InListPadding.pad(Collections.<Integer>emptyList())).isEmpty();
+        assertThat(InListPadding.pad(null)).isNull();
+        assertThat(InListPadding.pad(IntStream.range(0, 300).boxed().toList())).hasSize(1000).endsWith(299);
+    }
+}
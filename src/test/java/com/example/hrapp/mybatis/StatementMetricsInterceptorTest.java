@@ -0,0 +1,131 @@
+package com.example.hrapp.mybatis;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.lang.reflect.InvocationTargetException;
+import java.time.Duration;
+import java.util.List;
+
+import org.apache.ibatis.builder.StaticSqlSource;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.session.Configuration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/** StatementMetricsInterceptorのテストクラス。 文ごとの実行時間・件数の記録と遅い文の判定を検証します。 */
+class StatementMetricsInterceptorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private Configuration configuration;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        configuration = new Configuration();
+    }
+
+    @Test
+    @DisplayName("計測 - 文ごとに実行時間と取得件数を記録すること")
+    void testIntercept_RecordsTimeAndRows() throws Throwable {
+        // 準備
+        StatementMetricsInterceptor interceptor = new StatementMetricsInterceptor(meterRegistry,
+                Duration.ofSeconds(10));
+        MappedStatement findAll = statement("com.example.hrapp.mapper.EmployeeMapper.findAll", SqlCommandType.SELECT);
+
+        // メソッド実行
+        Object result = interceptor.intercept(invocation(findAll, List.of("a", "b", "c")));
+        interceptor.intercept(invocation(findAll, List.of("a")));
+
+        // 検証
+        assertThat(result).isEqualTo(List.of("a", "b", "c"));
+        Timer timer = meterRegistry.get("hr.mybatis.statement")
+                .tag("statement", "EmployeeMapper.findAll")
+                .tag("command", "select")
+                .timer();
+        assertThat(timer.count()).isEqualTo(2);
+        assertThat(timer.takeSnapshot().histogramCounts()).isNotEmpty();
+        assertThat(meterRegistry.get("hr.mybatis.statement.rows").summary().totalAmount()).isEqualTo(4);
+        assertThat(meterRegistry.get("hr.mybatis.statement.rows").summary().max()).isEqualTo(3);
+        assertThat(meterRegistry.get("hr.mybatis.statement.slow").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("計測 - 更新件数を記録し、JDBCバッチ（負の戻り値）は件数を記録しないこと")
+    void testIntercept_UpdateRows() throws Throwable {
+        // 準備
+        StatementMetricsInterceptor interceptor = new StatementMetricsInterceptor(meterRegistry,
+                Duration.ofSeconds(10));
+        MappedStatement upsert = statement("com.example.hrapp.mapper.EmployeeMapper.upsert", SqlCommandType.UPDATE);
+
+        // メソッド実行
+        interceptor.intercept(invocation(upsert, 1));
+        interceptor.intercept(invocation(upsert, Integer.MIN_VALUE + 1002));
+
+        // 検証
+        assertThat(meterRegistry.get("hr.mybatis.statement").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("hr.mybatis.statement.rows").summary().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("遅い文 - しきい値以上の文を件数に数え、例外時も実行時間を記録すること")
+    void testIntercept_Slow() throws Throwable {
+        // 準備
+        StatementMetricsInterceptor interceptor = new StatementMetricsInterceptor(meterRegistry, Duration.ZERO);
+        MappedStatement findById = statement("com.example.hrapp.mapper.EmployeeMapper.findById",
+                SqlCommandType.SELECT);
+
+        // メソッド実行
+        interceptor.intercept(invocation(findById, List.of()));
+        assertThatThrownBy(() -> interceptor.intercept(invocation(findById, new IllegalStateException("boom"))))
+                .isInstanceOf(InvocationTargetException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+
+        // 検証
+        assertThat(meterRegistry.get("hr.mybatis.statement.slow").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("hr.mybatis.statement").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("hr.mybatis.statement.rows").summary().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("文の名前 - 文IDの末尾2要素（Mapper名.メソッド名）にすること")
+    void testShortName() {
+        // 検証
+        assertThat(StatementMetricsInterceptor.shortName("com.example.hrapp.mapper.EmployeeMapper.findById"))
+                .isEqualTo("EmployeeMapper.findById");
+        assertThat(StatementMetricsInterceptor.shortName("findById")).isEqualTo("findById");
+    }
+
+    private MappedStatement statement(String id, SqlCommandType commandType) {
+        return new MappedStatement.Builder(configuration, id,
+                new StaticSqlSource(configuration, "SELECT *\n    FROM employees"), commandType).build();
+    }
+
+    private Invocation invocation(MappedStatement statement, Object result) throws NoSuchMethodException {
+        return new Invocation(new FixedResultTarget(result),
+                FixedResultTarget.class.getMethod("execute", MappedStatement.class, Object.class),
+                new Object[] { statement, null });
+    }
+
+    /** 指定した結果を返す（例外の場合は送出する）呼び出し先 */
+    public static class FixedResultTarget {
+        private final Object result;
+
+        FixedResultTarget(Object result) {
+            this.result = result;
+        }
+
+        public Object execute(MappedStatement statement, Object parameter) {
+            if (result instanceof RuntimeException e) {
+                throw e;
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.hrapp.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/** EmployeeBulkReaderのテストクラス。 NDJSON・CSVの行単位の変換とエラー行の扱いを検証します。 */
+class EmployeeBulkReaderTest {
+
+    @Test
+    @DisplayName("NDJSON - 空行を読み飛ばし、変換できない行はエラー行として続行すること")
+    void testNdjson() {
+        // 準備
+        String body = """
+                {"employeeId":1,"firstName":"John","salary":50000.50}
+
+                {"employeeId":"abc"}
+                {"employeeId":2,"firstName":"Jane"}
+                """;
+
+        // メソッド実行
+        List<EmployeeBulkReader.Row> rows = readAll(EmployeeBulkReader.ndjson(stream(body), new ObjectMapper()));
+
+        // 検証
+        assertThat(rows).extracting(EmployeeBulkReader.Row::getLine).containsExactly(1L, 3L, 4L);
+        assertThat(rows.get(0).getEmployee().getSalary()).isEqualByComparingTo("50000.50");
+        assertThat(rows.get(1).getEmployee()).isNull();
+        assertThat(rows.get(1).getError()).isNotBlank();
+        assertThat(rows.get(2).getEmployee().getFirstName()).isEqualTo("Jane");
+    }
+
+    @Test
+    @DisplayName("CSV - ヘッダーの列名（大文字・アンダースコア形式も可）で項目を対応付け、空欄はnullにすること")
+    void testCsv() {
+        // 準備
+        String body = """
+                EMPLOYEE_ID,first_name,lastName,email,salary,departmentId
+                1,John,Doe,john.doe@example.com,50000,10
+                2,"Smith, Jr.",Smith,jane.smith@example.com,,
+                x,Bad,Row,bad@example.com,1,1
+                """;
+
+        // メソッド実行
+        List<EmployeeBulkReader.Row> rows = readAll(EmployeeBulkReader.csv(stream(body)));
+
+        // 検証 - 行番号はヘッダー行を含めて数える
+        assertThat(rows).extracting(EmployeeBulkReader.Row::getLine).containsExactly(2L, 3L, 4L);
+        assertThat(rows.get(0).getEmployee().getEmployeeId()).isEqualTo(1);
+        assertThat(rows.get(0).getEmployee().getDepartmentId()).isEqualTo(10);
+        assertThat(rows.get(1).getEmployee().getFirstName()).isEqualTo("Smith, Jr.");
+        assertThat(rows.get(1).getEmployee().getSalary()).isNull();
+        assertThat(rows.get(1).getEmployee().getDepartmentId()).isNull();
+        assertThat(rows.get(2).getError()).isNotBlank();
+    }
+
+    @Test
+    @DisplayName("CSV - 不明な列名やヘッダーなしの場合は例外")
+    void testCsv_InvalidHeader() {
+        // 検証
+        assertThatThrownBy(() -> EmployeeBulkReader.csv(stream("employeeId,password\n1,x\n")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("password");
+        assertThatThrownBy(() -> EmployeeBulkReader.csv(stream("")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<EmployeeBulkReader.Row> readAll(EmployeeBulkReader reader) {
+        List<EmployeeBulkReader.Row> rows = new ArrayList<>();
+        reader.forEachRemaining(rows::add);
+        return rows;
+    }
+}
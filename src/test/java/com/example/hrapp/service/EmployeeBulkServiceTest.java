@@ -0,0 +1,150 @@
+package com.example.hrapp.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import com.example.hrapp.model.EmployeeBulkResult;
+import com.example.hrapp.model.EmployeeGroupStats;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/** EmployeeBulkServiceのテストクラス。 H2に対してJDBCバッチによる一括登録・更新の結果と処理性能を検証します。 */
+@SpringBootTest(properties = {
+        "hr.bulk.chunk-size=1000",
+        "logging.level.com.example.hrapp.mapper=INFO"
+})
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@RecordApplicationEvents
+class EmployeeBulkServiceTest {
+
+    /** 生成する従業員IDの開始値（data.sql の行と重ならない値） */
+    private static final int FIRST_ID = 100_001;
+
+    private static final int ROWS = 20_000;
+
+    /** 生成した従業員の部署ID */
+    private static final int DEPARTMENT_ID = 900;
+
+    @Autowired
+    private EmployeeBulkService bulkService;
+
+    @Autowired
+    private EmployeeStatistics statistics;
+
+    @Autowired
+    private EmployeeChangeFeed changeFeed;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM employees WHERE employee_id >= ?", FIRST_ID);
+    }
+
+    @Test
+    @DisplayName("一括登録・更新 - エラー行があっても中断せず、残りの行をチャンク単位で登録・更新すること")
+    void testUpsert() {
+        // 準備（2万行 + 変換エラー・必須項目なし・メールアドレス重複の3行）
+        StringBuilder body = new StringBuilder();
+        for (int id = FIRST_ID; id < FIRST_ID + ROWS; id++) {
+            body.append(row(id, "bulk" + id + "@example.com", 40000)).append('\n');
+            if (id == FIRST_ID + 2500) {
+                body.append("{not json\n");
+                body.append("{\"employeeId\":130000}\n");
+                body.append(row(130001, "bulk" + FIRST_ID + "@example.com", 40000)).append('\n');
+            }
+        }
+
+        // メソッド実行
+        EmployeeBulkResult result = upsert(body.toString());
+
+        // 検証
+        assertThat(result.getTotalRows()).isEqualTo(ROWS + 3);
+        assertThat(result.getUpserted()).isEqualTo(ROWS);
+        assertThat(result.getFailed()).isEqualTo(3);
+        assertThat(result.getErrors()).extracting(EmployeeBulkResult.RowError::getEmployeeId)
+                .containsExactly(null, 130000, 130001);
+        assertThat(result.getChunks()).hasSize(21);
+        assertThat(result.getChunks()).filteredOn(EmployeeBulkResult.Chunk::isRetriedRowByRow).hasSize(1);
+        assertThat(countGenerated()).isEqualTo(ROWS);
+
+        // 検証 - 変更フィードが有効な場合は一括登録からは通知せず、変更フィードが変更バージョン付きで通知すること
+        assertThat(events.stream(EmployeeChangedEvent.class)).isEmpty();
+        changeFeed.poll();
+        assertThat(events.stream(EmployeeChangedEvent.class))
+                .allSatisfy(event -> assertThat(event.getCurrent().getChangeVersion()).isNotNull());
+
+        // 検証 - 集計は変更イベントで差分反映されていること
+        EmployeeGroupStats<Integer> department = statistics.byDepartment().stream()
+                .filter(stats -> Integer.valueOf(DEPARTMENT_ID).equals(stats.getKey()))
+                .findFirst()
+                .orElseThrow();
+        assertThat(department.getHeadcount()).isEqualTo(ROWS);
+
+        System.out.printf("[bulk] insert: %d rows, %d chunks, %d ms (%.0f rows/s)%n", result.getTotalRows(),
+                result.getChunks().size(), result.getElapsedMillis(), result.getRowsPerSecond());
+    }
+
+    @Test
+    @DisplayName("一括登録・更新 - 既存IDの行は更新されること")
+    void testUpsert_Update() {
+        // 準備
+        StringBuilder inserts = new StringBuilder();
+        StringBuilder updates = new StringBuilder();
+        for (int id = FIRST_ID; id < FIRST_ID + ROWS; id++) {
+            inserts.append(row(id, "bulk" + id + "@example.com", 40000)).append('\n');
+            updates.append(row(id, "bulk" + id + "@example.com", 45000)).append('\n');
+        }
+        upsert(inserts.toString());
+
+        // メソッド実行
+        EmployeeBulkResult result = upsert(updates.toString());
+
+        // 検証
+        assertThat(result.getUpserted()).isEqualTo(ROWS);
+        assertThat(result.getFailed()).isZero();
+        assertThat(countGenerated()).isEqualTo(ROWS);
+        assertThat(jdbcTemplate.queryForObject("SELECT salary FROM employees WHERE employee_id = ?",
+                BigDecimal.class, FIRST_ID)).isEqualByComparingTo("45000");
+
+        System.out.printf("[bulk] update: %d rows, %d chunks, %d ms (%.0f rows/s)%n", result.getTotalRows(),
+                result.getChunks().size(), result.getElapsedMillis(), result.getRowsPerSecond());
+    }
+
+    private EmployeeBulkResult upsert(String body) {
+        return bulkService.upsert(EmployeeBulkReader.ndjson(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), objectMapper));
+    }
+
+    private int countGenerated() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM employees WHERE employee_id >= ? AND employee_id < ?",
+                Integer.class, FIRST_ID, FIRST_ID + ROWS);
+    }
+
+    private static String row(int id, String email, int salary) {
+        return "{\"employeeId\":" + id + ",\"firstName\":\"Bulk\",\"lastName\":\"User" + id + "\",\"email\":\""
+                + email + "\",\"jobId\":\"IT_PROG\",\"salary\":" + salary + ",\"departmentId\":" + DEPARTMENT_ID
+                + "}";
+    }
+}
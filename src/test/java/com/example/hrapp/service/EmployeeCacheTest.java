@@ -0,0 +1,218 @@
+package com.example.hrapp.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.hrapp.config.HrProperties;
+import com.example.hrapp.mapper.EmployeeMapper;
+import com.example.hrapp.model.Employee;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/** EmployeeCacheのテストクラス。 キャッシュのヒット・ミス、ネガティブキャッシュ、同時ミスの集約を検証します。 */
+@ExtendWith(MockitoExtension.class)
+class EmployeeCacheTest {
+
+    @Mock
+    private EmployeeMapper employeeMapper;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private HrProperties properties;
+
+    private Employee employee1;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new HrProperties();
+
+        employee1 = new Employee();
+        employee1.setEmployeeId(1);
+        employee1.setFirstName("John");
+    }
+
+    @Test
+    @DisplayName("キャッシュヒット - 2回目はDB検索しないこと")
+    void testGet_Hit() {
+        // Mock設定
+        when(employeeMapper.findById(1)).thenReturn(employee1);
+        EmployeeCache cache = new EmployeeCache(employeeMapper, properties, meterRegistry);
+
+        // メソッド実行
+        cache.get(1);
+        Employee result = cache.get(1);
+
+        // 検証
+        assertThat(result).isEqualTo(employee1);
+        verify(employeeMapper, times(1)).findById(1);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("ネガティブキャッシュ - 存在しないIDも再検索しないこと")
+    void testGet_NegativeCache() {
+        // Mock設定
+        when(employeeMapper.findById(999)).thenReturn(null);
+        EmployeeCache cache = new EmployeeCache(employeeMapper, properties, meterRegistry);
+
+        // メソッド実行・検証
+        assertThat(cache.get(999)).isNull();
+        assertThat(cache.get(999)).isNull();
+        verify(employeeMapper, times(1)).findById(999);
+    }
+
+    @Test
+    @DisplayName("破棄 - invalidate後は再度DB検索すること")
+    void testInvalidate() {
+        // Mock設定
+        when(employeeMapper.findById(1)).thenReturn(employee1);
+        EmployeeCache cache = new EmployeeCache(employeeMapper, properties, meterRegistry);
+
+        // メソッド実行
+        cache.get(1);
+        cache.invalidate(1);
+        cache.get(1);
+
+        // 検証
+        verify(employeeMapper, times(2)).findById(1);
+    }
+
+    @Test
+    @DisplayName("無効化設定 - 毎回DB検索すること")
+    void testGet_Disabled() {
+        // Mock設定
+        when(employeeMapper.findById(1)).thenReturn(employee1);
+        properties.getCache().setEnabled(false);
+        EmployeeCache cache = new EmployeeCache(employeeMapper, properties, meterRegistry);
+
+        // メソッド実行
+        cache.get(1);
+        cache.get(1);
+
+        // 検証
+        verify(employeeMapper, times(2)).findById(1);
+    }
+
+    @Test
+    @DisplayName("同時ミス - 同一IDへの同時アクセスはDB検索1回にまとめること")
+    void testGet_ConcurrentMissesLoadOnce() throws Exception {
+        // Mock設定（ロード中に他スレッドが到着するよう待機させる）
+        CountDownLatch loading = new CountDownLatch(1);
+        when(employeeMapper.findById(1)).thenAnswer(invocation -> {
+            loading.await();
+            return employee1;
+        });
+        EmployeeCache cache = new EmployeeCache(employeeMapper, properties, meterRegistry);
+
+        // メソッド実行
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Employee>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> cache.get(1)));
+            }
+            Thread.sleep(100);
+            loading.countDown();
+
+            // 検証
+            for (Future<Employee> result : results) {
+                assertThat(result.get()).isEqualTo(employee1);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(employeeMapper, times(1)).findById(1);
+    }
+
+    @Test
+    @DisplayName("一括取得 - ミスしたIDのみチャンク単位で一括検索すること")
+    void testGetAll_LoadsMissesInChunks() {
+        // Mock設定
+        Employee employee2 = new Employee();
+        employee2.setEmployeeId(2);
+        Employee employee3 = new Employee();
+        employee3.setEmployeeId(3);
+        properties.getBatch().setChunkSize(2);
+        when(employeeMapper.findById(1)).thenReturn(employee1);
+        when(employeeMapper.findByIds(anyCollection())).thenAnswer(invocation -> {
+            List<Employee> found = new ArrayList<>();
+            for (Object id : invocation.getArgument(0, Collection.class)) {
+                if (Integer.valueOf(2).equals(id)) {
+                    found.add(employee2);
+                } else if (Integer.valueOf(3).equals(id)) {
+                    found.add(employee3);
+                }
+            }
+            return found;
+        });
+        EmployeeCache cache = new EmployeeCache(employeeMapper, properties, meterRegistry);
+        cache.get(1);
+
+        // メソッド実行（1はキャッシュ済み、2・3・4の3件を2件ずつ検索）
+        Map<Integer, Employee> result = cache.getAll(Arrays.asList(1, 2, 3, 4));
+        Map<Integer, Employee> again = cache.getAll(Arrays.asList(2, 4));
+
+        // 検証
+        assertThat(result).containsOnlyKeys(1, 2, 3);
+        assertThat(again).containsOnlyKeys(2);
+        verify(employeeMapper, times(2)).findByIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("一括取得 - チャンクサイズが0以下の設定でも1件ずつ検索して終了すること")
+    void testGetAll_NonPositiveChunkSize() {
+        // Mock設定
+        properties.getBatch().setChunkSize(0);
+        when(employeeMapper.findByIds(anyCollection())).thenReturn(List.of(employee1), List.of());
+        EmployeeCache cache = new EmployeeCache(employeeMapper, properties, meterRegistry);
+
+        // メソッド実行
+        Map<Integer, Employee> result = cache.getAll(Arrays.asList(1, 2));
+
+        // 検証
+        assertThat(result).containsOnlyKeys(1);
+        verify(employeeMapper, times(2)).findByIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("一括取得 - チャンクサイズが1000を超える設定でも1000件ずつ検索すること")
+    void testGetAll_ChunkSizeOverOracleLimit() {
+        // Mock設定
+        properties.getBatch().setChunkSize(5000);
+        when(employeeMapper.findByIds(anyCollection())).thenReturn(List.of());
+        EmployeeCache cache = new EmployeeCache(employeeMapper, properties, meterRegistry);
+        List<Integer> ids = new ArrayList<>();
+        for (int id = 1; id <= 2500; id++) {
+            ids.add(id);
+        }
+
+        // メソッド実行
+        Map<Integer, Employee> result = cache.getAll(ids);
+
+        // 検証（1000件・1000件・500件の3回）
+        assertThat(result).isEmpty();
+        verify(employeeMapper, times(3)).findByIds(anyCollection());
+        verify(employeeMapper, never()).findByIds(argThat(chunk -> chunk.size() > 1000));
+    }
+}
@@ -0,0 +1,268 @@
+package com.example.hrapp.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.hrapp.config.HrProperties;
+import com.example.hrapp.model.Employee;
+import com.example.hrapp.model.EmployeeChange;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/** EmployeeChangeBroadcasterのテストクラス。 変更の配信と、送信が追いつかない接続でのまとめ・破棄を検証します。 */
+class EmployeeChangeBroadcasterTest {
+
+    private HrProperties properties;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private EmployeeChangeBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        properties = new HrProperties();
+        properties.getStream().setMaxPending(3);
+        properties.getStream().setMaxSubscribers(2);
+        meterRegistry = new SimpleMeterRegistry();
+        broadcaster = new EmployeeChangeBroadcaster(properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    @Test
+    @DisplayName("変更配信 - 登録・更新・削除を変更順に送信すること")
+    void testOnEmployeeChanged_Sends() throws Exception {
+        // 準備
+        RecordingEmitter emitter = new RecordingEmitter(false);
+        broadcaster.register(emitter);
+
+        // メソッド実行
+        broadcaster.onEmployeeChanged(new EmployeeChangedEvent(1, employee(1, 11L)));
+        broadcaster.onEmployeeChanged(new EmployeeChangedEvent(2, null));
+
+        // 検証（送信タイミングにより1回または2回に分かれる）
+        List<EmployeeChange> received = new ArrayList<>();
+        while (received.size() < 2) {
+            List<Object> event = emitter.next();
+            assertThat(text(event)).contains("event:changes");
+            received.addAll(changes(event));
+        }
+        assertThat(received).extracting(EmployeeChange::getEmployeeId).containsExactly(1, 2);
+        assertThat(received.get(0).getChangeVersion()).isEqualTo(11L);
+        assertThat(received.get(0).isDeleted()).isFalse();
+        assertThat(received.get(1).isDeleted()).isTrue();
+        assertThat(received.get(1).getEmployee()).isNull();
+    }
+
+    @Test
+    @DisplayName("変更配信 - 送信中に同じIDが複数回変更された場合は最新の1件にまとめること")
+    void testOnEmployeeChanged_Coalesces() throws Exception {
+        // 準備（1回目の送信を止めておく）
+        RecordingEmitter emitter = new RecordingEmitter(true);
+        broadcaster.register(emitter);
+        broadcaster.onEmployeeChanged(new EmployeeChangedEvent(1, employee(1, 11L)));
+        emitter.awaitSending();
+
+        // メソッド実行
+        broadcaster.onEmployeeChanged(new EmployeeChangedEvent(1, employee(1, 12L)));
+        broadcaster.onEmployeeChanged(new EmployeeChangedEvent(2, employee(2, 13L)));
+        broadcaster.onEmployeeChanged(new EmployeeChangedEvent(1, employee(1, 14L)));
+        emitter.release();
+
+        // 検証
+        assertThat(changes(emitter.next())).extracting(EmployeeChange::getChangeVersion).containsExactly(11L);
+        assertThat(changes(emitter.next())).extracting(EmployeeChange::getChangeVersion).containsExactly(13L, 14L);
+        assertThat(meterRegistry.get("hr.stream.coalesced").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("変更配信 - 未送信分が上限を超えた場合は破棄してresetを送信すること")
+    void testOnEmployeeChanged_ResetsWhenOverflow() throws Exception {
+        // 準備（1回目の送信を止めておく）
+        RecordingEmitter emitter = new RecordingEmitter(true);
+        broadcaster.register(emitter);
+        broadcaster.onEmployeeChanged(new EmployeeChangedEvent(1, employee(1, 1L)));
+        emitter.awaitSending();
+
+        // メソッド実行（上限3件を超える4件）
+        for (int id = 2; id <= 5; id++) {
+            broadcaster.onEmployeeChanged(new EmployeeChangedEvent(id, employee(id, (long) id)));
+        }
+        emitter.release();
+
+        // 検証
+        assertThat(changes(emitter.next())).hasSize(1);
+        List<Object> reset = emitter.next();
+        assertThat(text(reset)).contains("event:reset");
+        assertThat(changes(reset)).isEmpty();
+        assertThat(emitter.sent.poll(200, TimeUnit.MILLISECONDS)).isNull();
+        assertThat(meterRegistry.get("hr.stream.resets").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("変更配信 - 送信に失敗した接続は登録解除すること")
+    void testOnEmployeeChanged_UnsubscribesOnError() throws Exception {
+        // 準備
+        SseEmitter emitter = new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+        broadcaster.register(emitter);
+
+        // メソッド実行
+        broadcaster.onEmployeeChanged(new EmployeeChangedEvent(1, employee(1, 1L)));
+
+        // 検証
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (broadcaster.getSubscriberCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(broadcaster.getSubscriberCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("購読開始 - 接続数が上限に達している場合はnull")
+    void testSubscribe_Full() {
+        // メソッド実行
+        SseEmitter first = broadcaster.subscribe();
+        SseEmitter second = broadcaster.subscribe();
+        SseEmitter third = broadcaster.subscribe();
+
+        // 検証
+        assertThat(first).isNotNull();
+        assertThat(second).isNotNull();
+        assertThat(third).isNull();
+        assertThat(meterRegistry.get("hr.stream.subscribers").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("購読開始 - 同時に接続されても接続数が上限を超えず、切断すると枠が空くこと")
+    void testSubscribe_Concurrent() throws Exception {
+        // 準備
+        int threads = 32;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<SseEmitter>> futures = new ArrayList<>();
+
+        // メソッド実行
+        try {
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return broadcaster.subscribe();
+                }));
+            }
+            start.countDown();
+            List<SseEmitter> accepted = new ArrayList<>();
+            for (Future<SseEmitter> future : futures) {
+                SseEmitter emitter = future.get(10, TimeUnit.SECONDS);
+                if (emitter != null) {
+                    accepted.add(emitter);
+                }
+            }
+
+            // 検証
+            assertThat(accepted).hasSize(2);
+            assertThat(broadcaster.getSubscriberCount()).isEqualTo(2);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // 検証 - 切断した分だけ再び接続できること
+        RecordingEmitter rejected = new RecordingEmitter(false);
+        assertThat(broadcaster.register(rejected)).isNull();
+        broadcaster.shutdown();
+        assertThat(broadcaster.getSubscriberCount()).isZero();
+        assertThat(broadcaster.subscribe()).isNotNull();
+    }
+
+    private static Employee employee(int id, Long changeVersion) {
+        Employee employee = new Employee();
+        employee.setEmployeeId(id);
+        employee.setChangeVersion(changeVersion);
+        return employee;
+    }
+
+    /** 1イベント分の送信データのうち、文字列部分（イベント名等）を連結して返す */
+    private static String text(List<Object> event) {
+        StringBuilder text = new StringBuilder();
+        for (Object data : event) {
+            if (data instanceof String value) {
+                text.append(value);
+            }
+        }
+        return text.toString();
+    }
+
+    /** 1イベント分の送信データのうち、変更リストを返す */
+    @SuppressWarnings("unchecked")
+    private static List<EmployeeChange> changes(List<Object> event) {
+        for (Object data : event) {
+            if (data instanceof List<?> list) {
+                return (List<EmployeeChange>) list;
+            }
+        }
+        return List.of();
+    }
+
+    /** 送信したイベントを記録する接続（1回目の送信を止めておくこともできる） */
+    private static class RecordingEmitter extends SseEmitter {
+        final BlockingQueue<List<Object>> sent = new LinkedBlockingQueue<>();
+
+        private final CountDownLatch sending = new CountDownLatch(1);
+
+        private final CountDownLatch released;
+
+        RecordingEmitter(boolean blockFirstSend) {
+            this.released = new CountDownLatch(blockFirstSend ? 1 : 0);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            sending.countDown();
+            try {
+                released.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            sent.add(builder.build().stream().map(DataWithMediaType::getData).toList());
+        }
+
+        void awaitSending() throws InterruptedException {
+            assertThat(sending.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        void release() {
+            released.countDown();
+        }
+
+        List<Object> next() throws InterruptedException {
+            List<Object> event = sent.poll(5, TimeUnit.SECONDS);
+            assertThat(event).as("sent event").isNotNull();
+            return event;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.hrapp.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.example.hrapp.config.HrProperties;
+import com.example.hrapp.model.Employee;
+import com.example.hrapp.model.EmployeeChange;
+import com.example.hrapp.model.EmployeeChangeSet;
+
+/** EmployeeChangeFeedのテストクラス。 変更フィードの読み込み位置の管理とイベント通知を検証します。 */
+@ExtendWith(MockitoExtension.class)
+class EmployeeChangeFeedTest {
+
+    @Mock
+    private EmployeeService employeeService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private HrProperties properties;
+
+    private EmployeeChangeFeed changeFeed;
+
+    @BeforeEach
+    void setUp() {
+        properties = new HrProperties();
+        properties.getChanges().setPollBatchSize(2);
+        properties.getChanges().setLagWindow(0);
+        changeFeed = new EmployeeChangeFeed(employeeService, eventPublisher, properties);
+    }
+
+    @Test
+    @DisplayName("変更フィード - 起動時の最新バージョン以降の変更を、続きがなくなるまで読み込んで通知すること")
+    void testPoll() {
+        // Mock設定
+        Employee employee = new Employee();
+        employee.setEmployeeId(1);
+        when(employeeService.getCurrentChangeVersion()).thenReturn(10L);
+        when(employeeService.readChanges(10L, 2)).thenReturn(new EmployeeChangeSet(
+                Arrays.asList(new EmployeeChange(1, 11L, false, employee), new EmployeeChange(2, 12L, true, null)),
+                12L, true));
+        when(employeeService.readChanges(12L, 2)).thenReturn(new EmployeeChangeSet(
+                Arrays.asList(new EmployeeChange(3, 13L, true, null)), 13L, false));
+
+        // メソッド実行
+        changeFeed.onApplicationReady();
+        changeFeed.poll();
+
+        // 検証
+        ArgumentCaptor<EmployeeChangedEvent> captor = ArgumentCaptor.forClass(EmployeeChangedEvent.class);
+        verify(eventPublisher, times(3)).publishEvent(captor.capture());
+        assertThat(captor.getAllValues()).extracting(EmployeeChangedEvent::getEmployeeId).containsExactly(1, 2, 3);
+        assertThat(captor.getAllValues()).extracting(EmployeeChangedEvent::isDeleted)
+                .containsExactly(false, true, true);
+        assertThat(captor.getAllValues().get(0).getCurrent()).isSameAs(employee);
+        assertThat(changeFeed.getLastVersion()).isEqualTo(13L);
+    }
+
+    @Test
+    @DisplayName("変更フィード - 採番順と異なる順に後からコミットされた小さいバージョンも、巻き戻した読み直しで1回だけ通知すること")
+    void testPoll_OutOfOrderCommit() {
+        // Mock設定（起動時点でバージョン9のトランザクションが未コミット、11は起動後にコミット、9はさらにその後にコミット）
+        properties.getChanges().setPollBatchSize(10);
+        properties.getChanges().setLagWindow(5);
+        Employee late = new Employee();
+        late.setEmployeeId(9);
+        Employee added = new Employee();
+        added.setEmployeeId(11);
+        EmployeeChange v8 = new EmployeeChange(8, 8L, false, new Employee());
+        EmployeeChange v9 = new EmployeeChange(9, 9L, false, late);
+        EmployeeChange v10 = new EmployeeChange(10, 10L, true, null);
+        EmployeeChange v11 = new EmployeeChange(11, 11L, false, added);
+        when(employeeService.getCurrentChangeVersion()).thenReturn(10L);
+        when(employeeService.readChanges(5L, 10)).thenReturn(
+                new EmployeeChangeSet(Arrays.asList(v8, v10), 10L, false),
+                new EmployeeChangeSet(Arrays.asList(v8, v10, v11), 11L, false));
+        when(employeeService.readChanges(6L, 10)).thenReturn(
+                new EmployeeChangeSet(Arrays.asList(v8, v9, v10, v11), 11L, false));
+
+        // メソッド実行
+        changeFeed.onApplicationReady();
+        changeFeed.poll();
+        changeFeed.poll();
+
+        // 検証 - 起動時点で読み込み済みの8・10は通知せず、11と後からコミットされた9をそれぞれ1回通知
+        ArgumentCaptor<EmployeeChangedEvent> captor = ArgumentCaptor.forClass(EmployeeChangedEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(captor.capture());
+        assertThat(captor.getAllValues()).extracting(EmployeeChangedEvent::getEmployeeId).containsExactly(11, 9);
+        assertThat(captor.getAllValues().get(1).getCurrent()).isSameAs(late);
+        assertThat(changeFeed.getLastVersion()).isEqualTo(11L);
+    }
+
+    @Test
+    @DisplayName("変更フィード - 変更がない場合は通知しないこと")
+    void testPoll_NoChanges() {
+        // Mock設定
+        when(employeeService.getCurrentChangeVersion()).thenReturn(10L);
+        when(employeeService.readChanges(10L, 2))
+                .thenReturn(new EmployeeChangeSet(Collections.emptyList(), 10L, false));
+
+        // メソッド実行
+        changeFeed.onApplicationReady();
+        changeFeed.poll();
+
+        // 検証
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+        assertThat(changeFeed.getLastVersion()).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("変更フィード - 無効の場合は読み込まないこと")
+    void testPoll_Disabled() {
+        // 準備
+        properties.getChanges().setPollEnabled(false);
+
+        // メソッド実行
+        changeFeed.onApplicationReady();
+        changeFeed.poll();
+
+        // 検証
+        verifyNoInteractions(employeeService, eventPublisher);
+    }
+}
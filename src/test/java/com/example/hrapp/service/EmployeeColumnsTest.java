@@ -0,0 +1,119 @@
+package com.example.hrapp.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.hrapp.model.Employee;
+
+/** EmployeeColumnsのテストクラス。 列形式で格納した従業員データが元の値（null・給与の表記を含む）のまま復元されることを検証します。 */
+class EmployeeColumnsTest {
+
+    private Employee employee1;
+    private Employee employee2;
+    private Employee employee3;
+
+    @BeforeEach
+    void setUp() {
+        // テストデータの準備
+        employee1 = new Employee();
+        employee1.setEmployeeId(100);
+        employee1.setFirstName("John");
+        employee1.setLastName("Doe");
+        employee1.setEmail("john.doe@example.com");
+        employee1.setPhoneNumber("123-456-7890");
+        employee1.setJobId("IT_PROG");
+        employee1.setSalary(new BigDecimal("50000.00"));
+        employee1.setDepartmentId(10);
+        employee1.setChangeVersion(5L);
+
+        employee2 = new Employee();
+        employee2.setEmployeeId(205);
+        employee2.setFirstName("太郎");
+        employee2.setLastName("山田");
+        employee2.setJobId("IT_PROG");
+        employee2.setSalary(new BigDecimal("1E+4"));
+
+        employee3 = new Employee();
+        employee3.setEmployeeId(310);
+        employee3.setLastName("Johnson");
+        employee3.setJobId("SA_REP");
+        employee3.setSalary(new BigDecimal("6000"));
+        employee3.setDepartmentId(0);
+    }
+
+    @Test
+    @DisplayName("復元 - null・給与のスケール・マルチバイト文字を含めて元の値と等しいこと")
+    void testRoundTrip() {
+        // メソッド実行
+        EmployeeColumns columns = EmployeeColumns.of(List.of(employee1, employee2, employee3));
+
+        // 検証
+        assertThat(columns.size()).isEqualTo(3);
+        assertThat(columns.toList()).containsExactly(employee1, employee2, employee3);
+        assertThat(columns.get(205)).isEqualTo(employee2);
+        assertThat(columns.get(100).getSalary().toPlainString()).isEqualTo("50000.00");
+        assertThat(columns.get(205).getSalary().scale()).isEqualTo(-4);
+        assertThat(columns.get(101)).isNull();
+        assertThat(columns.estimatedBytes()).isPositive();
+    }
+
+    @Test
+    @DisplayName("名前検索 - 名または姓の部分一致（LIKE '%name%'）と同じ結果をID順に返すこと")
+    void testSearch() {
+        // 準備
+        EmployeeColumns columns = EmployeeColumns.of(List.of(employee1, employee2, employee3));
+
+        // メソッド実行・検証
+        assertThat(columns.search("John")).containsExactly(employee1, employee3);
+        assertThat(columns.search("oe")).containsExactly(employee1);
+        assertThat(columns.search("田")).containsExactly(employee2);
+        assertThat(columns.search("john")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("構築 - 件数が初期容量を超えても全行を保持すること")
+    void testBuilder_Grows() {
+        // 準備
+        EmployeeColumns.Builder builder = EmployeeColumns.builder();
+        for (int id = 1; id <= 5000; id++) {
+            Employee employee = new Employee();
+            employee.setEmployeeId(id);
+            employee.setLastName("Name" + id);
+            builder.add(employee);
+        }
+
+        // メソッド実行
+        EmployeeColumns columns = builder.build();
+
+        // 検証
+        assertThat(columns.size()).isEqualTo(5000);
+        assertThat(columns.get(4321).getLastName()).isEqualTo("Name4321");
+        assertThat(columns.get(5001)).isNull();
+    }
+
+    @Test
+    @DisplayName("構築 - 従業員IDが昇順でない場合は例外とすること")
+    void testBuilder_NotAscending() {
+        // メソッド実行・検証
+        assertThatThrownBy(() -> EmployeeColumns.of(List.of(employee2, employee1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("構築 - longで表せない給与は例外とすること")
+    void testBuilder_UnsupportedSalary() {
+        // 準備
+        employee1.setSalary(new BigDecimal("12345678901234567890.5"));
+
+        // メソッド実行・検証
+        assertThatThrownBy(() -> EmployeeColumns.of(List.of(employee1)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("employeeId=100");
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.hrapp.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.hrapp.config.HrProperties;
+import com.example.hrapp.mapper.EmployeeMapper;
+import com.example.hrapp.model.Employee;
+
+/** EmployeeNameIndexのテストクラス。 索引検索の結果がLIKE '%name%' と一致することを検証します。 */
+@ExtendWith(MockitoExtension.class)
+class EmployeeNameIndexTest {
+
+    private static final String[] FIRST_NAMES = { "John", "Jane", "Mike", "Emily", "David", "Johnny", "Anna",
+            "Hannah", "Jo", null };
+
+    private static final String[] LAST_NAMES = { "Doe", "Smith", "Johnson", "Brown", "Wilson", "Anderson",
+            "Nakamura", "Ohno" };
+
+    @Mock
+    private EmployeeMapper employeeMapper;
+
+    private EmployeeNameIndex nameIndex;
+
+    private List<Employee> employees;
+
+    @BeforeEach
+    void setUp() {
+        // テストデータの準備（名・姓の組み合わせをランダムに生成）
+        Random random = new Random(42);
+        employees = new ArrayList<>();
+        for (int id = 1; id <= 500; id++) {
+            Employee employee = new Employee();
+            employee.setEmployeeId(id);
+            employee.setFirstName(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)]);
+            employee.setLastName(LAST_NAMES[random.nextInt(LAST_NAMES.length)]);
+            employees.add(employee);
+        }
+        // 索引はID順に並べるため、読み込み順を崩しておく
+        Collections.shuffle(employees, random);
+        when(employeeMapper.findAll()).thenReturn(employees);
+
+        nameIndex = new EmployeeNameIndex(employeeMapper, new HrProperties());
+        nameIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("索引検索 - LIKE '%name%' と同じ結果をID順で返すこと")
+    void testSearch_SameAsLike() {
+        for (String name : new String[] { "", "J", "Jo", "Joh", "John", "ohn", "son", "ann", "Ann", "nn",
+                "Nakamura", "xyz", "Johnson", "a" }) {
+            // 検証
+            assertThat(nameIndex.search(name)).as("name=%s", name).isEqualTo(like(name));
+        }
+    }
+
+    @Test
+    @DisplayName("一致度順 - 完全一致→前方一致→部分一致の順に並ぶこと")
+    void testRank() {
+        // メソッド実行
+        List<Employee> result = EmployeeNameIndex.rank(nameIndex.search("John"), "John");
+
+        // 検証
+        int lastScore = 0;
+        for (Employee employee : result) {
+            int score = "John".equals(employee.getFirstName()) ? 0
+                    : employee.getFirstName() != null && employee.getFirstName().startsWith("John")
+                            || employee.getLastName().startsWith("John") ? 1 : 2;
+            assertThat(score).isGreaterThanOrEqualTo(lastScore);
+            lastScore = score;
+        }
+        assertThat(result).hasSameSizeAs(like("John"));
+    }
+
+    @Test
+    @DisplayName("ワイルドカード判定 - %・_ を含む場合は索引対象外")
+    void testSupports() {
+        // 検証
+        assertThat(EmployeeNameIndex.supports("John")).isTrue();
+        assertThat(EmployeeNameIndex.supports("J%n")).isFalse();
+        assertThat(EmployeeNameIndex.supports("J_n")).isFalse();
+        assertThat(EmployeeNameIndex.supports(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("定期再構築 - 変更フィード有効時は変更イベントを受けた場合のみ再構築すること")
+    void testScheduledRefresh_OnlyWhenChanged() {
+        // メソッド実行（変更なし）
+        nameIndex.scheduledRefresh();
+
+        // 検証
+        verify(employeeMapper, times(1)).findAll();
+
+        // メソッド実行（変更あり）
+        nameIndex.onEmployeeChanged(new EmployeeChangedEvent(1, employees.get(0)));
+        nameIndex.scheduledRefresh();
+        nameIndex.scheduledRefresh();
+
+        // 検証
+        verify(employeeMapper, times(2)).findAll();
+    }
+
+    @Test
+    @DisplayName("変更イベント - 再構築を待たずに変更・追加・削除が検索結果に反映されること")
+    void testSearch_AfterChange() {
+        // 準備（従業員1を改名、"John"を含む従業員を1人削除、従業員501を追加）
+        Employee renamed = employee(employees.stream().filter(e -> e.getEmployeeId() == 1).findFirst().get());
+        renamed.setFirstName("Zebediah");
+        renamed.setLastName("Johnston");
+        Employee deleted = employees.stream().filter(e -> e.getEmployeeId() != 1 && "John".equals(e.getFirstName()))
+                .findFirst().get();
+        Employee added = new Employee();
+        added.setEmployeeId(501);
+        added.setFirstName("Annabel");
+        added.setLastName("Johns");
+
+        // メソッド実行
+        nameIndex.onEmployeeChanged(new EmployeeChangedEvent(1, renamed));
+        nameIndex.onEmployeeChanged(new EmployeeChangedEvent(deleted.getEmployeeId(), null));
+        nameIndex.onEmployeeChanged(new EmployeeChangedEvent(501, added));
+        employees.removeIf(e -> e.getEmployeeId() == 1 || e.getEmployeeId().equals(deleted.getEmployeeId()));
+        employees.add(renamed);
+        employees.add(added);
+
+        // 検証（再構築していないこと）
+        verify(employeeMapper, times(1)).findAll();
+        for (String name : new String[] { "John", "Johnst", "Zeb", "Ann", "Johns", "a", "ohn" }) {
+            assertThat(nameIndex.search(name)).as("name=%s", name).isEqualTo(like(name));
+        }
+    }
+
+    private static Employee employee(Employee source) {
+        Employee employee = new Employee();
+        employee.setEmployeeId(source.getEmployeeId());
+        employee.setFirstName(source.getFirstName());
+        employee.setLastName(source.getLastName());
+        return employee;
+    }
+
+    /** 比較用：SQLの first_name LIKE '%name%' OR last_name LIKE '%name%' ORDER BY employee_id と同じ判定 */
+    private List<Employee> like(String name) {
+        return employees.stream()
+                .filter(e -> (e.getFirstName() != null && e.getFirstName().contains(name))
+                        || (e.getLastName() != null && e.getLastName().contains(name)))
+                .sorted(Comparator.comparing(Employee::getEmployeeId))
+                .toList();
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.hrapp.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.hrapp.config.DataAccessConfig;
+import com.example.hrapp.config.HrProperties;
+import com.example.hrapp.mapper.EmployeeMapper;
+import com.example.hrapp.model.Employee;
+import com.zaxxer.hikari.HikariDataSource;
+
+/** EmployeeRangeReaderのテストクラス。 範囲の分割・ID順の連結と、同時実行数の制限を検証します。 */
+@ExtendWith(MockitoExtension.class)
+class EmployeeRangeReaderTest {
+
+    @Mock
+    private EmployeeMapper employeeMapper;
+
+    private HrProperties properties;
+
+    private EmployeeRangeReader reader;
+
+    @BeforeEach
+    void setUp() {
+        properties = new HrProperties();
+        properties.getParallelRead().setEnabled(true);
+        properties.getParallelRead().setParallelism(2);
+        properties.getParallelRead().setRangeSize(3);
+        reader = new EmployeeRangeReader(employeeMapper, properties, null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        reader.shutdown();
+    }
+
+    @Test
+    @DisplayName("並列読み込み - IDの範囲ごとに取得し、ID順に連結すること")
+    void testRead() throws Exception {
+        // Mock設定
+        CountDownLatch firstRangeStarted = new CountDownLatch(1);
+        when(employeeMapper.findMinEmployeeId()).thenReturn(1);
+        when(employeeMapper.findMaxEmployeeId()).thenReturn(8);
+        when(employeeMapper.findRange(1, 3)).thenAnswer(invocation -> {
+            // 後ろの範囲が先に完了しても、先頭の範囲から順に渡すこと
+            firstRangeStarted.await(5, TimeUnit.SECONDS);
+            return List.of(employee(1), employee(3));
+        });
+        when(employeeMapper.findRange(4, 6)).thenAnswer(invocation -> {
+            firstRangeStarted.countDown();
+            return List.of(employee(4), employee(5), employee(6));
+        });
+        when(employeeMapper.findRange(7, 8)).thenReturn(List.of(employee(8)));
+
+        // メソッド実行
+        List<Integer> ids = new ArrayList<>();
+        long count = reader.read(employee -> ids.add(employee.getEmployeeId()));
+
+        // 検証
+        assertThat(count).isEqualTo(6);
+        assertThat(ids).containsExactly(1, 3, 4, 5, 6, 8);
+        verify(employeeMapper, times(3)).findRange(anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("並列読み込み - 従業員が存在しない場合は範囲を読まないこと")
+    void testRead_Empty() {
+        // Mock設定
+        when(employeeMapper.findMinEmployeeId()).thenReturn(null);
+        when(employeeMapper.findMaxEmployeeId()).thenReturn(null);
+
+        // メソッド実行
+        List<Employee> result = reader.readAll();
+
+        // 検証
+        assertThat(result).isEmpty();
+        verify(employeeMapper, never()).findRange(anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("並列読み込み - 同時実行数をコネクションプールの最大サイズ-1以下に制限すること")
+    void testParallelism_BoundedByPool() {
+        // 準備
+        properties.getParallelRead().setParallelism(8);
+        try (HikariDataSource largePool = new HikariDataSource(); HikariDataSource smallPool = new HikariDataSource()) {
+            largePool.setMaximumPoolSize(4);
+            smallPool.setMaximumPoolSize(2);
+
+            // メソッド実行
+            EmployeeRangeReader large = new EmployeeRangeReader(employeeMapper, properties, largePool);
+            EmployeeRangeReader small = new EmployeeRangeReader(employeeMapper, properties, smallPool);
+
+            // 検証
+            assertThat(large.parallelism()).isEqualTo(3);
+            assertThat(large.isEnabled()).isTrue();
+            assertThat(small.parallelism()).isEqualTo(1);
+            assertThat(small.isEnabled()).isFalse();
+            large.shutdown();
+            small.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("並列読み込み - プールサイズを取得できない場合は既定の接続数の上限-1に制限すること")
+    void testParallelism_DefaultLimit() {
+        // 準備
+        properties.getParallelRead().setParallelism(100);
+
+        // メソッド実行・検証
+        assertThat(reader.parallelism()).isEqualTo(DataAccessConfig.DEFAULT_LIMIT - 1);
+    }
+
+    @Test
+    @DisplayName("並列読み込み - 同時に複数の読み込みがあっても、範囲のSQLの実行数の合計を上限以下にすること")
+    void testRead_SharedLimit() throws Exception {
+        // 準備（プールの最大サイズ3 → 範囲のSQLは全体で2つまで）
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        when(employeeMapper.findMinEmployeeId()).thenReturn(1);
+        when(employeeMapper.findMaxEmployeeId()).thenReturn(12);
+        when(employeeMapper.findRange(anyInt(), anyInt())).thenAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            running.decrementAndGet();
+            return List.of(employee(invocation.getArgument(0)));
+        });
+        ExecutorService callers = Executors.newFixedThreadPool(3);
+        try (HikariDataSource pool = new HikariDataSource()) {
+            pool.setMaximumPoolSize(3);
+            EmployeeRangeReader shared = new EmployeeRangeReader(employeeMapper, properties, pool);
+
+            // メソッド実行 - 3つの読み込み（それぞれ同時実行数2）を同時に実行
+            List<Future<Long>> results = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                results.add(callers.submit(() -> shared.read(employee -> {
+                })));
+            }
+
+            // 検証
+            for (Future<Long> result : results) {
+                assertThat(result.get(10, TimeUnit.SECONDS)).isEqualTo(4);
+            }
+            assertThat(maxRunning.get()).isLessThanOrEqualTo(2);
+            shared.shutdown();
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    private static Employee employee(int id) {
+        Employee employee = new Employee();
+        employee.setEmployeeId(id);
+        return employee;
+    }
+}
@@ -1,23 +1,40 @@
 package com.example.hrapp.service;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
 
+import com.example.hrapp.config.HrProperties;
 import com.example.hrapp.mapper.EmployeeMapper;
 import com.example.hrapp.model.Employee;
+import com.example.hrapp.model.EmployeeBatchResult;
+import com.example.hrapp.model.EmployeeChange;
+import com.example.hrapp.model.EmployeeChangeSet;
+import com.example.hrapp.model.EmployeeField;
+import com.example.hrapp.model.EmployeePage;
+import com.example.hrapp.model.EmployeeQuery;
+import com.example.hrapp.model.ProjectedEmployee;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 /** EmployeeServiceのテストクラス。 Mockitoを使用してMapperの依存関係をモックします。 */
 @ExtendWith(MockitoExtension.class)
@@ -26,7 +43,12 @@ class EmployeeServiceTest {
     @Mock
     private EmployeeMapper employeeMapper;
 
-    @InjectMocks
+    private EmployeeNameIndex nameIndex;
+
+    private EmployeeSnapshot snapshot;
+
+    private HrProperties properties;
+
     private EmployeeService employeeService;
 
     private Employee employee1;
@@ -35,6 +57,15 @@ class EmployeeServiceTest {
 
     @BeforeEach
     void setUp() {
+        properties = new HrProperties();
+        nameIndex = new EmployeeNameIndex(employeeMapper, properties);
+        snapshot = new EmployeeSnapshot(employeeMapper, TransactionOperations.withoutTransaction(), properties,
+                new SimpleMeterRegistry());
+        employeeService = new EmployeeService(employeeMapper,
+                new EmployeeCache(employeeMapper, properties, new SimpleMeterRegistry()), nameIndex, snapshot,
+                new EmployeeRangeReader(employeeMapper, properties, null), properties,
+                TransactionOperations.withoutTransaction());
+
         // テストデータの準備
         employee1 = new Employee();
         employee1.setEmployeeId(1);
@@ -192,4 +223,305 @@ class EmployeeServiceTest {
     assertThat(result).isNotNull().hasSize(1);
     assertThat(result.get(0).getFirstName()).isEqualTo("John");
   }
+
+    @Test
+    @DisplayName("ページング取得 - 次ページありの場合")
+    void testGetPage_HasNext() {
+        // Mock設定（1件多く返して次ページありを示す）
+        when(employeeMapper.findPage(null, 2)).thenReturn(employeeList);
+
+        // メソッド実行
+        EmployeePage result = employeeService.getPage(null, 1);
+
+        // 検証
+        assertThat(result.getItems()).hasSize(1);
+        assertThat(result.getItems().get(0).getEmployeeId()).isEqualTo(1);
+        assertThat(result.getNextCursor()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("ページング取得 - 最終ページの場合")
+    void testGetPage_LastPage() {
+        // Mock設定
+        when(employeeMapper.findPage(1, 11)).thenReturn(Arrays.asList(employee2));
+
+        // メソッド実行
+        EmployeePage result = employeeService.getPage(1, 10);
+
+        // 検証
+        assertThat(result.getItems()).containsExactly(employee2);
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("全件エクスポート - Cursorの全行を処理してクローズすること")
+    @SuppressWarnings("unchecked")
+    void testExportAll_Success() throws Exception {
+        // Mock設定
+        Cursor<Employee> cursor = mock(Cursor.class);
+        when(cursor.iterator()).thenReturn(employeeList.iterator());
+        when(employeeMapper.findAllCursor()).thenReturn(cursor);
+
+        // メソッド実行
+        List<Employee> exported = new ArrayList<>();
+        long count = employeeService.exportAll(exported::add);
+
+        // 検証
+        assertThat(count).isEqualTo(2);
+        assertThat(exported).containsExactly(employee1, employee2);
+        verify(cursor).close();
+    }
+
+    @Test
+    @DisplayName("ID指定従業員取得 - 2回目以降はキャッシュから返すこと")
+    void testGetById_Cached() {
+        // Mock設定
+        when(employeeMapper.findById(1)).thenReturn(employee1);
+
+        // メソッド実行
+        Employee first = employeeService.getById(1);
+        Employee second = employeeService.getById(1);
+
+        // 検証
+        assertThat(first).isEqualTo(employee1);
+        assertThat(second).isSameAs(first);
+        verify(employeeMapper, times(1)).findById(1);
+    }
+
+    @Test
+    @DisplayName("スナップショット - 構築後は全件取得・ID検索・名前検索をDBにアクセスせずに返すこと")
+    @SuppressWarnings("unchecked")
+    void testSnapshot_ServesReads() throws Exception {
+        // Mock設定
+        Cursor<Employee> cursor = mock(Cursor.class);
+        when(cursor.iterator()).thenReturn(employeeList.iterator());
+        when(employeeMapper.findAllCursor()).thenReturn(cursor);
+        snapshot.rebuild();
+
+        // メソッド実行
+        List<Employee> all = employeeService.getAll();
+        Employee found = employeeService.getById(2);
+        List<Employee> byName = employeeService.getByName("Smi");
+
+        // 検証
+        assertThat(all).containsExactly(employee1, employee2);
+        assertThat(found).isEqualTo(employee2);
+        assertThat(byName).containsExactly(employee2);
+        assertThat(employeeService.getById(3)).isNull();
+        verify(employeeMapper).findAllCursor();
+        verifyNoMoreInteractions(employeeMapper);
+        verify(cursor).close();
+    }
+
+    @Test
+    @DisplayName("スナップショット - 項目指定の全件取得もETagと同じスナップショットから返すこと")
+    @SuppressWarnings("unchecked")
+    void testSnapshot_ServesProjectedGetAll() throws Exception {
+        // Mock設定
+        Cursor<Employee> cursor = mock(Cursor.class);
+        when(cursor.iterator()).thenReturn(employeeList.iterator());
+        when(employeeMapper.findAllCursor()).thenReturn(cursor);
+        snapshot.rebuild();
+
+        // メソッド実行
+        List<Employee> result = employeeService.getAll(EnumSet.of(EmployeeField.EMAIL));
+
+        // 検証
+        assertThat(result).hasSize(2).hasOnlyElementsOfType(ProjectedEmployee.class);
+        assertThat(result).extracting(Employee::getEmployeeId).containsExactly(1, 2);
+        assertThat(result).extracting(Employee::getEmail).containsExactly("john.doe@example.com",
+                "jane.smith@example.com");
+        assertThat(result).extracting(Employee::getFirstName).containsOnlyNulls();
+        assertThat(employeeService.getTableState()).isEqualTo(snapshot.current().tableState());
+        verify(employeeMapper).findAllCursor();
+        verifyNoMoreInteractions(employeeMapper);
+    }
+
+    @Test
+    @DisplayName("名前検索 - 索引構築後は索引から検索すること")
+    void testGetByName_UsesIndex() {
+        // Mock設定
+        when(employeeMapper.findAll()).thenReturn(employeeList);
+        nameIndex.rebuild();
+
+        // メソッド実行
+        List<Employee> result = employeeService.getByName("Smi");
+
+        // 検証
+        assertThat(result).containsExactly(employee2);
+        verify(employeeMapper, never()).selectByName(anyString());
+    }
+
+    @Test
+    @DisplayName("名前検索 - ワイルドカードを含む場合はSQLで検索すること")
+    void testGetByName_WildcardFallsBackToSql() {
+        // Mock設定
+        when(employeeMapper.findAll()).thenReturn(employeeList);
+        when(employeeMapper.selectByName("J_n")).thenReturn(Arrays.asList(employee2));
+        nameIndex.rebuild();
+
+        // メソッド実行
+        List<Employee> result = employeeService.getByName("J_n");
+
+        // 検証
+        assertThat(result).containsExactly(employee2);
+    }
+
+    @Test
+    @DisplayName("名前検索 - 同じ文字列のSQL検索が実行中の場合は、その結果を共有してSQLを1回だけ実行すること")
+    void testGetByName_CoalescesInFlightQuery() throws Exception {
+        // Mock設定
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(employeeMapper.selectByName("J_n")).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Arrays.asList(employee2);
+        });
+
+        // メソッド実行
+        CompletableFuture<List<Employee>> first = CompletableFuture.supplyAsync(() -> employeeService.getByName("J_n"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<List<Employee>> second = new CompletableFuture<>();
+        Thread waiter = new Thread(() -> second.complete(employeeService.getByName("J_n")));
+        waiter.start();
+        // 2件目が実行中のSQLの完了待ちに入ってから、SQLを完了させる
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (waiter.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        release.countDown();
+
+        // 検証
+        assertThat(first.get(5, TimeUnit.SECONDS)).containsExactly(employee2);
+        assertThat(second.get(5, TimeUnit.SECONDS)).containsExactly(employee2);
+        verify(employeeMapper, times(1)).selectByName("J_n");
+
+        // 完了後の検索は新たにSQLを実行すること
+        employeeService.getByName("J_n");
+        verify(employeeMapper, times(2)).selectByName("J_n");
+    }
+
+    @Test
+    @DisplayName("名前検索 - 実行中のSQLがErrorで失敗した場合も、結果を待っている検索に同じErrorを返すこと")
+    void testGetByName_CoalescedQueryError() throws Exception {
+        // Mock設定
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        StackOverflowError error = new StackOverflowError("selectByName");
+        when(employeeMapper.selectByName("J_n")).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            throw error;
+        });
+
+        // メソッド実行
+        CompletableFuture<List<Employee>> first = CompletableFuture.supplyAsync(() -> employeeService.getByName("J_n"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Throwable> second = new CompletableFuture<>();
+        Thread waiter = new Thread(() -> {
+            try {
+                employeeService.getByName("J_n");
+                second.complete(null);
+            } catch (Throwable e) {
+                second.complete(e);
+            }
+        });
+        waiter.start();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (waiter.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        release.countDown();
+
+        // 検証
+        assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS)).hasCause(error);
+        assertThat(second.get(5, TimeUnit.SECONDS)).isSameAs(error);
+        verify(employeeMapper, times(1)).selectByName("J_n");
+    }
+
+    @Test
+    @DisplayName("名前検索 - 一致度順・件数指定の場合")
+    void testGetByName_RankedWithLimit() {
+        // Mock設定
+        when(employeeMapper.findAll()).thenReturn(employeeList);
+        nameIndex.rebuild();
+
+        // メソッド実行（"J"はJohn・Janeの両方に前方一致するため、ID順で先のJohnが残る）
+        List<Employee> result = employeeService.getByName("J", true, 1);
+
+        // 検証
+        assertThat(result).containsExactly(employee1);
+    }
+
+    @Test
+    @DisplayName("ID一括取得 - リクエスト順で返し、存在しないIDを報告すること")
+    void testGetByIds_RequestOrderWithMissing() {
+        // Mock設定（DBはID順で返す）
+        when(employeeMapper.findByIds(anyCollection())).thenReturn(employeeList);
+
+        // メソッド実行
+        EmployeeBatchResult result = employeeService.getByIds(Arrays.asList(2, 999, 1));
+
+        // 検証
+        assertThat(result.getEmployees()).containsExactly(employee2, employee1);
+        assertThat(result.getMissingIds()).containsExactly(999);
+        verify(employeeMapper, times(1)).findByIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("条件検索 - 最大件数を上限に丸めてMapperに渡すこと")
+    void testQuery_ClampsLimit() {
+        // Mock設定
+        when(employeeMapper.query(any(EmployeeQuery.class))).thenReturn(employeeList);
+
+        // メソッド実行
+        EmployeeQuery query = new EmployeeQuery();
+        query.setLimit(EmployeeService.MAX_PAGE_SIZE + 1);
+        List<Employee> result = employeeService.query(query);
+
+        // 検証
+        assertThat(result).isEqualTo(employeeList);
+        assertThat(query.getLimit()).isEqualTo(EmployeeService.MAX_PAGE_SIZE);
+        verify(employeeMapper, times(1)).query(query);
+    }
+
+    @Test
+    @DisplayName("変更フィード - 登録・更新と削除を変更バージョン順に併合し、件数上限で続きがあることを返すこと")
+    void testGetChanges_MergesByVersion() {
+        // Mock設定（ID=1: version 11, ID=2: version 13, ID=9の削除: version 12）
+        properties.getChanges().setLagWindow(5);
+        employee1.setChangeVersion(11L);
+        employee2.setChangeVersion(13L);
+        when(employeeMapper.findChangedSince(10L, 3)).thenReturn(employeeList);
+        when(employeeMapper.findDeletedSince(10L, 3))
+                .thenReturn(Arrays.asList(new EmployeeChange(9, 12L, true, null)));
+
+        // メソッド実行
+        EmployeeChangeSet result = employeeService.getChanges(10L, 2);
+
+        // 検証
+        assertThat(result.getChanges()).extracting(EmployeeChange::getEmployeeId).containsExactly(1, 9);
+        assertThat(result.getChanges()).extracting(EmployeeChange::isDeleted).containsExactly(false, true);
+        assertThat(result.getChanges().get(0).getEmployee()).isEqualTo(employee1);
+        assertThat(result.getNextSince()).isEqualTo(12L);
+        assertThat(result.isHasMore()).isTrue();
+        assertThat(result.getRereadSince()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("変更フィード - 変更がない場合は同じ取得開始位置を返すこと")
+    void testGetChanges_NoChanges() {
+        // Mock設定
+        when(employeeMapper.findChangedSince(20L, 1001)).thenReturn(Collections.emptyList());
+        when(employeeMapper.findDeletedSince(20L, 1001)).thenReturn(Collections.emptyList());
+
+        // メソッド実行
+        EmployeeChangeSet result = employeeService.getChanges(20L, 1000);
+
+        // 検証
+        assertThat(result.getChanges()).isEmpty();
+        assertThat(result.getNextSince()).isEqualTo(20L);
+        assertThat(result.isHasMore()).isFalse();
+    }
 }
@@ -0,0 +1,153 @@
+package com.example.hrapp.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.hrapp.mapper.EmployeeMapper;
+import com.example.hrapp.model.Employee;
+import com.example.hrapp.model.EmployeeGroupStats;
+
+/** EmployeeStatisticsのテストクラス。 構築時の集計と、変更イベントによる差分反映を検証します。 */
+@ExtendWith(MockitoExtension.class)
+class EmployeeStatisticsTest {
+
+    @Mock
+    private EmployeeMapper employeeMapper;
+
+    private EmployeeStatistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        // テストデータの準備（data.sql と同じ5件）
+        List<Employee> employees = List.of(
+                employee(1, "IT_PROG", "50000", 10),
+                employee(2, "SA_REP", "45000", 20),
+                employee(3, "IT_PROG", "55000", 10),
+                employee(4, "HR_REP", "48000", 30),
+                employee(5, "SA_REP", "52000", 20));
+        when(employeeMapper.findAll()).thenReturn(employees);
+
+        statistics = new EmployeeStatistics(employeeMapper);
+        statistics.rebuild();
+    }
+
+    @Test
+    @DisplayName("部署別集計 - 人数・給与の合計・平均・最小・最大を部署ID順に返すこと")
+    void testByDepartment() {
+        // メソッド実行
+        List<EmployeeGroupStats<Integer>> result = statistics.byDepartment();
+
+        // 検証
+        assertThat(result).extracting(EmployeeGroupStats::getKey).containsExactly(10, 20, 30);
+        EmployeeGroupStats<Integer> dept10 = result.get(0);
+        assertThat(dept10.getHeadcount()).isEqualTo(2);
+        assertThat(dept10.getSalarySum()).isEqualByComparingTo("105000");
+        assertThat(dept10.getSalaryAvg()).isEqualByComparingTo("52500");
+        assertThat(dept10.getSalaryMin()).isEqualByComparingTo("50000");
+        assertThat(dept10.getSalaryMax()).isEqualByComparingTo("55000");
+        verify(employeeMapper, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("職種別集計 - 職種ID順に返すこと")
+    void testByJob() {
+        // メソッド実行
+        List<EmployeeGroupStats<String>> result = statistics.byJob();
+
+        // 検証
+        assertThat(result).extracting(EmployeeGroupStats::getKey).containsExactly("HR_REP", "IT_PROG", "SA_REP");
+        assertThat(result.get(2).getHeadcount()).isEqualTo(2);
+        assertThat(result.get(2).getSalarySum()).isEqualByComparingTo("97000");
+    }
+
+    @Test
+    @DisplayName("変更イベント - 部署異動・給与変更を差分で反映し、DBを再読み込みしないこと")
+    void testOnEmployeeChanged_Update() {
+        // メソッド実行（ID=3 を部署10→20、給与55000→60000 に変更）
+        statistics.onEmployeeChanged(new EmployeeChangedEvent(3, employee(3, "IT_PROG", "60000", 20)));
+
+        // 検証
+        List<EmployeeGroupStats<Integer>> result = statistics.byDepartment();
+        assertThat(result.get(0).getHeadcount()).isEqualTo(1);
+        assertThat(result.get(0).getSalaryMax()).isEqualByComparingTo("50000");
+        assertThat(result.get(1).getHeadcount()).isEqualTo(3);
+        assertThat(result.get(1).getSalarySum()).isEqualByComparingTo("157000");
+        assertThat(result.get(1).getSalaryMax()).isEqualByComparingTo("60000");
+        verify(employeeMapper, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("変更イベント - 削除で空になったグループは返さず、未設定の部署は末尾に集計すること")
+    void testOnEmployeeChanged_DeleteAndNullGroup() {
+        // メソッド実行
+        statistics.onEmployeeChanged(new EmployeeChangedEvent(4, null));
+        statistics.onEmployeeChanged(new EmployeeChangedEvent(6, employee(6, null, null, null)));
+
+        // 検証
+        List<EmployeeGroupStats<Integer>> result = statistics.byDepartment();
+        assertThat(result).extracting(EmployeeGroupStats::getKey).containsExactly(10, 20, null);
+        EmployeeGroupStats<Integer> unassigned = result.get(2);
+        assertThat(unassigned.getHeadcount()).isEqualTo(1);
+        assertThat(unassigned.getSalaryCount()).isZero();
+        assertThat(unassigned.getSalaryAvg()).isNull();
+        assertThat(statistics.byJob()).extracting(EmployeeGroupStats::getKey).doesNotContain("HR_REP");
+    }
+
+    @Test
+    @DisplayName("変更イベント - ランダムな変更を反映した結果が全件再集計と一致すること")
+    void testOnEmployeeChanged_MatchesRebuild() {
+        // 準備
+        Random random = new Random(7);
+        Map<Integer, Employee> current = new HashMap<>();
+        for (Employee employee : employeeMapper.findAll()) {
+            current.put(employee.getEmployeeId(), employee);
+        }
+
+        // メソッド実行（追加・更新・削除をランダムに反映）
+        for (int i = 0; i < 2000; i++) {
+            int id = 1 + random.nextInt(50);
+            if (random.nextInt(4) == 0) {
+                current.remove(id);
+                statistics.onEmployeeChanged(new EmployeeChangedEvent(id, null));
+            } else {
+                Employee employee = employee(id, "JOB_" + random.nextInt(5),
+                        random.nextInt(10) == 0 ? null : String.valueOf(30000 + random.nextInt(40) * 500),
+                        random.nextInt(10) == 0 ? null : 10 * (1 + random.nextInt(6)));
+                current.put(id, employee);
+                statistics.onEmployeeChanged(new EmployeeChangedEvent(id, employee));
+            }
+        }
+
+        // 検証
+        EmployeeStatistics expected = new EmployeeStatistics(employeeMapper);
+        when(employeeMapper.findAll()).thenReturn(new ArrayList<>(current.values()));
+        expected.rebuild();
+        assertThat(statistics.byDepartment()).usingRecursiveFieldByFieldElementComparator()
+                .isEqualTo(expected.byDepartment());
+        assertThat(statistics.byJob()).usingRecursiveFieldByFieldElementComparator()
+                .isEqualTo(expected.byJob());
+    }
+
+    private static Employee employee(int id, String jobId, String salary, Integer departmentId) {
+        Employee employee = new Employee();
+        employee.setEmployeeId(id);
+        employee.setJobId(jobId);
+        employee.setSalary(salary == null ? null : new BigDecimal(salary));
+        employee.setDepartmentId(departmentId);
+        return employee;
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.hrapp.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.hrapp.config.HrProperties;
+import com.example.hrapp.model.Employee;
+import com.example.hrapp.model.EmployeePage;
+
+/** EmployeeTableFragmentのテストクラス。 テーブル本体の描画と、変更イベントによるキャッシュの無効化を検証します。 */
+@ExtendWith(MockitoExtension.class)
+class EmployeeTableFragmentTest {
+
+    @Mock
+    private EmployeeService employeeService;
+
+    private EmployeeTableFragment fragment;
+
+    private Employee employee1;
+
+    private Employee employee2;
+
+    @BeforeEach
+    void setUp() {
+        // テストデータの準備
+        employee1 = new Employee();
+        employee1.setEmployeeId(1);
+        employee1.setFirstName("John");
+        employee1.setLastName("<O'Brien & Co>");
+        employee1.setEmail("john.doe@example.com");
+        employee1.setPhoneNumber("123-456-7890");
+        employee1.setSalary(new BigDecimal("6000.50"));
+        employee1.setDepartmentId(10);
+
+        employee2 = new Employee();
+        employee2.setEmployeeId(2);
+        employee2.setLastName("山田");
+        employee2.setSalary(new BigDecimal("1E+4"));
+
+        HrProperties properties = new HrProperties();
+        properties.getPage().setMaxRows(2);
+        fragment = new EmployeeTableFragment(employeeService, properties);
+    }
+
+    @Test
+    @DisplayName("描画 - 行をエスケープしてID順に描画し、描画前の変更バージョンと読み直しの開始位置を出力すること")
+    void testCurrent() {
+        // Mock設定
+        when(employeeService.getCurrentChangeVersion()).thenReturn(1042L);
+        when(employeeService.getPage(null, 2)).thenReturn(new EmployeePage(List.of(employee1, employee2), null));
+
+        // メソッド実行
+        EmployeeTableFragment.Fragment result = fragment.current();
+
+        // 検証
+        assertThat(result.getHtml())
+                .isEqualTo("<tbody id=\"tableBody\" data-change-version=\"1042\" data-reread-since=\"42\">\n"
+                        + "<tr data-employee-id=\"1\"><td>1</td><td>John</td><td>&lt;O&#39;Brien &amp; Co&gt;</td>"
+                        + "<td>john.doe@example.com</td><td>123-456-7890</td><td>6000.5</td><td>10</td></tr>\n"
+                        + "<tr data-employee-id=\"2\"><td>2</td><td></td><td>山田</td><td></td><td></td><td>10000</td>"
+                        + "<td></td></tr>\n"
+                        + "</tbody>");
+        assertThat(result.getRows()).isEqualTo(2);
+        assertThat(result.isTruncated()).isFalse();
+        assertThat(result.getEtag()).matches("\"[0-9a-f]{32}\"");
+    }
+
+    @Test
+    @DisplayName("描画 - 最大行数を超える場合は一部のみ描画したことを出力すること")
+    void testCurrent_Truncated() {
+        // Mock設定
+        when(employeeService.getCurrentChangeVersion()).thenReturn(0L);
+        when(employeeService.getPage(null, 2)).thenReturn(new EmployeePage(List.of(employee1, employee2), 2));
+
+        // メソッド実行
+        EmployeeTableFragment.Fragment result = fragment.current();
+
+        // 検証
+        assertThat(result.getHtml())
+                .startsWith("<tbody id=\"tableBody\" data-change-version=\"0\" data-reread-since=\"0\""
+                        + " data-truncated=\"true\">");
+        assertThat(result.isTruncated()).isTrue();
+    }
+
+    @Test
+    @DisplayName("キャッシュ - 変更がなければ描画し直さず、変更イベントを受けたら描画し直すこと")
+    void testCurrent_InvalidatedByChange() {
+        // Mock設定
+        when(employeeService.getCurrentChangeVersion()).thenReturn(1L, 2L);
+        when(employeeService.getPage(null, 2))
+                .thenReturn(new EmployeePage(List.of(employee1), null))
+                .thenReturn(new EmployeePage(List.of(employee1, employee2), null));
+
+        // メソッド実行・検証
+        EmployeeTableFragment.Fragment first = fragment.current();
+        assertThat(fragment.current()).isSameAs(first);
+        verify(employeeService, times(1)).getPage(null, 2);
+
+        fragment.onEmployeeChanged(new EmployeeChangedEvent(2, employee2));
+        EmployeeTableFragment.Fragment second = fragment.current();
+        assertThat(second.getRows()).isEqualTo(2);
+        assertThat(second.getEtag()).isNotEqualTo(first.getEtag());
+        assertThat(fragment.current()).isSameAs(second);
+        verify(employeeService, times(2)).getPage(null, 2);
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.hrapp.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.cursor.Cursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.hrapp.config.HrProperties;
+import com.example.hrapp.mapper.EmployeeMapper;
+import com.example.hrapp.model.Employee;
+import com.example.hrapp.model.ProjectedEmployee;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/** EmployeeWarmupのテストクラス。 各フェーズの実行内容と、失敗時も起動を止めないことを検証します。 */
+@ExtendWith(MockitoExtension.class)
+class EmployeeWarmupTest {
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private EmployeeMapper employeeMapper;
+
+    @Mock
+    private EmployeeCache employeeCache;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private Cursor<Employee> cursor;
+
+    @Mock
+    private Cursor<ProjectedEmployee> projectedCursor;
+
+    private MappingJackson2HttpMessageConverter jsonConverter;
+
+    private HrProperties properties;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private EmployeeWarmup warmup;
+
+    private List<Employee> employees;
+
+    @BeforeEach
+    void setUp() {
+        // テストデータの準備
+        Employee employee1 = new Employee();
+        employee1.setEmployeeId(1);
+        employee1.setLastName("Doe");
+        employee1.setSalary(new BigDecimal("50000"));
+        employee1.setDepartmentId(10);
+        Employee employee2 = new Employee();
+        employee2.setEmployeeId(2);
+        employee2.setLastName("Smith");
+        employees = Arrays.asList(employee1, employee2);
+
+        // Mock設定
+        when(employeeMapper.findPage(null, EmployeeWarmup.SAMPLE_ROWS)).thenReturn(employees);
+        when(employeeMapper.findAllCursor()).thenReturn(cursor);
+        when(employeeMapper.findAllCursorProjected(any())).thenReturn(projectedCursor);
+        when(cursor.iterator()).thenReturn(Collections.emptyIterator());
+        when(projectedCursor.iterator()).thenReturn(Collections.emptyIterator());
+
+        jsonConverter = spy(new MappingJackson2HttpMessageConverter());
+        properties = new HrProperties();
+        properties.getWarmup().setIterations(2);
+        meterRegistry = new SimpleMeterRegistry();
+        warmup = new EmployeeWarmup(dataSource, employeeMapper, employeeCache,
+                new TransactionTemplate(transactionManager),
+                new HttpMessageConverters(false, List.of(jsonConverter, new MappingJackson2CborHttpMessageConverter())),
+                properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("ウォームアップ - DB接続を確立して返却し、参照系の文とシリアライズを指定回数実行すること")
+    void testWarmUp() throws Exception {
+        // Mock設定
+        properties.getWarmup().setConnections(3);
+        when(dataSource.getConnection()).thenReturn(connection);
+
+        // メソッド実行
+        warmup.warmUp();
+
+        // 検証
+        verify(dataSource, times(3)).getConnection();
+        verify(connection, times(3)).close();
+        verify(employeeMapper, times(2)).findById(1);
+        verify(employeeMapper, times(2)).findByIds(List.of(1, 2));
+        verify(employeeMapper, times(2)).query(any());
+        verify(employeeMapper, times(2)).selectByName("Doe");
+        verify(cursor, times(2)).close();
+        verify(employeeMapper, never()).upsert(any());
+        verify(jsonConverter, atLeast(2)).write(eq(employees), any(), eq(MediaType.APPLICATION_JSON), any());
+        verifyNoInteractions(employeeCache);
+        assertThat(meterRegistry.get("hr.warmup").tag("phase", "connections").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("hr.warmup").tag("phase", "statements").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("hr.warmup").tag("phase", "serialization").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.find("hr.warmup").tag("phase", "cache").timer()).isNull();
+    }
+
+    @Test
+    @DisplayName("ウォームアップ - 事前読み込み件数を指定した場合はキャッシュに登録すること")
+    void testWarmUp_CachePrefill() throws Exception {
+        // Mock設定
+        properties.getWarmup().setCachePrefillSize(5);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(employeeMapper.findPage(null, 5)).thenReturn(employees);
+        when(employeeMapper.findPage(2, 3)).thenReturn(Collections.emptyList());
+
+        // メソッド実行
+        warmup.warmUp();
+
+        // 検証
+        verify(employeeCache).putAll(employees);
+        assertThat(meterRegistry.get("hr.warmup").tag("phase", "cache").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("ウォームアップ - フェーズが失敗しても例外を投げず、次のフェーズを実行すること")
+    void testWarmUp_ContinuesAfterFailure() throws Exception {
+        // Mock設定
+        when(dataSource.getConnection()).thenThrow(new SQLException("connection refused"));
+
+        // メソッド実行
+        assertThatCode(() -> warmup.warmUp()).doesNotThrowAnyException();
+
+        // 検証
+        verify(employeeMapper, times(2)).findPage(null, EmployeeWarmup.SAMPLE_ROWS);
+        verify(jsonConverter, atLeastOnce()).write(any(), any(), eq(MediaType.APPLICATION_JSON), any());
+    }
+}
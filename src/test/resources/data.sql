@@ -4,4 +4,7 @@ INSERT INTO employees (employee_id, first_name, last_name, email, phone_number,
 (2, 'Jane', 'Smith', 'jane.smith@example.com', '098-765-4321', 'SA_REP', 45000, 20),
 (3, 'Mike', 'Johnson', 'mike.johnson@example.com', '555-123-4567', 'IT_PROG', 55000, 10),
 (4, 'Emily', 'Brown', 'emily.brown@example.com', '555-987-6543', 'HR_REP', 48000, 30),
-(5, 'David', 'Wilson', 'david.wilson@example.com', '555-246-8135', 'SA_REP', 52000, 20);
\ No newline at end of file
+(5, 'David', 'Wilson', 'david.wilson@example.com', '555-246-8135', 'SA_REP', 52000, 20);
+
+-- 削除済み従業員（変更フィードの削除通知）
+INSERT INTO employee_deletions (change_version, employee_id) VALUES (NEXT VALUE FOR employee_change_seq, 6);
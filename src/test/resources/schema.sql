@@ -1,3 +1,6 @@
+-- 変更バージョンの採番用シーケンス（Oracleのトリガーの代わりに列の既定値で採番）
+CREATE SEQUENCE IF NOT EXISTS employee_change_seq;
+
 -- テスト用employeesテーブル作成
 CREATE TABLE IF NOT EXISTS employees (
     employee_id INTEGER PRIMARY KEY,
@@ -7,5 +10,20 @@ CREATE TABLE IF NOT EXISTS employees (
     phone_number VARCHAR(50),
     job_id VARCHAR(10) NOT NULL,
     salary DECIMAL(8,2),
-    department_id INTEGER
-);
\ No newline at end of file
+    department_id INTEGER,
+    change_version BIGINT DEFAULT NEXT VALUE FOR employee_change_seq NOT NULL
+);
+
+-- 削除された従業員の記録（変更フィード用）
+CREATE TABLE IF NOT EXISTS employee_deletions (
+    change_version BIGINT PRIMARY KEY,
+    employee_id INTEGER NOT NULL,
+    deleted_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL
+);
+
+-- 条件検索（EmployeeMapper.query）・変更フィード（EmployeeMapper.findChangedSince）用の索引（Oracleの推奨索引は document/mybatis/ 配下を参照）
+-- メールアドレスの前方一致はUNIQUE制約の索引で範囲検索する
+CREATE INDEX IF NOT EXISTS idx_employees_dept_salary ON employees (department_id, salary, employee_id);
+CREATE INDEX IF NOT EXISTS idx_employees_job_salary ON employees (job_id, salary, employee_id);
+CREATE INDEX IF NOT EXISTS idx_employees_salary ON employees (salary, employee_id);
+CREATE INDEX IF NOT EXISTS idx_employees_change_version ON employees (change_version);